@@ -17,6 +17,9 @@
 package org.apache.camel.component.bean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -64,6 +67,7 @@ import org.slf4j.LoggerFactory;
 
 import static org.apache.camel.util.ObjectHelper.asList;
 import static org.apache.camel.util.ObjectHelper.asString;
+import static org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType;
 
 /**
  * Information about a method to be used for invocation.
@@ -79,6 +83,12 @@ public class MethodInfo {
     private final boolean hasCustomAnnotation;
     private final boolean hasHandlerAnnotation;
     private final Expression parametersExpression;
+    private final Class<?>[] parameterTypes;
+    // the parameter types with primitive types as their wrapper types
+    private final Class<?>[] wrapperParameterTypes;
+    // the method handle to invoke the method, which is created on first invocation
+    private volatile MethodHandle methodHandle;
+    private volatile boolean methodHandleUnavailable;
     private ExchangePattern pattern = ExchangePattern.InOut;
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
@@ -122,6 +132,11 @@ public class MethodInfo {
         this.hasCustomAnnotation = hasCustomAnnotation;
         this.hasHandlerAnnotation = hasHandlerAnnotation;
         this.parametersExpression = createParametersExpression();
+        this.parameterTypes = method.getParameterTypes();
+        this.wrapperParameterTypes = new Class<?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            wrapperParameterTypes[i] = convertPrimitiveTypeToWrapperType(parameterTypes[i]);
+        }
 
         Map<Class<?>, Annotation> collectedMethodAnnotation = collectMethodAnnotations(type, method);
 
@@ -502,6 +517,18 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method) {
+            MethodHandle mh = getMethodHandle();
+            if (mh != null && isInvokableByMethodHandle(pojo, arguments)) {
+                try {
+                    return (Object) mh.invokeExact(pojo, arguments);
+                } catch (Throwable e) {
+                    // same as reflection, where the exception thrown by the method is wrapped
+                    throw new InvocationTargetException(e);
+                }
+            }
+        }
+
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -515,6 +542,58 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Gets the method handle to invoke the method, which is created on first invocation, so only the methods which are
+     * invoked are bound. The method handle is adapted to the generic type <tt>(Object, Object[])Object</tt>, where the
+     * arguments are spread to the parameters of the method.
+     *
+     * @return the method handle, or <tt>null</tt> if not possible to create, then reflection is used instead
+     */
+    private MethodHandle getMethodHandle() {
+        MethodHandle answer = methodHandle;
+        if (answer == null && !methodHandleUnavailable) {
+            try {
+                // same as reflection, which allows invoking methods that are not accessible by default
+                method.trySetAccessible();
+                answer = MethodHandles.lookup().unreflect(method).asFixedArity();
+                if (isStaticMethod()) {
+                    // ignore the pojo
+                    answer = MethodHandles.dropArguments(answer, 0, Object.class);
+                }
+                answer = answer.asSpreader(Object[].class, parameterTypes.length)
+                        .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+                methodHandle = answer;
+            } catch (Exception e) {
+                LOG.debug("Cannot create method handle for method: {} due to: {}. Reflection is used instead.", method,
+                        e.getMessage());
+                methodHandleUnavailable = true;
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Whether the method can be invoked by the method handle with the given pojo and arguments. The method handle does
+     * not convert the arguments the same way as reflection, such as widening primitive types, so otherwise reflection
+     * is used, which also reports invalid arguments the same way as before.
+     */
+    private boolean isInvokableByMethodHandle(Object pojo, Object[] arguments) {
+        if (!isStaticMethod() && !method.getDeclaringClass().isInstance(pojo)) {
+            return false;
+        }
+        int size = arguments != null ? arguments.length : 0;
+        if (size != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            Object arg = arguments[i];
+            if (arg == null ? parameterTypes[i].isPrimitive() : !wrapperParameterTypes[i].isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.csimple.joor;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Expression;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.language.simple.SimpleLanguage;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimpleCompileThresholdTest extends CamelTestSupport {
+
+    public SimpleCompileThresholdTest() {
+        testConfigurationBuilder.withJMX(true);
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(SimpleLanguage.COMPILE_THRESHOLD, "5");
+        return context;
+    }
+
+    @Test
+    public void testCompileHotExpressions() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        for (int i = 0; i < 10; i++) {
+            mock.message(i).header("greeting").isEqualTo("Hello " + (i + 10));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBodyAndHeader("direct:start", i, "name", "Hello");
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        assertEquals(5, simple.getCompileThreshold());
+        // the expressions are compiled in the background
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(2, simple.getCompiledCounter()));
+        assertEquals(0, simple.getCompileFailedCounter());
+
+        mock.reset();
+        mock.expectedBodiesReceived(10);
+        mock.message(0).header("greeting").isEqualTo("Hello 10");
+        template.sendBodyAndHeader("direct:start", 10, "name", "Hello");
+        MockEndpoint.assertIsSatisfied(context);
+        assertTrue(simple.getCompiledHits() > 0);
+
+        // the counters are available from JMX
+        MBeanServer mbeanServer = context.getManagementStrategy().getManagementAgent().getMBeanServer();
+        Set<ObjectName> names = mbeanServer.queryNames(
+                new ObjectName("org.apache.camel:context=" + context.getManagementName() + ",type=services,*"), null);
+        ObjectName on = names.stream().filter(n -> n.getKeyProperty("name").startsWith("SimpleLanguage")).findFirst()
+                .orElseThrow();
+        assertEquals(5, mbeanServer.getAttribute(on, "CompileThreshold"));
+        assertEquals(2L, mbeanServer.getAttribute(on, "CompiledCounter"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "CompileFailedCounter"));
+    }
+
+    @Test
+    public void testToStringNotChangedByCompilation() {
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        Expression exp = simple.createExpression("Hello ${body}");
+        exp.init(context);
+        String text = exp.toString();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Hello World", exp.evaluate(createExchangeWithBody("World"), String.class));
+        }
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(1, simple.getCompiledCounter()));
+        assertEquals("Hello World", exp.evaluate(createExchangeWithBody("World"), String.class));
+        assertEquals(text, exp.toString());
+    }
+
+    @Test
+    public void testFallbackWhenNotCompilable() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:upper");
+        mock.expectedMessageCount(10);
+        mock.allMessages().body().isEqualTo("HELLO WORLD");
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:upper", "Hello World");
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(1, simple.getCompileFailedCounter()));
+        assertEquals(0, simple.getCompiledCounter());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .filter(simple("${body} >= 10"))
+                        .setHeader("greeting", simple("${header.name} ${body}"))
+                        .to("mock:result");
+
+                // csimple does not support calling methods on the message body without its type
+                from("direct:upper")
+                        .transform(simple("${body.toUpperCase()}"))
+                        .to("mock:upper");
+            }
+        };
+    }
+
+}
@@ -41,6 +41,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.FileInputStreamCache;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -491,22 +492,28 @@ public class FileOperations implements GenericFileOperations<File> {
 
     private void writeFileByStream(InputStream in, File target) throws IOException {
         try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
-            LOG.debug("Using InputStream to write file: {}", target);
-            int size = endpoint.getBufferSize();
-            byte[] buffer = new byte[size];
-            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
-            int bytesRead;
-            while ((bytesRead = in.read(buffer)) != -1) {
-                if (bytesRead < size) {
-                    ((Buffer) byteBuffer).limit(bytesRead);
+            if (in instanceof FileInputStreamCache cache) {
+                // stream cache spooled to disk can be transferred directly from its file
+                LOG.debug("Using FileInputStreamCache to write file: {}", target);
+                cache.transferTo(out);
+            } else {
+                LOG.debug("Using InputStream to write file: {}", target);
+                int size = endpoint.getBufferSize();
+                byte[] buffer = new byte[size];
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+                int bytesRead;
+                while ((bytesRead = in.read(buffer)) != -1) {
+                    if (bytesRead < size) {
+                        ((Buffer) byteBuffer).limit(bytesRead);
+                    }
+                    out.write(byteBuffer);
+                    ((Buffer) byteBuffer).clear();
                 }
-                out.write(byteBuffer);
-                ((Buffer) byteBuffer).clear();
             }
 
             boolean append = endpoint.getFileExist() == GenericFileExist.Append;
             if (append && endpoint.getAppendChars() != null) {
-                byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
+                ByteBuffer byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
                 out.write(byteBuffer);
                 Buffer buf = byteBuffer;
                 buf.clear();
@@ -35,6 +35,7 @@ import org.apache.camel.component.jms.JmsEndpoint;
 import org.apache.camel.component.jms.JmsMessage;
 import org.apache.camel.component.jms.JmsMessageHelper;
 import org.apache.camel.component.jms.MessageListenerContainerFactory;
+import org.apache.camel.support.DefaultTimeoutMap;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -268,6 +269,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         log.trace("Using timeout checker interval with {} millis", endpoint.getRequestTimeoutCheckerInterval());
         correlation = new CorrelationTimeoutMap(
                 scheduledExecutorService, endpoint.getRequestTimeoutCheckerInterval(), executorService);
+        correlation.setTimingWheel(DefaultTimeoutMap.isTimingWheelEnabled(camelContext));
         ServiceHelper.startService(correlation);
 
         // create JMS listener and start it
@@ -214,7 +214,7 @@ public class KnativeHttpConsumer extends DefaultConsumer {
 
     private void handleRequest(RoutingContext routingContext) {
         final HttpServerRequest request = routingContext.request();
-        final Exchange exchange = getEndpoint().createExchange();
+        final Exchange exchange = createExchange(false);
         final Message message = toMessage(request, exchange);
 
         Buffer payload = routingContext.body().buffer();
@@ -277,6 +277,7 @@ public class KnativeHttpConsumer extends DefaultConsumer {
                         }
                     } finally {
                         doneUoW(exchange);
+                        releaseExchange(exchange, false);
                     }
                 });
     }
@@ -66,10 +66,16 @@ public class LumberjackConsumer extends DefaultConsumer {
 
     private void onMessageReceived(Object payload, LumberjackMessageProcessor.Callback callback) {
         // Create the exchange
-        Exchange exchange = getEndpoint().createExchange();
+        Exchange exchange = createExchange(false);
         exchange.getIn().setBody(payload);
 
         // Process the exchange
-        getAsyncProcessor().process(exchange, doneSync -> callback.onComplete(!exchange.isFailed()));
+        getAsyncProcessor().process(exchange, doneSync -> {
+            try {
+                callback.onComplete(!exchange.isFailed());
+            } finally {
+                releaseExchange(exchange, false);
+            }
+        });
     }
 }
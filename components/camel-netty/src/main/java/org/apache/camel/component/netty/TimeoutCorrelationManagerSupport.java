@@ -186,8 +186,11 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport
             stopWorkerPool = true;
         }
 
-        map = new DefaultTimeoutMap<>(scheduledExecutorService, timeoutChecker);
-        map.addListener(this::onEviction);
+        DefaultTimeoutMap<String, NettyCamelState> timeoutMap
+                = new DefaultTimeoutMap<>(scheduledExecutorService, timeoutChecker);
+        timeoutMap.setTimingWheel(DefaultTimeoutMap.isTimingWheelEnabled(camelContext));
+        timeoutMap.addListener(this::onEviction);
+        map = timeoutMap;
 
         ServiceHelper.startService(map);
     }
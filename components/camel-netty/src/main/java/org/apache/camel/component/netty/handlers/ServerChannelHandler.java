@@ -113,7 +113,7 @@ public class ServerChannelHandler extends SimpleChannelInboundHandler<Object> {
     }
 
     protected Exchange createExchange(ChannelHandlerContext ctx, Object message) throws Exception {
-        // must be prototype scoped (not pooled) so we create the exchange via endpoint
+        // the exchange is released back to the pool by the consumer when done
         Exchange exchange = consumer.createExchange(false);
         consumer.getEndpoint().updateMessageHeader(exchange.getIn(), ctx);
         NettyPayloadHelper.setIn(exchange, message);
@@ -29,6 +29,7 @@ import org.apache.camel.Message;
 import org.apache.camel.component.rocketmq.RocketMQEndpoint;
 import org.apache.camel.component.rocketmq.RocketMQMessageConverter;
 import org.apache.camel.component.rocketmq.RocketMQProducer;
+import org.apache.camel.support.DefaultTimeoutMap;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -66,6 +67,7 @@ public class RocketMQReplyManagerSupport extends ServiceSupport implements Reply
 
         log.debug("Using timeout checker interval with {} millis", endpoint.getRequestTimeoutCheckerIntervalMillis());
         timeoutMap = new ReplyTimeoutMap(executorService, endpoint.getRequestTimeoutCheckerIntervalMillis());
+        timeoutMap.setTimingWheel(DefaultTimeoutMap.isTimingWheelEnabled(camelContext));
         ServiceHelper.startService(timeoutMap);
 
         mqPushConsumer = createConsumer();
@@ -35,6 +35,7 @@ import org.apache.camel.component.sjms.SjmsConstants;
 import org.apache.camel.component.sjms.SjmsEndpoint;
 import org.apache.camel.component.sjms.SjmsMessage;
 import org.apache.camel.component.sjms.jms.JmsMessageHelper;
+import org.apache.camel.support.DefaultTimeoutMap;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -210,6 +211,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         log.trace("Using timeout checker interval with {} millis", endpoint.getComponent().getRequestTimeoutCheckerInterval());
         correlation = new CorrelationTimeoutMap(
                 scheduledExecutorService, endpoint.getComponent().getRequestTimeoutCheckerInterval(), executorService);
+        correlation.setTimingWheel(DefaultTimeoutMap.isTimingWheelEnabled(camelContext));
         ServiceHelper.startService(correlation);
 
         // create JMS listener and start it
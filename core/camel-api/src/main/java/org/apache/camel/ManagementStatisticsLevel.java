@@ -26,6 +26,7 @@ public enum ManagementStatisticsLevel {
 
     Extended,
     Default,
+    Sampled,
     RoutesOnly,
     Off;
 
@@ -37,4 +38,12 @@ public enum ManagementStatisticsLevel {
         return ordinal() == Extended.ordinal();
     }
 
+    /**
+     * Whether statistics are enabled for routes and processors, where the processing time of the processors is only
+     * measured for a sample of the exchanges.
+     */
+    public boolean isSampled() {
+        return ordinal() == Sampled.ordinal();
+    }
+
 }
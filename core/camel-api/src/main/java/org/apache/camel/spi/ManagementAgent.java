@@ -289,6 +289,24 @@ public interface ManagementAgent extends Service {
      */
     Boolean getLoadStatisticsEnabled();
 
+    /**
+     * Sets whether the percentiles (p50, p95, p99 and p999) of the processing time of routes and processors are
+     * recorded. The processing times are recorded in a histogram per route and processor, which uses additional memory,
+     * and is therefore not enabled by default, where only the min, mean and max processing time is recorded.
+     * <p/>
+     * The default value is <tt>false</tt>
+     *
+     * @param flag <tt>true</tt> to enable processing time percentiles
+     */
+    void setProcessingTimePercentilesEnabled(Boolean flag);
+
+    /**
+     * Gets whether the percentiles of the processing time of routes and processors are recorded
+     *
+     * @return <tt>true</tt> if enabled
+     */
+    Boolean getProcessingTimePercentilesEnabled();
+
     /**
      * Sets whether endpoint runtime statistics is enabled (gathers runtime usage of each incoming and outgoing
      * endpoints).
@@ -311,7 +329,8 @@ public interface ManagementAgent extends Service {
      * <p/>
      * Default is {@link org.apache.camel.ManagementStatisticsLevel#Default}
      * <p/>
-     * The level can be set to <tt>Extended</tt> to gather additional information
+     * The level can be set to <tt>Extended</tt> to gather additional information, or to <tt>Sampled</tt> to only
+     * measure the processing time of the processors for a sample of the exchanges.
      *
      * @param level the new level
      */
@@ -324,6 +343,23 @@ public interface ManagementAgent extends Service {
      */
     ManagementStatisticsLevel getStatisticsLevel();
 
+    /**
+     * Sets the sample rate when the statistics level is {@link ManagementStatisticsLevel#Sampled}, where the processing
+     * time of the processors is measured for 1 in N exchanges. The exchanges are still counted exactly.
+     * <p/>
+     * The default value is <tt>10</tt>
+     *
+     * @param sampleRate the sample rate (1 in N exchanges)
+     */
+    void setStatisticsSampleRate(Integer sampleRate);
+
+    /**
+     * Gets the sample rate when the statistics level is {@link ManagementStatisticsLevel#Sampled}
+     *
+     * @return the sample rate (1 in N exchanges)
+     */
+    Integer getStatisticsSampleRate();
+
     /**
      * Sets the mbeans registration level
      * <p/>
@@ -49,6 +49,25 @@ public interface PooledObjectFactory<T> extends Service, CamelContextAware {
          */
         long getDiscardedCounter();
 
+        /**
+         * Number of exchanges currently in use, which have been created or acquired, but not yet released or discarded.
+         * <p/>
+         * A number which keeps growing means exchanges are not released (leaks).
+         */
+        default long getInUseCounter() {
+            long answer = getCreatedCounter() + getAcquiredCounter() - getReleasedCounter() - getDiscardedCounter();
+            return Math.max(0, answer);
+        }
+
+        /**
+         * Percentage (0-100) of exchanges which have been acquired (reused) from the pool, instead of being created.
+         */
+        default int getReusePercentage() {
+            long acquired = getAcquiredCounter();
+            long total = getCreatedCounter() + acquired;
+            return total > 0 ? (int) (acquired * 100 / total) : 0;
+        }
+
         /**
          * Reset the counters
          */
@@ -224,6 +224,18 @@ public interface StreamCachingStrategy extends StaticService {
 
     String getSpoolCipher();
 
+    /**
+     * Whether to spool to disk using memory mapped files, instead of regular file streams.
+     * <p/>
+     * This avoids copying the cached data through buffers in the heap, when writing to and reading from the spool file,
+     * which benefits large payloads.
+     * <p/>
+     * By default regular file streams are used.
+     */
+    void setSpoolMemoryMapped(boolean spoolMemoryMapped);
+
+    boolean isSpoolMemoryMapped();
+
     /**
      * Whether to remove the temporary directory when stopping.
      * <p/>
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.Service;
+
+/**
+ * Access to a repository of token buckets, used by the <a href="http://camel.apache.org/throttler.html">Throttler</a>
+ * in token bucket mode.
+ * <p/>
+ * A token bucket holds up to a capacity of tokens, and is refilled smoothly with a number of tokens per refill period.
+ * Each message passing the throttler takes a token from the bucket. When the buckets are kept in a backend shared by
+ * several applications, then the applications share the same rate limit.
+ * <p/>
+ * Calling a remote backend for each message is costly, so the throttler takes {@link #getReservationSize()} tokens at
+ * once, and hands them out locally.
+ */
+public interface TokenBucketRepository extends Service {
+
+    /**
+     * Takes tokens from the bucket with the given key, after refilling the bucket with the tokens accumulated since it
+     * was last refilled. A bucket that does not exist is created with a full capacity of tokens.
+     *
+     * @param  key                the key of the bucket
+     * @param  tokens             the number of tokens to take
+     * @param  capacity           the maximum number of tokens the bucket can hold, which is the burst capacity
+     * @param  refillTokens       the number of tokens the bucket is refilled with per refill period
+     * @param  refillPeriodMillis the refill period in millis
+     * @return                    the number of tokens taken, which is fewer than the given tokens (or zero) when the
+     *                            bucket does not hold enough tokens
+     */
+    long take(String key, long tokens, long capacity, long refillTokens, long refillPeriodMillis);
+
+    /**
+     * The number of tokens the throttler takes at once from this repository, and hands out locally.
+     * <p/>
+     * A higher number reduces the number of calls to a remote backend, at the cost of tokens being reserved by one
+     * application, while they could have been used by another application.
+     */
+    default int getReservationSize() {
+        return 1;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.util.Collection;
+
+/**
+ * Type converters of a Camel application which are bulked together into a single source code generated class, at build
+ * time by the camel-maven-plugin, from all the {@link TypeConverterLoader}s on the classpath of the application.
+ * <p/>
+ * The dispatcher calls the type converter methods directly, and the {@link TypeConverterRegistry} uses the dispatcher
+ * before the type converter map lookup, unless type converters to the same type have also been added to the registry.
+ * The type converter loaders included in the dispatcher are not loaded, so the registry does not have to be populated
+ * with their type converters on startup. Loading the dispatcher adds it to the registry using
+ * {@link TypeConverterRegistry#addBulkTypeConverters(BulkTypeConverters)}, together with the fallback type converters
+ * of the included loaders.
+ */
+public interface TypeConverterDispatcher extends BulkTypeConverters, TypeConverterLoader {
+
+    /**
+     * The names of the {@link TypeConverterLoader}s included in this dispatcher, which should not be loaded.
+     */
+    Collection<String> getTypeConverterLoaders();
+
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
@@ -64,6 +66,17 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * The type conversions which have been attempted the most, which can be used to find the conversions that
+         * dominate.
+         *
+         * @param  limit the maximum number of conversions to return
+         * @return       the conversions with their number of attempts, ordered by the most attempted first
+         */
+        default Map<TypeConvertible<?, ?>, Long> getHotConversions(int limit) {
+            return Collections.emptyMap();
+        }
+
         /**
          * Reset the counters
          */
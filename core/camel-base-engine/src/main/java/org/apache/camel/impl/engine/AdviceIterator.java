@@ -27,16 +27,17 @@ final class AdviceIterator {
 
     }
 
-    static void runAfterTasks(List<? extends CamelInternalProcessorAdvice> advices, Object[] states, Exchange exchange) {
-        int stateIndex = states.length - 1;
+    static void runAfterTasks(
+            List<? extends CamelInternalProcessorAdvice> advices, CamelInternalTask task, int states, Exchange exchange) {
+        int stateIndex = states - 1;
 
         for (int i = advices.size() - 1; i >= 0; i--) {
-            CamelInternalProcessorAdvice task = advices.get(i);
+            CamelInternalProcessorAdvice advice = advices.get(i);
             Object state = null;
-            if (task.hasState()) {
-                state = states[stateIndex--];
+            if (advice.hasState()) {
+                state = task.getState(stateIndex--);
             }
-            runAfterTask(task, state, exchange);
+            runAfterTask(advice, state, exchange);
         }
     }
 
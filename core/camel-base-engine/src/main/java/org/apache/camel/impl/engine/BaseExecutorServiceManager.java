@@ -70,6 +70,7 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     private long shutdownAwaitTermination = 10000;
     private String defaultThreadPoolProfileId = "defaultThreadPoolProfile";
     private final ThreadPoolProfile defaultProfile;
+    private volatile boolean virtualThreadsUnsupportedLogged;
 
     public BaseExecutorServiceManager(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -200,7 +201,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        ThreadFactory threadFactory
+                = createThreadFactory(sanitizedName, true, Boolean.TRUE.equals(profile.getVirtualThreads()));
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -226,7 +228,9 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     @Override
     public ExecutorService newCachedThreadPool(Object source, String name) {
         String sanitizedName = URISupport.sanitizeUri(name);
-        ExecutorService answer = threadPoolFactory.newCachedThreadPool(createThreadFactory(sanitizedName, true));
+        boolean virtual = Boolean.TRUE.equals(getDefaultThreadPoolProfile().getVirtualThreads());
+        ExecutorService answer
+                = threadPoolFactory.newCachedThreadPool(createThreadFactory(sanitizedName, true, virtual));
         onThreadPoolCreated(answer, source, null);
 
         if (LOG.isDebugEnabled()) {
@@ -592,7 +596,16 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     }
 
     protected ThreadFactory createThreadFactory(String name, boolean daemon) {
-        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon);
+        return createThreadFactory(name, daemon, false);
+    }
+
+    protected ThreadFactory createThreadFactory(String name, boolean daemon, boolean virtual) {
+        CamelThreadFactory camelThreadFactory = new CamelThreadFactory(threadNamePattern, name, daemon, virtual);
+        if (virtual && !camelThreadFactory.isVirtual() && !virtualThreadsUnsupportedLogged) {
+            virtualThreadsUnsupportedLogged = true;
+            LOG.warn("Virtual threads requires Java 21 or newer. Thread pools will use platform threads instead.");
+        }
+        ThreadFactory factory = camelThreadFactory;
         for (ThreadFactoryListener listener : threadFactoryListeners) {
             factory = listener.onNewThreadFactory(factory);
         }
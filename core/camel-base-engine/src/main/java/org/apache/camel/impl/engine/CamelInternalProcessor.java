@@ -112,7 +112,8 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
 
     private static final Logger LOG = LoggerFactory.getLogger(CamelInternalProcessor.class);
 
-    private static final Object[] EMPTY_STATES = new Object[0];
+    // the number of states which are kept in fields of the after task, instead of an array
+    private static final int INLINE_STATES = 2;
 
     final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -163,6 +164,10 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
 
         if (advice.hasState()) {
             statefulAdvices++;
+            // the pooled tasks cannot keep the state of the added advice
+            if (taskFactory != null) {
+                taskFactory.purge();
+            }
         }
     }
 
@@ -211,15 +216,24 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
 
     /**
      * Callback task to process the advices after processing.
+     * <p/>
+     * The states of the advices are kept in fields when there are only a few stateful advices (such as the unit of work
+     * and JMX advices), which avoids allocating a states array per exchange. The array is only used when more stateful
+     * advices are in use (such as tracing, debugging or message history).
      */
     private final class AsyncAfterTask implements CamelInternalTask {
 
         private final Object[] states;
+        // the number of stateful advices this task can keep the states for
+        private final int capacity;
+        private Object state0;
+        private Object state1;
         private Exchange exchange;
         private AsyncCallback originalCallback;
 
         private AsyncAfterTask(Object[] states) {
             this.states = states;
+            this.capacity = states != null ? states.length : INLINE_STATES;
         }
 
         @Override
@@ -229,13 +243,36 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         }
 
         @Override
-        public Object[] getStates() {
-            return states;
+        public void setState(int index, Object state) {
+            if (index >= capacity) {
+                throw new IllegalStateException(
+                        "Cannot keep the state of stateful advice with index: " + index + " as the task can only keep "
+                                                + capacity + " states");
+            }
+            if (states != null) {
+                states[index] = state;
+            } else if (index == 0) {
+                state0 = state;
+            } else {
+                state1 = state;
+            }
+        }
+
+        @Override
+        public Object getState(int index) {
+            if (states != null) {
+                return states[index];
+            }
+            return index == 0 ? state0 : state1;
         }
 
         @Override
         public void reset() {
-            Arrays.fill(this.states, null);
+            if (states != null) {
+                Arrays.fill(this.states, null);
+            }
+            this.state0 = null;
+            this.state1 = null;
             this.exchange = null;
             this.originalCallback = null;
         }
@@ -243,7 +280,7 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         @Override
         public void done(boolean doneSync) {
             try {
-                AdviceIterator.runAfterTasks(advices, states, exchange);
+                AdviceIterator.runAfterTasks(advices, this, statefulAdvices, exchange);
             } finally {
                 // ----------------------------------------------------------
                 // CAMEL END USER - DEBUG ME HERE +++ START +++
@@ -256,8 +293,8 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
                 // CAMEL END USER - DEBUG ME HERE +++ END +++
                 // ----------------------------------------------------------
 
-                // task is done so reset
-                if (taskFactory != null) {
+                // task is done so reset, unless it cannot keep the states of advices added in the meantime
+                if (taskFactory != null && capacity >= statefulAdvices) {
                     taskFactory.release(this);
                 }
             }
@@ -290,26 +327,22 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
             return processShutdown(exchange, originalCallback);
         }
 
-        Object[] states;
-
         // create internal callback which will execute the advices in reverse order when done
         CamelInternalTask afterTask = taskFactory != null ? taskFactory.acquire() : null;
         if (afterTask == null) {
-            states = statefulAdvices > 0 ? new Object[statefulAdvices] : EMPTY_STATES;
-            afterTask = new AsyncAfterTask(states);
-        } else {
-            states = afterTask.getStates();
+            // optimise to only use an array for states, when there are more stateful advices than can be kept in fields
+            afterTask = new AsyncAfterTask(statefulAdvices > INLINE_STATES ? new Object[statefulAdvices] : null);
         }
         afterTask.prepare(exchange, originalCallback);
 
-        // optimise to use object array for states, and only for the number of advices that keep state
+        // optimise to only keep states for the advices that keep state
         // optimise for loop using index access to avoid creating iterator object
         for (int i = 0, j = 0; i < advices.size(); i++) {
             CamelInternalProcessorAdvice<?> task = advices.get(i);
             try {
                 Object state = task.before(exchange);
                 if (task.hasState()) {
-                    states[j++] = state;
+                    afterTask.setState(j++, state);
                 }
             } catch (Exception e) {
                 return handleException(exchange, originalCallback, e, afterTask);
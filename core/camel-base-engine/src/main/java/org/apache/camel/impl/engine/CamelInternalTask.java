@@ -33,9 +33,20 @@ interface CamelInternalTask extends AsyncCallback {
     void prepare(Exchange exchange, AsyncCallback callback);
 
     /**
-     * Gets the states
+     * Sets the state of the stateful advice with the given index
+     *
+     * @param index the index of the stateful advice
+     * @param state the state returned from the before callback of the advice
+     */
+    void setState(int index, Object state);
+
+    /**
+     * Gets the state of the stateful advice with the given index
+     *
+     * @param  index the index of the stateful advice
+     * @return       the state
      */
-    Object[] getStates();
+    Object getState(int index);
 
     /**
      * Resets the task after its done and can be reused for another exchange.
@@ -51,15 +51,29 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
     public void add(Exchange exchange) {
         size.increment();
 
-        if (inflightExchangeEnabled) {
-            inflight.put(exchange.getExchangeId(), exchange);
-        }
+        addInflightExchange(exchange);
     }
 
     @Override
     public void remove(Exchange exchange) {
         size.decrement();
 
+        removeInflightExchange(exchange);
+    }
+
+    /**
+     * Keeps track of the inflight exchange (the counters have already been updated)
+     */
+    protected void addInflightExchange(Exchange exchange) {
+        if (inflightExchangeEnabled) {
+            inflight.put(exchange.getExchangeId(), exchange);
+        }
+    }
+
+    /**
+     * Stops keeping track of the inflight exchange (the counters have already been updated)
+     */
+    protected void removeInflightExchange(Exchange exchange) {
         if (inflightExchangeEnabled) {
             inflight.remove(exchange.getExchangeId());
         }
@@ -210,11 +224,11 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         return exchange.getClock().elapsed();
     }
 
-    private static final class InflightExchangeEntry implements InflightExchange {
+    static final class InflightExchangeEntry implements InflightExchange {
 
         private final Exchange exchange;
 
-        private InflightExchangeEntry(Exchange exchange) {
+        InflightExchangeEntry(Exchange exchange) {
             this.exchange = exchange;
         }
 
@@ -73,7 +73,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         }
 
         // reset exchange for reuse
-        ((ResetableClock) exchange.getClock()).reset();
+        ((ResetableClock) answer.getClock()).reset();
         ExchangeHelper.copyResults(answer, exchange);
         return answer;
     }
@@ -97,7 +97,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         }
 
         // reset exchange for reuse
-        ((ResetableClock) exchange.getClock()).reset();
+        ((ResetableClock) answer.getClock()).reset();
 
         ExchangeHelper.copyResults(answer, exchange);
         // do not reuse message id on copy
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.camel.Exchange;
+
+/**
+ * An {@link org.apache.camel.spi.InflightRepository} for high throughput routes, which keeps track of the inflight
+ * exchanges in a number of striped slots.
+ * <p/>
+ * Each exchange is added to the slot its identity hash code maps to, which avoids hashing the exchange id and spreads
+ * the contention over the slots. When browsing is disabled (default) then each slot only keeps track of a few inflight
+ * exchanges in a fixed number of cells, so the oldest inflight exchange is still known at the cost of a compare and set
+ * per exchange. If all the cells of the slot are in use then the exchange is only counted. When browsing is enabled,
+ * then each slot keeps track of all its inflight exchanges.
+ * <p/>
+ * The oldest inflight exchange is computed on demand by scanning the slots for the earliest created exchange, instead
+ * of sorting all the inflight exchanges.
+ */
+public class StripedInflightRepository extends DefaultInflightRepository {
+
+    /**
+     * Number of inflight exchanges each slot keeps track of when browsing is disabled
+     */
+    public static final int CELLS_PER_SLOT = 8;
+
+    private final Slot[] slots;
+    private final int mask;
+
+    public StripedInflightRepository() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Creates the repository
+     *
+     * @param slots number of slots to use for tracking the inflight exchanges (rounded up to a power of two)
+     */
+    public StripedInflightRepository(int slots) {
+        if (slots <= 0) {
+            throw new IllegalArgumentException("Slots must be a positive number, was: " + slots);
+        }
+        int size = slots == 1 ? 1 : Integer.highestOneBit(slots - 1) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            this.slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Number of slots used for tracking the inflight exchanges
+     */
+    public int getSlots() {
+        return slots.length;
+    }
+
+    @Override
+    protected void addInflightExchange(Exchange exchange) {
+        if (isInflightBrowseEnabled()) {
+            slot(exchange).add(exchange);
+        } else {
+            slot(exchange).track(exchange);
+        }
+    }
+
+    @Override
+    protected void removeInflightExchange(Exchange exchange) {
+        if (isInflightBrowseEnabled()) {
+            slot(exchange).remove(exchange);
+        } else {
+            slot(exchange).untrack(exchange);
+        }
+    }
+
+    @Override
+    public Collection<InflightExchange> browse(String fromRouteId, int limit, boolean sortByLongestDuration) {
+        if (!isInflightBrowseEnabled()) {
+            return Collections.emptyList();
+        }
+
+        List<Exchange> list = new ArrayList<>();
+        for (Slot slot : slots) {
+            slot.collect(fromRouteId, list);
+        }
+
+        Stream<Exchange> values = list.stream();
+        if (sortByLongestDuration) {
+            // the earliest created has been inflight the longest
+            values = values.sorted(Comparator.comparingLong(e -> e.getClock().getCreated()));
+        } else {
+            // else sort by exchange id
+            values = values.sorted(Comparator.comparing(Exchange::getExchangeId));
+        }
+
+        if (limit > 0) {
+            values = values.limit(limit);
+        }
+
+        return values.map(InflightExchangeEntry::new).collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public InflightExchange oldest(String fromRouteId) {
+        boolean browse = isInflightBrowseEnabled();
+        Exchange oldest = null;
+        for (Slot slot : slots) {
+            Exchange candidate = browse ? slot.oldest(fromRouteId) : slot.oldestTracked(fromRouteId);
+            if (candidate != null
+                    && (oldest == null || candidate.getClock().getCreated() < oldest.getClock().getCreated())) {
+                oldest = candidate;
+            }
+        }
+
+        return oldest != null ? new InflightExchangeEntry(oldest) : null;
+    }
+
+    private Slot slot(Exchange exchange) {
+        int h = System.identityHashCode(exchange);
+        // spread the higher bits as the slots are selected by the lower bits
+        return slots[(h ^ h >>> 16) & mask];
+    }
+
+    /**
+     * A slot with a subset of the inflight exchanges
+     */
+    private static final class Slot extends ReentrantLock {
+
+        private final Map<Exchange, Boolean> exchanges = new IdentityHashMap<>();
+        private final AtomicReferenceArray<Exchange> cells = new AtomicReferenceArray<>(CELLS_PER_SLOT);
+
+        void track(Exchange exchange) {
+            for (int i = 0; i < CELLS_PER_SLOT; i++) {
+                if (cells.get(i) == null && cells.compareAndSet(i, null, exchange)) {
+                    return;
+                }
+            }
+            // all the cells are in use so the exchange is only counted
+        }
+
+        void untrack(Exchange exchange) {
+            for (int i = 0; i < CELLS_PER_SLOT; i++) {
+                if (cells.compareAndSet(i, exchange, null)) {
+                    return;
+                }
+            }
+        }
+
+        Exchange oldestTracked(String fromRouteId) {
+            Exchange answer = null;
+            long created = Long.MAX_VALUE;
+            for (int i = 0; i < CELLS_PER_SLOT; i++) {
+                Exchange exchange = cells.get(i);
+                if (exchange != null && (fromRouteId == null || fromRouteId.equals(exchange.getFromRouteId()))) {
+                    long time = exchange.getClock().getCreated();
+                    if (time < created) {
+                        created = time;
+                        answer = exchange;
+                    }
+                }
+            }
+            return answer;
+        }
+
+        void add(Exchange exchange) {
+            lock();
+            try {
+                exchanges.put(exchange, Boolean.TRUE);
+            } finally {
+                unlock();
+            }
+        }
+
+        void remove(Exchange exchange) {
+            lock();
+            try {
+                exchanges.remove(exchange);
+            } finally {
+                unlock();
+            }
+        }
+
+        void collect(String fromRouteId, List<Exchange> list) {
+            lock();
+            try {
+                for (Exchange exchange : exchanges.keySet()) {
+                    if (fromRouteId == null || fromRouteId.equals(exchange.getFromRouteId())) {
+                        list.add(exchange);
+                    }
+                }
+            } finally {
+                unlock();
+            }
+        }
+
+        Exchange oldest(String fromRouteId) {
+            Exchange answer = null;
+            long created = Long.MAX_VALUE;
+            lock();
+            try {
+                for (Exchange exchange : exchanges.keySet()) {
+                    if (fromRouteId == null || fromRouteId.equals(exchange.getFromRouteId())) {
+                        long time = exchange.getClock().getCreated();
+                        if (time < created) {
+                            created = time;
+                            answer = exchange;
+                        }
+                    }
+                }
+            } finally {
+                unlock();
+            }
+            return answer;
+        }
+    }
+
+}
@@ -0,0 +1,419 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.NamedThreadLocal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which works like {@link DefaultReactiveExecutor} by running tasks on the current thread,
+ * but where tasks that are queued up behind a busy thread can be stolen by idle threads from a {@link ForkJoinPool}.
+ * <p/>
+ * This allows spreading a burst of work, such as many exchanges continued from a single IO thread, across the CPU
+ * cores. Only tasks scheduled via {@link #schedule(Runnable)} can be stolen, and only when the thread already has
+ * {@link #setStealThreshold(int) stealThreshold} pending tasks queued, so the next task of the current flow is always
+ * continued on the same thread. Tasks scheduled via {@link #scheduleMain(Runnable)}, {@link #scheduleSync(Runnable)}
+ * and {@link #scheduleQueue(Runnable)} are never stolen, which keeps their ordering (and thread) guarantees, such as
+ * needed by transacted routes.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport
+        implements ReactiveExecutor, StaticService, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private CamelContext camelContext;
+    private int parallelism;
+    private int stealThreshold = 1;
+    private volatile ForkJoinPool pool;
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
+    private final LongAdder stolenTasks = new LongAdder();
+
+    private final NamedThreadLocal<Worker> workers = new NamedThreadLocal<>("CamelReactiveWorker", () -> {
+        int number = createdWorkers.incrementAndGet();
+        return new Worker(number, WorkStealingReactiveExecutor.this);
+    });
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Number of threads in the pool that can steal tasks")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Number of threads in the pool that can steal tasks. The default is the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks a thread must have before further tasks can be stolen")
+    public int getStealThreshold() {
+        return stealThreshold;
+    }
+
+    /**
+     * Number of pending tasks a thread must have queued before further tasks can be stolen by idle threads. The default
+     * is 1, which means the next pending task is always run by the same thread.
+     */
+    public void setStealThreshold(int stealThreshold) {
+        this.stealThreshold = stealThreshold;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(runnable, false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ScheduleQueue: {}", runnable);
+        }
+        workers.get().queue.add(runnable);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen by idle threads")
+    public long getStolenTasks() {
+        return stolenTasks.longValue();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        final AtomicInteger counter = new AtomicInteger();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            String name = "WorkStealingReactiveExecutor-" + counter.incrementAndGet();
+            if (camelContext != null) {
+                name = camelContext.getExecutorServiceManager().resolveThreadName(name);
+            }
+            thread.setName(name);
+            return thread;
+        };
+        // use async mode (FIFO) as the stolen tasks are never joined
+        pool = new ForkJoinPool(parallelism, factory, null, true);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug(
+                    "Stopping WorkStealingReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, stolenTasks: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getStolenTasks());
+        }
+        ForkJoinPool current = pool;
+        pool = null;
+        if (current != null) {
+            // any task not yet stolen is still queued at its worker, so there is no need to wait for the pool
+            current.shutdown();
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        workers.remove();
+    }
+
+    @Override
+    public String toString() {
+        return "WorkStealingReactiveExecutor[parallelism=" + parallelism + ", stealThreshold=" + stealThreshold + "]";
+    }
+
+    private void steal(StealableTask task) {
+        if (task.claim()) {
+            stolenTasks.increment();
+            // continue the stolen task (and the tasks it schedules) on this thread
+            Worker worker = workers.get();
+            worker.decrementPendingTasks();
+            worker.schedule(task.runnable, false, false, false);
+        }
+    }
+
+    /**
+     * A task which can either be run by its worker or stolen by another thread, whichever claims it first.
+     */
+    private static final class StealableTask extends AtomicBoolean implements Runnable {
+
+        private final WorkStealingReactiveExecutor executor;
+        private final Runnable runnable;
+
+        StealableTask(WorkStealingReactiveExecutor executor, Runnable runnable) {
+            this.executor = executor;
+            this.runnable = runnable;
+        }
+
+        boolean claim() {
+            return !get() && compareAndSet(false, true);
+        }
+
+        @Override
+        public void run() {
+            // run by a thread from the pool
+            executor.steal(this);
+        }
+
+        @Override
+        public String toString() {
+            return runnable.toString();
+        }
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final WorkStealingReactiveExecutor executor;
+        private final boolean stats;
+        private volatile Deque<Runnable> queue = new ArrayDeque<>();
+        private volatile Deque<Deque<Runnable>> back;
+        private volatile boolean running;
+
+        public Worker(int number, WorkStealingReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+            this.stats = executor.isStatisticsEnabled();
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                executeMainFlow();
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else if (running && !sync && queue.size() >= executor.stealThreshold) {
+                // this thread is busy and has other pending tasks, so let an idle thread steal this task
+                offer(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+
+            incrementPendingTasks();
+            tryExecuteReactiveWork(runnable, sync);
+        }
+
+        private void offer(Runnable runnable) {
+            ForkJoinPool pool = executor.pool;
+            if (pool == null) {
+                queue.addLast(runnable);
+                return;
+            }
+            StealableTask task = new StealableTask(executor, runnable);
+            queue.addLast(task);
+            try {
+                pool.execute(task);
+            } catch (RejectedExecutionException e) {
+                // the pool is shutting down so the task is run by this thread
+                LOG.trace("Cannot offer task to be stolen as pool is shutting down: {}", runnable);
+            }
+        }
+
+        private void executeMainFlow() {
+            if (!queue.isEmpty()) {
+                if (back == null) {
+                    back = new ArrayDeque<>();
+                }
+                back.push(queue);
+                queue = new ArrayDeque<>();
+            }
+        }
+
+        private void tryExecuteReactiveWork(Runnable runnable, boolean sync) {
+            if (!running || sync) {
+                running = true;
+                incrementRunningWorkers();
+                try {
+                    executeReactiveWork();
+                } finally {
+                    running = false;
+                    decrementRunningWorkers();
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        private void executeReactiveWork() {
+            for (;;) {
+                final Runnable polled = queue.pollFirst();
+                if (polled == null) {
+                    if (back != null && !back.isEmpty()) {
+                        queue = back.pollFirst();
+                        continue;
+                    } else {
+                        break;
+                    }
+                }
+                Runnable task = claim(polled);
+                if (task != null) {
+                    doRun(task);
+                }
+            }
+        }
+
+        /**
+         * Claims the task to be run by this worker
+         *
+         * @return the task to run, or <tt>null</tt> if the task has been stolen by another thread
+         */
+        private static Runnable claim(Runnable polled) {
+            if (polled instanceof StealableTask task) {
+                return task.claim() ? task.runnable : null;
+            }
+            return polled;
+        }
+
+        private void doRun(Runnable polled) {
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                        t.getMessage(), t);
+            }
+        }
+
+        private void decrementRunningWorkers() {
+            if (stats) {
+                executor.runningWorkers.decrement();
+            }
+        }
+
+        private void incrementRunningWorkers() {
+            if (stats) {
+                executor.runningWorkers.increment();
+            }
+        }
+
+        private void incrementPendingTasks() {
+            if (stats) {
+                executor.pendingTasks.increment();
+            }
+        }
+
+        private void decrementPendingTasks() {
+            if (stats) {
+                executor.pendingTasks.decrement();
+            }
+        }
+
+        boolean executeFromQueue() {
+            Runnable polled = null;
+            while (polled == null) {
+                final Runnable next = queue != null ? queue.pollFirst() : null;
+                if (next == null) {
+                    return false;
+                }
+                polled = claim(next);
+            }
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                // should not happen
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -37,6 +37,7 @@ import org.apache.camel.TypeConverter;
 import org.apache.camel.TypeConverterLoaderException;
 import org.apache.camel.spi.Injector;
 import org.apache.camel.spi.PackageScanClassResolver;
+import org.apache.camel.spi.TypeConverterDispatcher;
 import org.apache.camel.spi.TypeConverterLoader;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.util.IOHelper;
@@ -56,6 +57,8 @@ public abstract class BaseTypeConverterRegistry extends CoreTypeConverterRegistr
             = "META-INF/services/org/apache/camel/TypeConverterLoader";
     public static final String META_INF_SERVICES_FALLBACK_TYPE_CONVERTER
             = "META-INF/services/org/apache/camel/FallbackTypeConverter";
+    public static final String META_INF_SERVICES_TYPE_CONVERTER_DISPATCHER
+            = "META-INF/services/org/apache/camel/TypeConverterDispatcher";
 
     private static final Logger LOG = LoggerFactory.getLogger(BaseTypeConverterRegistry.class);
 
@@ -144,22 +147,17 @@ public abstract class BaseTypeConverterRegistry extends CoreTypeConverterRegistr
     public void loadCoreAndFastTypeConverters() throws Exception {
         Collection<String> names = findTypeConverterLoaderClasses();
 
+        // the build time generated dispatcher includes the type converters of the other loaders
+        TypeConverterDispatcher dispatcher = loadTypeConverterDispatcher();
+        Collection<String> included = dispatcher != null ? dispatcher.getTypeConverterLoaders() : null;
+
         for (String name : names) {
-            LOG.debug("Resolving TypeConverterLoader: {}", name);
-            Class<?> clazz = null;
-            for (ClassLoader loader : getResolver().getClassLoaders()) {
-                try {
-                    clazz = loader.loadClass(name);
-                } catch (Exception e) {
-                    // ignore
-                }
-                if (clazz != null) {
-                    break;
-                }
-            }
-            if (clazz == null) {
-                throw new ClassNotFoundException(name);
+            if (included != null && included.contains(name)) {
+                LOG.debug("TypeConverterLoader: {} is included in the TypeConverterDispatcher", name);
+                continue;
             }
+            LOG.debug("Resolving TypeConverterLoader: {}", name);
+            Class<?> clazz = resolveTypeConverterLoaderClass(name);
             Object obj = getInjector().newInstance(clazz, false);
             CamelContextAware.trySetCamelContext(obj, getCamelContext());
             if (obj instanceof TypeConverterLoader loader) {
@@ -170,6 +168,52 @@ public abstract class BaseTypeConverterRegistry extends CoreTypeConverterRegistr
         }
     }
 
+    /**
+     * Loads the {@link TypeConverterDispatcher} which has been source code generated at build time by the
+     * camel-maven-plugin, if any exists on the classpath.
+     */
+    protected TypeConverterDispatcher loadTypeConverterDispatcher() throws Exception {
+        Collection<String> names = new LinkedHashSet<>();
+        findTypeConverterLoaderClasses(names, META_INF_SERVICES_TYPE_CONVERTER_DISPATCHER);
+        if (names.isEmpty()) {
+            return null;
+        }
+        String name = names.iterator().next();
+        if (names.size() > 1) {
+            LOG.warn("Found {} TypeConverterDispatchers: {} (only one is used per application). Using: {}", names.size(),
+                    names, name);
+        }
+
+        LOG.debug("Resolving TypeConverterDispatcher: {}", name);
+        Class<?> clazz = resolveTypeConverterLoaderClass(name);
+        Object obj = getInjector().newInstance(clazz, false);
+        if (obj instanceof TypeConverterDispatcher dispatcher) {
+            CamelContextAware.trySetCamelContext(dispatcher, getCamelContext());
+            LOG.debug("TypeConverterDispatcher: {} loading converters", name);
+            dispatcher.load(this);
+            return dispatcher;
+        }
+        return null;
+    }
+
+    private Class<?> resolveTypeConverterLoaderClass(String name) throws ClassNotFoundException {
+        Class<?> clazz = null;
+        for (ClassLoader loader : getResolver().getClassLoaders()) {
+            try {
+                clazz = loader.loadClass(name);
+            } catch (Exception e) {
+                // ignore
+            }
+            if (clazz != null) {
+                break;
+            }
+        }
+        if (clazz == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return clazz;
+    }
+
     /**
      * Finds the type converter loader classes from the classpath looking for text files on the classpath at the
      * {@link #META_INF_SERVICES_UBER_TYPE_CONVERTER_LOADER} and {@link #META_INF_SERVICES_TYPE_CONVERTER_LOADER}
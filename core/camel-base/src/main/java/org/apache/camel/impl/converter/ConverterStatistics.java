@@ -55,6 +55,14 @@ interface ConverterStatistics extends TypeConverterRegistry.Statistics {
      */
     void incrementAttempt();
 
+    /**
+     * Increment the count of attempts to convert between the given types
+     *
+     * @param from the type to convert from
+     * @param to   the type to convert to
+     */
+    void incrementConversion(Class<?> from, Class<?> to);
+
     /**
      * Log the statistics from the converters
      *
@@ -18,6 +18,7 @@ package org.apache.camel.impl.converter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
@@ -35,6 +36,7 @@ import org.apache.camel.converter.ObjectConverter;
 import org.apache.camel.spi.BulkTypeConverters;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.Injector;
+import org.apache.camel.spi.TypeConverterDispatcher;
 import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.spi.TypeConvertible;
 import org.apache.camel.support.MessageHelper;
@@ -70,6 +72,14 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     // Why 256: as of Camel 4, we have about 230 type converters. Therefore, set the capacity to a few more to provide
     // space for others added during runtime
     private final Map<TypeConvertible<?, ?>, TypeConverter> converters = new ConcurrentHashMap<>(256);
+    // the type pairs which have no type converter, neither directly nor by their type hierarchy, so only the fallback
+    // type converters are tried for these pairs. This is replaced when the converters are changed
+    private volatile Set<TypeConvertible<?, ?>> unmatched = ConcurrentHashMap.newKeySet();
+    // build time generated dispatcher of the type converters of the application (optional)
+    private TypeConverterDispatcher typeConverterDispatcher;
+    // the types which type converters have been added to this registry (when using a dispatcher), where the dispatcher
+    // is used after these type converters, so they can be used instead of those from the dispatcher
+    private final Set<Class<?>> registeredToTypes = ConcurrentHashMap.newKeySet();
 
     protected CoreTypeConverterRegistry(boolean statisticsEnabled) {
         if (statisticsEnabled) {
@@ -377,12 +387,24 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             return value;
         }
 
+        // attempt bulk first which is the fastest (also taking into account primitives)
+        final Class<?> aClass = type.isPrimitive() ? ObjectHelper.convertPrimitiveTypeToWrapperType(type) : type;
+
         if (!tryConvert) {
             statistics.incrementAttempt();
+            statistics.incrementConversion(value.getClass(), aClass);
+        }
+
+        // the dispatcher calls the type converters directly which is faster than looking them up
+        final TypeConverterDispatcher dispatcher = typeConverterDispatcher;
+        final boolean dispatchFirst = dispatcher != null && !registeredToTypes.contains(aClass);
+        if (dispatchFirst) {
+            final Object ret = dispatcher.convertTo(value.getClass(), type, exchange, value);
+            if (ret != null) {
+                return ret;
+            }
         }
 
-        // attempt bulk first which is the fastest (also taking into account primitives)
-        final Class<?> aClass = type.isPrimitive() ? ObjectHelper.convertPrimitiveTypeToWrapperType(type) : type;
         final TypeConvertible<?, ?> typeConvertible = new TypeConvertible<>(value.getClass(), aClass);
 
         final Object ret = tryCachedConverters(type, exchange, value, typeConvertible);
@@ -390,6 +412,13 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             return ret;
         }
 
+        if (dispatcher != null && !dispatchFirst) {
+            final Object dispatchRet = dispatcher.convertTo(value.getClass(), type, exchange, value);
+            if (dispatchRet != null) {
+                return dispatchRet;
+            }
+        }
+
         // fallback converters
         final Object fallBackRet = tryFallback(type, exchange, value, tryConvert, typeConvertible);
         if (fallBackRet != null) {
@@ -424,6 +453,13 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             }
         }
 
+        // if the converters are changed meanwhile then the pair is added to the replaced set which is no longer used
+        final Set<TypeConvertible<?, ?>> unmatched = this.unmatched;
+        if (typeConverter == null && unmatched.contains(typeConvertible)) {
+            // avoid the costly type hierarchy scan as we know there is no match
+            return null;
+        }
+
         final TypeConverter superConverterTc = TypeResolverHelper.tryMatch(typeConvertible, converters);
         if (superConverterTc != null) {
             final Object ret = superConverterTc.convertTo(type, exchange, value);
@@ -431,6 +467,8 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
                 converters.put(typeConvertible, superConverterTc);
                 return ret;
             }
+        } else if (typeConverter == null) {
+            unmatched.add(typeConvertible);
         }
 
         return null;
@@ -478,17 +516,38 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     }
 
     public TypeConverter getTypeConverter(Class<?> toType, Class<?> fromType) {
-        return converters.get(new TypeConvertible<>(fromType, toType));
+        TypeConverter answer = converters.get(new TypeConvertible<>(fromType, toType));
+        if (answer == null && typeConverterDispatcher != null) {
+            answer = typeConverterDispatcher.lookup(toType, fromType);
+        }
+        return answer;
     }
 
     @Override
     public void addConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
         converters.put(typeConvertible, typeConverter);
+        onTypeConverterAdded(typeConvertible);
     }
 
     @Override
     public void addBulkTypeConverters(BulkTypeConverters bulkTypeConverters) {
-        // NO-OP
+        if (bulkTypeConverters instanceof TypeConverterDispatcher dispatcher) {
+            if (typeConverterDispatcher != null && typeConverterDispatcher != dispatcher) {
+                LOG.warn("Ignoring type converter dispatcher: {} as already using: {}", dispatcher,
+                        typeConverterDispatcher);
+            } else {
+                LOG.debug("Using type converter dispatcher: {} with {} type converters", dispatcher, dispatcher.size());
+                typeConverterDispatcher = dispatcher;
+            }
+        }
+        // other bulk type converters are added as type converters to this registry
+    }
+
+    /**
+     * The build time generated dispatcher of the type converters of the application, if any is in use.
+     */
+    public TypeConverterDispatcher getTypeConverterDispatcher() {
+        return typeConverterDispatcher;
     }
 
     public void addTypeConverter(Class<?> toType, Class<?> fromType, TypeConverter typeConverter) {
@@ -504,6 +563,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed, so add this converter
             converters.put(typeConvertible, typeConverter);
+            onTypeConverterAdded(typeConvertible);
             return;
         }
 
@@ -521,6 +581,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
             if (add) {
                 converters.put(typeConvertible, typeConverter);
+                onTypeConverterAdded(typeConvertible);
             }
         }
     }
@@ -545,9 +606,23 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
         final TypeConverter removed = converters.remove(new TypeConvertible<>(fromType, toType));
+        clearUnmatched();
         return removed != null;
     }
 
+    private void onTypeConverterAdded(TypeConvertible<?, ?> typeConvertible) {
+        clearUnmatched();
+        if (typeConverterDispatcher != null) {
+            registeredToTypes.add(ObjectHelper.convertPrimitiveTypeToWrapperType(typeConvertible.getTo()));
+        }
+    }
+
+    private void clearUnmatched() {
+        // always replace the set (even when empty) after the converters are changed, as a lookup which scanned the
+        // converters before the change may add a pair to the set it read before the change
+        unmatched = ConcurrentHashMap.newKeySet();
+    }
+
     @Override
     public void addTypeConverters(Object typeConverters) {
         throw new UnsupportedOperationException();
@@ -562,7 +637,29 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
-        return doLookup(toType, fromType);
+        TypeConverter answer = doLookup(toType, fromType);
+        if (answer == null && typeConverterDispatcher != null) {
+            answer = lookupDispatcher(toType, fromType);
+        }
+        return answer;
+    }
+
+    private TypeConverter lookupDispatcher(Class<?> toType, Class<?> fromType) {
+        if (fromType == null) {
+            return null;
+        }
+        // the dispatcher converts instances of the from types, so also look for the super types
+        TypeConverter answer = typeConverterDispatcher.lookup(toType, fromType);
+        if (answer == null) {
+            for (Class<?> type : fromType.getInterfaces()) {
+                answer = lookupDispatcher(toType, type);
+                if (answer != null) {
+                    return answer;
+                }
+            }
+            answer = lookupDispatcher(toType, fromType.getSuperclass());
+        }
+        return answer;
     }
 
     @Deprecated(since = "4.0.0")
@@ -607,7 +704,11 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     }
 
     public int size() {
-        return converters.size();
+        int size = converters.size();
+        if (typeConverterDispatcher != null) {
+            size += typeConverterDispatcher.size();
+        }
+        return size;
     }
 
     public LoggingLevel getTypeConverterExistsLoggingLevel() {
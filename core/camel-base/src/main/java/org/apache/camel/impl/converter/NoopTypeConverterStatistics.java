@@ -83,6 +83,11 @@ final class NoopTypeConverterStatistics implements ConverterStatistics {
         // NO-OP
     }
 
+    @Override
+    public void incrementConversion(Class<?> from, Class<?> to) {
+        // NO-OP
+    }
+
     @Override
     public void logMappingStatisticsMessage(Map<TypeConvertible<?, ?>, TypeConverter> converters, TypeConverter missConverter) {
         // NO-OP
@@ -17,7 +17,12 @@
 
 package org.apache.camel.impl.converter;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -31,12 +36,15 @@ import org.slf4j.LoggerFactory;
  */
 final class TypeConverterStatistics implements ConverterStatistics {
     private static final Logger LOG = LoggerFactory.getLogger(TypeConverterStatistics.class);
+    private static final int HOT_CONVERSIONS_LOGGED = 5;
 
     private final LongAdder noopCounter = new LongAdder();
     private final LongAdder attemptCounter = new LongAdder();
     private final LongAdder missCounter = new LongAdder();
     private final LongAdder hitCounter = new LongAdder();
     private final LongAdder failedCounter = new LongAdder();
+    // attempts per type conversion, keyed by from and then to type to not create a key per conversion
+    private final Map<Class<?>, Map<Class<?>, LongAdder>> conversionCounters = new ConcurrentHashMap<>();
 
     @Override
     public long getNoopCounter() {
@@ -93,6 +101,33 @@ final class TypeConverterStatistics implements ConverterStatistics {
         attemptCounter.increment();
     }
 
+    @Override
+    public void incrementConversion(Class<?> from, Class<?> to) {
+        Map<Class<?>, LongAdder> counters = conversionCounters.get(from);
+        if (counters == null) {
+            counters = conversionCounters.computeIfAbsent(from, k -> new ConcurrentHashMap<>());
+        }
+        LongAdder counter = counters.get(to);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(to, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    @Override
+    public Map<TypeConvertible<?, ?>, Long> getHotConversions(int limit) {
+        List<Map.Entry<TypeConvertible<?, ?>, Long>> list = new ArrayList<>();
+        conversionCounters.forEach((from, counters) -> counters.forEach(
+                (to, counter) -> list.add(Map.entry(new TypeConvertible<>(from, to), counter.longValue()))));
+        list.sort(Map.Entry.<TypeConvertible<?, ?>, Long> comparingByValue(Comparator.reverseOrder()));
+
+        Map<TypeConvertible<?, ?>, Long> answer = new LinkedHashMap<>();
+        for (int i = 0; i < list.size() && i < limit; i++) {
+            answer.put(list.get(i).getKey(), list.get(i).getValue());
+        }
+        return answer;
+    }
+
     @Override
     public void reset() {
         noopCounter.reset();
@@ -100,6 +135,7 @@ final class TypeConverterStatistics implements ConverterStatistics {
         hitCounter.reset();
         missCounter.reset();
         failedCounter.reset();
+        conversionCounters.clear();
     }
 
     /**
@@ -129,5 +165,17 @@ final class TypeConverterStatistics implements ConverterStatistics {
                 "TypeConverterStatistics utilization[noop={}, attempts={}, hits={}, misses={}, failures={}] mappings[total={}, misses={}]",
                 getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(), converters.size(),
                 misses);
+
+        Map<TypeConvertible<?, ?>, Long> hot = getHotConversions(HOT_CONVERSIONS_LOGGED);
+        if (!hot.isEmpty()) {
+            StringBuilder sb = new StringBuilder();
+            hot.forEach((k, v) -> {
+                if (!sb.isEmpty()) {
+                    sb.append(", ");
+                }
+                sb.append(k.getFrom().getName()).append("->").append(k.getTo().getName()).append("=").append(v);
+            });
+            LOG.info("TypeConverterStatistics hot conversions[{}]", sb);
+        }
     }
 }
@@ -144,6 +144,13 @@ public class RouteDevConsole extends AbstractDevConsole {
             sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mrb.getMeanProcessingTime(), true)));
             sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mrb.getMaxProcessingTime(), true)));
             sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mrb.getMinProcessingTime(), true)));
+            if (mrb.isProcessingTimePercentilesEnabled()) {
+                long[] percentiles = mrb.getProcessingTimePercentiles();
+                sb.append(String.format("\n    P50 Time: %s", TimeUtils.printDuration(percentiles[0], true)));
+                sb.append(String.format("\n    P95 Time: %s", TimeUtils.printDuration(percentiles[1], true)));
+                sb.append(String.format("\n    P99 Time: %s", TimeUtils.printDuration(percentiles[2], true)));
+                sb.append(String.format("\n    P999 Time: %s", TimeUtils.printDuration(percentiles[3], true)));
+            }
             if (mrb.getExchangesTotal() > 0) {
                 sb.append(String.format("\n    Last Time: %s", TimeUtils.printDuration(mrb.getLastProcessingTime(), true)));
                 sb.append(String.format("\n    Delta Time: %s", TimeUtils.printDuration(mrb.getDeltaProcessingTime(), true)));
@@ -224,6 +231,13 @@ public class RouteDevConsole extends AbstractDevConsole {
             sb.append(String.format("\n        Mean Time: %s", TimeUtils.printDuration(mp.getMeanProcessingTime(), true)));
             sb.append(String.format("\n        Max Time: %s", TimeUtils.printDuration(mp.getMaxProcessingTime(), true)));
             sb.append(String.format("\n        Min Time: %s", TimeUtils.printDuration(mp.getMinProcessingTime(), true)));
+            if (mp.isProcessingTimePercentilesEnabled()) {
+                long[] percentiles = mp.getProcessingTimePercentiles();
+                sb.append(String.format("\n        P50 Time: %s", TimeUtils.printDuration(percentiles[0], true)));
+                sb.append(String.format("\n        P95 Time: %s", TimeUtils.printDuration(percentiles[1], true)));
+                sb.append(String.format("\n        P99 Time: %s", TimeUtils.printDuration(percentiles[2], true)));
+                sb.append(String.format("\n        P999 Time: %s", TimeUtils.printDuration(percentiles[3], true)));
+            }
             if (mp.getExchangesTotal() > 0) {
                 sb.append(String.format("\n        Last Time: %s", TimeUtils.printDuration(mp.getLastProcessingTime(), true)));
                 sb.append(
@@ -310,6 +324,13 @@ public class RouteDevConsole extends AbstractDevConsole {
             stats.put("meanProcessingTime", mrb.getMeanProcessingTime());
             stats.put("maxProcessingTime", mrb.getMaxProcessingTime());
             stats.put("minProcessingTime", mrb.getMinProcessingTime());
+            if (mrb.isProcessingTimePercentilesEnabled()) {
+                long[] percentiles = mrb.getProcessingTimePercentiles();
+                stats.put("p50ProcessingTime", percentiles[0]);
+                stats.put("p95ProcessingTime", percentiles[1]);
+                stats.put("p99ProcessingTime", percentiles[2]);
+                stats.put("p999ProcessingTime", percentiles[3]);
+            }
             if (mrb.getExchangesTotal() > 0) {
                 stats.put("lastProcessingTime", mrb.getLastProcessingTime());
                 stats.put("deltaProcessingTime", mrb.getDeltaProcessingTime());
@@ -401,6 +422,13 @@ public class RouteDevConsole extends AbstractDevConsole {
         stats.put("meanProcessingTime", mp.getMeanProcessingTime());
         stats.put("maxProcessingTime", mp.getMaxProcessingTime());
         stats.put("minProcessingTime", mp.getMinProcessingTime());
+        if (mp.isProcessingTimePercentilesEnabled()) {
+            long[] percentiles = mp.getProcessingTimePercentiles();
+            stats.put("p50ProcessingTime", percentiles[0]);
+            stats.put("p95ProcessingTime", percentiles[1]);
+            stats.put("p99ProcessingTime", percentiles[2]);
+            stats.put("p999ProcessingTime", percentiles[3]);
+        }
         if (mp.getExchangesTotal() > 0) {
             stats.put("lastProcessingTime", mp.getLastProcessingTime());
             stats.put("deltaProcessingTime", mp.getDeltaProcessingTime());
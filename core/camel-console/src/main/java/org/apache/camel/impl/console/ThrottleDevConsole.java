@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.console;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Route;
+import org.apache.camel.api.management.ManagedCamelContext;
+import org.apache.camel.api.management.mbean.ManagedProcessorMBean;
+import org.apache.camel.api.management.mbean.ManagedRouteMBean;
+import org.apache.camel.api.management.mbean.ManagedThrottlerMBean;
+import org.apache.camel.spi.annotations.DevConsole;
+import org.apache.camel.support.console.AbstractDevConsole;
+import org.apache.camel.util.json.JsonObject;
+
+@DevConsole(name = "throttle", description = "Display throttle information")
+public class ThrottleDevConsole extends AbstractDevConsole {
+
+    public ThrottleDevConsole() {
+        super("camel", "throttle", "Throttle", "Display throttle information");
+    }
+
+    @Override
+    protected String doCallText(Map<String, Object> options) {
+        StringBuilder sb = new StringBuilder();
+
+        for (ManagedThrottlerMBean mt : findThrottlers()) {
+            sb.append(String.format("    %s/%s: %s (maximum-requests: %d", mt.getRouteId(), mt.getProcessorId(),
+                    mt.getMode(), mt.getMaximumRequests()));
+            if ("AdaptiveConcurrentRequests".equals(mt.getMode())) {
+                sb.append(String.format(" limit: %d round-trip-time: %dms", mt.getMaximumRequestsLimit(),
+                        mt.getRoundTripTime()));
+            }
+            sb.append(")\n");
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    protected Map<String, Object> doCallJson(Map<String, Object> options) {
+        JsonObject root = new JsonObject();
+
+        final List<JsonObject> list = new ArrayList<>();
+        for (ManagedThrottlerMBean mt : findThrottlers()) {
+            JsonObject jo = new JsonObject();
+            jo.put("routeId", mt.getRouteId());
+            jo.put("id", mt.getProcessorId());
+            jo.put("mode", mt.getMode());
+            jo.put("maximumRequests", mt.getMaximumRequests());
+            if ("AdaptiveConcurrentRequests".equals(mt.getMode())) {
+                jo.put("maximumRequestsLimit", mt.getMaximumRequestsLimit());
+                jo.put("roundTripTime", mt.getRoundTripTime());
+            }
+            list.add(jo);
+        }
+        root.put("throttles", list);
+
+        return root;
+    }
+
+    private List<ManagedThrottlerMBean> findThrottlers() {
+        List<ManagedThrottlerMBean> answer = new ArrayList<>();
+
+        ManagedCamelContext mcc = getCamelContext().getCamelContextExtension().getContextPlugin(ManagedCamelContext.class);
+        if (mcc == null) {
+            return answer;
+        }
+        for (Route route : getCamelContext().getRoutes()) {
+            ManagedRouteMBean mrb = mcc.getManagedRoute(route.getRouteId());
+            if (mrb == null) {
+                continue;
+            }
+            Collection<String> ids;
+            try {
+                ids = mrb.processorIds();
+            } catch (Exception e) {
+                continue;
+            }
+            for (String id : ids) {
+                ManagedProcessorMBean mp = mcc.getManagedProcessor(id);
+                if (mp != null && "throttle".equals(mp.getProcessorName())) {
+                    answer.add(mcc.getManagedProcessor(id, ManagedThrottlerMBean.class));
+                }
+            }
+        }
+        return answer;
+    }
+}
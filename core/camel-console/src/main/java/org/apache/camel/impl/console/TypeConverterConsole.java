@@ -19,13 +19,20 @@ package org.apache.camel.impl.console;
 import java.util.Map;
 
 import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.spi.TypeConvertible;
 import org.apache.camel.spi.annotations.DevConsole;
 import org.apache.camel.support.console.AbstractDevConsole;
+import org.apache.camel.util.json.JsonArray;
 import org.apache.camel.util.json.JsonObject;
 
 @DevConsole(name = "type-converters", description = "Camel Type Converter information")
 public class TypeConverterConsole extends AbstractDevConsole {
 
+    /**
+     * Limits the number of hot conversions displayed
+     */
+    public static final String LIMIT = "limit";
+
     public TypeConverterConsole() {
         super("camel", "type-converters", "Type Converters", "Camel Type Converter information");
     }
@@ -46,6 +53,13 @@ public class TypeConverterConsole extends AbstractDevConsole {
         statistics.computeIfEnabled(statistics::getFailedCounter, v -> sb.append(String.format("\n    Failed: %s", v)));
         statistics.computeIfEnabled(statistics::getNoopCounter, v -> sb.append(String.format("\n    Noop: %s", v)));
 
+        Map<TypeConvertible<?, ?>, Long> hot = statistics.getHotConversions(limit(options));
+        if (!hot.isEmpty()) {
+            sb.append("\n    Hot Conversions:");
+            hot.forEach((k, v) -> sb.append(String.format("\n        %s -> %s: %s", k.getFrom().getName(),
+                    k.getTo().getName(), v)));
+        }
+
         return sb.toString();
     }
 
@@ -67,10 +81,28 @@ public class TypeConverterConsole extends AbstractDevConsole {
         statistics.computeIfEnabled(statistics::getFailedCounter, v -> props.put("failedCounter", v));
         statistics.computeIfEnabled(statistics::getFailedCounter, v -> props.put("noopCounter", v));
 
+        Map<TypeConvertible<?, ?>, Long> hot = statistics.getHotConversions(limit(options));
+        if (!hot.isEmpty()) {
+            JsonArray arr = new JsonArray();
+            hot.forEach((k, v) -> {
+                JsonObject jo = new JsonObject();
+                jo.put("from", k.getFrom().getName());
+                jo.put("to", k.getTo().getName());
+                jo.put("attemptCounter", v);
+                arr.add(jo);
+            });
+            props.put("hotConversions", arr);
+        }
+
         if (!props.isEmpty()) {
             root.put("statistics", props);
         }
 
         return root;
     }
+
+    private static int limit(Map<String, Object> options) {
+        String limit = (String) options.get(LIMIT);
+        return limit != null ? Integer.parseInt(limit) : 10;
+    }
 }
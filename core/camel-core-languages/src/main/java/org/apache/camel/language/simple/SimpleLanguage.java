@@ -17,11 +17,23 @@
 package org.apache.camel.language.simple;
 
 import java.util.Map;
-
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Predicate;
 import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.language.csimple.CSimpleCompiler;
+import org.apache.camel.language.csimple.CSimpleExpression;
 import org.apache.camel.spi.annotations.Language;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.LRUCache;
@@ -30,6 +42,7 @@ import org.apache.camel.support.LanguageSupport;
 import org.apache.camel.support.PredicateToExpressionAdapter;
 import org.apache.camel.support.ScriptHelper;
 import org.apache.camel.support.builder.ExpressionBuilder;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,6 +51,7 @@ import org.slf4j.LoggerFactory;
  * The Camel simple language.
  */
 @Language(value = "simple", functionsClass = SimpleConstants.class)
+@ManagedResource(description = "Managed SimpleLanguage")
 public class SimpleLanguage extends LanguageSupport implements StaticService {
 
     private static final Logger LOG = LoggerFactory.getLogger(SimpleLanguage.class);
@@ -45,6 +59,11 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     // singleton for expressions without a result type
     private static final SimpleLanguage SIMPLE = new SimpleLanguage();
 
+    /**
+     * Global option for the number of evaluations before a simple expression or predicate is compiled
+     */
+    public static final String COMPILE_THRESHOLD = "CamelSimpleCompileThreshold";
+
     // a special prefix to avoid cache clash
     private static final String CACHE_KEY_PREFIX = "@SIMPLE@";
 
@@ -54,12 +73,66 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     private Map<String, Expression> cacheExpression;
     private Map<String, Predicate> cachePredicate;
 
+    // runtime compilation of hot expressions (requires camel-csimple-joor)
+    private int compileThreshold;
+    private int compileCacheSize = 1000;
+    private boolean compilerInitialized;
+    private CSimpleCompiler compiler;
+    private volatile ExecutorService compileExecutor;
+    private Map<String, CSimpleExpression> cacheCompiled;
+    private final LongAdder compiledCounter = new LongAdder();
+    private final LongAdder compileFailedCounter = new LongAdder();
+    private final LongAdder compiledHits = new LongAdder();
+
     /**
      * Default constructor.
      */
     public SimpleLanguage() {
     }
 
+    @ManagedAttribute(description = "Number of evaluations before an expression is compiled (0 = disabled)")
+    public int getCompileThreshold() {
+        return compileThreshold;
+    }
+
+    /**
+     * Number of evaluations of the same simple expression or predicate, before it's compiled to bytecode at runtime.
+     * This requires camel-csimple-joor on the classpath, and an expression that cannot be compiled continues to be
+     * evaluated by the simple language as usual. The expressions are compiled by a background thread, and the parsed
+     * expression is used until the compiled expression is ready.
+     * <p/>
+     * Is default 0 which means compilation is disabled. This can also be configured using the
+     * {@link #COMPILE_THRESHOLD} global option.
+     */
+    public void setCompileThreshold(int compileThreshold) {
+        this.compileThreshold = compileThreshold;
+    }
+
+    /**
+     * Number of expressions and predicates that has been compiled at runtime
+     */
+    @ManagedAttribute(description = "Number of expressions and predicates that has been compiled at runtime")
+    public long getCompiledCounter() {
+        return compiledCounter.sum();
+    }
+
+    /**
+     * Number of expressions and predicates that could not be compiled at runtime, and are evaluated by the simple
+     * language
+     */
+    @ManagedAttribute(description = "Number of expressions and predicates that could not be compiled at runtime")
+    public long getCompileFailedCounter() {
+        return compileFailedCounter.sum();
+    }
+
+    /**
+     * Number of evaluations that was done by compiled expressions and predicates
+     */
+    @ManagedAttribute(description = "Number of evaluations that was done by compiled expressions and predicates")
+    public long getCompiledHits() {
+        return compiledHits.sum();
+    }
+
     @Override
     public void init() {
         // setup cache which requires CamelContext to be set first
@@ -72,7 +145,52 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
             } else {
                 LOG.debug("Simple language disabled predicate/expression cache");
             }
+            // the compiled cache is bounded even if the expression cache is disabled
+            if (maxSize > 0) {
+                compileCacheSize = maxSize;
+            }
+            String threshold = getCamelContext().getGlobalOption(COMPILE_THRESHOLD);
+            if (threshold != null) {
+                compileThreshold = Integer.parseInt(threshold);
+            }
+        }
+    }
+
+    /**
+     * Initializes the compiler the first time an expression that can be compiled is created.
+     *
+     * @return true if the compiler is available
+     */
+    private synchronized boolean initCompiler() {
+        if (!compilerInitialized) {
+            compilerInitialized = true;
+
+            // detect custom compiler (camel-csimple-joor)
+            CamelContext ecc = getCamelContext();
+            Optional<Class<?>> clazz
+                    = ecc.getCamelContextExtension().getBootstrapFactoryFinder().findClass(CSimpleCompiler.FACTORY);
+            if (clazz.isPresent()) {
+                compiler = (CSimpleCompiler) ecc.getInjector().newInstance(clazz.get(), false);
+            }
+            if (compiler == null) {
+                LOG.warn("Simple language cannot compile expressions as camel-csimple-joor is not on the classpath");
+                return false;
+            }
+            CamelContextAware.trySetCamelContext(compiler, ecc);
+            ServiceHelper.startService(compiler);
+            cacheCompiled = LRUCacheFactory.newLRUCache(16, compileCacheSize, false);
+            compileExecutor = ecc.getExecutorServiceManager().newSingleThreadExecutor(this, "SimpleLanguageCompiler");
+            LOG.info("Simple language compiles expressions after {} evaluations using compiler: {}", compileThreshold,
+                    compiler);
+            try {
+                // register as service so the compile statistics are available from JMX
+                ecc.addService(this, false);
+            } catch (Exception e) {
+                LOG.debug("Cannot add simple language as service due to: {}. This exception is ignored.", e.getMessage(),
+                        e);
+            }
         }
+        return compiler != null;
     }
 
     @Override
@@ -80,10 +198,29 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         if (getCamelContext() != null) {
             SIMPLE.setCamelContext(getCamelContext());
         }
+        synchronized (this) {
+            if (compiler != null && compileExecutor == null) {
+                ServiceHelper.startService(compiler);
+                compileExecutor = getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this,
+                        "SimpleLanguageCompiler");
+            }
+        }
     }
 
     @Override
     public void stop() {
+        synchronized (this) {
+            if (compileExecutor != null) {
+                getCamelContext().getExecutorServiceManager().shutdownNow(compileExecutor);
+                compileExecutor = null;
+            }
+        }
+        ServiceHelper.stopService(compiler);
+        if (cacheCompiled != null) {
+            LOG.debug("Clearing simple language compiled cache[size={}, compiled={}, failed={}, hits={}]",
+                    cacheCompiled.size(), getCompiledCounter(), getCompileFailedCounter(), getCompiledHits());
+            cacheCompiled.clear();
+        }
         if (cachePredicate instanceof LRUCache<String, Predicate> cache) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Clearing simple language predicate cache[size={}, hits={}, misses={}, evicted={}]",
@@ -125,6 +262,9 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
             SimplePredicateParser parser
                     = new SimplePredicateParser(getCamelContext(), expression, allowEscape, cacheExpression);
             answer = parser.parsePredicate();
+            if (answer != null && isCompilable(expression)) {
+                answer = new CompilablePredicate(expression, answer);
+            }
 
             if (cachePredicate != null && answer != null) {
                 cachePredicate.put(key, answer);
@@ -184,6 +324,9 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
             SimpleExpressionParser parser
                     = new SimpleExpressionParser(getCamelContext(), expression, allowEscape, cacheExpression);
             answer = parser.parseExpression();
+            if (answer != null && isCompilable(expression)) {
+                answer = new CompilableExpression(expression, answer);
+            }
 
             if (cacheExpression != null && answer != null) {
                 cacheExpression.put(key, answer);
@@ -207,6 +350,142 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         }
     }
 
+    private boolean isCompilable(String expression) {
+        // only expressions with functions are worth compiling
+        return compileThreshold > 0 && getCamelContext() != null
+                && (expression.contains("${") || expression.contains("$simple{"))
+                && initCompiler();
+    }
+
+    /**
+     * Compiles the expression (called by the compile thread).
+     *
+     * @return           the compiled expression, or null if not compiled
+     * @throws Exception is thrown if compilation failed
+     */
+    private CSimpleExpression compile(String text, boolean predicate) throws Exception {
+        String key = (predicate ? "predicate:" : "expression:") + text;
+        CSimpleExpression answer = cacheCompiled.get(key);
+        if (answer != null) {
+            return answer;
+        }
+        answer = predicate
+                ? compiler.compilePredicate(getCamelContext(), text)
+                : compiler.compileExpression(getCamelContext(), text);
+        if (answer != null) {
+            answer.init(getCamelContext());
+            cacheCompiled.put(key, answer);
+            compiledCounter.increment();
+        }
+        return answer;
+    }
+
+    /**
+     * Evaluates the parsed simple expression until it has been evaluated the number of times of the compile threshold,
+     * and then compiles it in the background, and use the compiled expression from then on.
+     */
+    private abstract class CompilableSupport {
+        final String text;
+        final boolean predicate;
+        private final AtomicInteger evaluations = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile CSimpleExpression compiled;
+
+        CompilableSupport(String text, boolean predicate) {
+            this.text = text;
+            this.predicate = predicate;
+        }
+
+        CSimpleExpression compiled() {
+            CSimpleExpression answer = compiled;
+            if (answer != null) {
+                compiledHits.increment();
+                return answer;
+            }
+            if (!scheduled.get() && evaluations.incrementAndGet() >= compileThreshold
+                    && scheduled.compareAndSet(false, true)) {
+                scheduleCompile();
+            }
+            // the parsed simple expression is used until compiled
+            return null;
+        }
+
+        private void scheduleCompile() {
+            ExecutorService executor = compileExecutor;
+            if (executor == null) {
+                // not started so try again later
+                scheduled.set(false);
+                return;
+            }
+            try {
+                executor.execute(this::doCompile);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+
+        private void doCompile() {
+            try {
+                compiled = compile(text, predicate);
+            } catch (Exception e) {
+                // fallback to the parsed simple expression
+                compileFailedCounter.increment();
+                LOG.debug("Cannot compile simple {}: {} due to: {}. This exception is ignored.",
+                        predicate ? "predicate" : "expression", text, e.getMessage(), e);
+            }
+        }
+    }
+
+    private class CompilableExpression extends CompilableSupport implements Expression {
+        private final Expression delegate;
+
+        CompilableExpression(String text, Expression delegate) {
+            super(text, false);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+
+        @Override
+        public void init(CamelContext context) {
+            delegate.init(context);
+        }
+
+        @Override
+        public <T> T evaluate(Exchange exchange, Class<T> type) {
+            CSimpleExpression exp = compiled();
+            return exp != null ? exp.evaluate(exchange, type) : delegate.evaluate(exchange, type);
+        }
+    }
+
+    private class CompilablePredicate extends CompilableSupport implements Predicate {
+        private final Predicate delegate;
+
+        CompilablePredicate(String text, Predicate delegate) {
+            super(text, true);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+
+        @Override
+        public void init(CamelContext context) {
+            delegate.init(context);
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            CSimpleExpression exp = compiled();
+            return exp != null ? exp.matches(exchange) : delegate.matches(exchange);
+        }
+    }
+
     private class SimplePredicate implements Predicate {
         private final String text;
 
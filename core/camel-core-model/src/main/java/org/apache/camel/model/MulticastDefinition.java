@@ -22,11 +22,13 @@ import java.util.concurrent.ExecutorService;
 import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlElementRef;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.XmlTransient;
 
 import org.apache.camel.AggregationStrategy;
+import org.apache.camel.Expression;
 import org.apache.camel.Processor;
 import org.apache.camel.builder.AggregationStrategyClause;
 import org.apache.camel.builder.ProcessClause;
@@ -76,6 +78,9 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.time.Duration", defaultValue = "0")
     private String timeout;
+    @XmlElement
+    @Metadata(label = "advanced")
+    private ExpressionSubElementDefinition correlationExpression;
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
@@ -103,6 +108,8 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.streaming = source.streaming;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
+        this.correlationExpression
+                = source.correlationExpression != null ? source.correlationExpression.copyDefinition() : null;
         this.executorService = source.executorService;
         this.onPrepare = source.onPrepare;
         this.shareUnitOfWork = source.shareUnitOfWork;
@@ -462,6 +469,21 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         return this;
     }
 
+    /**
+     * An expression to calculate a correlation key for each multicasted message, when using parallel processing. The
+     * messages with the same correlation key are processed one at a time in the order of the processors, while messages
+     * with different correlation keys are processed in parallel.
+     *
+     * @param  correlationExpression the expression to calculate the correlation key
+     * @return                       the builder
+     */
+    public MulticastDefinition correlationExpression(Expression correlationExpression) {
+        ExpressionSubElementDefinition cor = new ExpressionSubElementDefinition();
+        cor.setExpressionType(ExpressionNodeHelper.toExpressionDefinition(correlationExpression));
+        setCorrelationExpression(cor);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and each of the sub messages. Multicast will
      * by default not share unit of work between the parent exchange and each multicasted exchange. This means each sub
@@ -590,6 +612,14 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.timeout = timeout;
     }
 
+    public ExpressionSubElementDefinition getCorrelationExpression() {
+        return correlationExpression;
+    }
+
+    public void setCorrelationExpression(ExpressionSubElementDefinition correlationExpression) {
+        this.correlationExpression = correlationExpression;
+    }
+
     public String getShareUnitOfWork() {
         return shareUnitOfWork;
     }
@@ -18,9 +18,11 @@ package org.apache.camel.model;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAttribute;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlElementRef;
 import jakarta.xml.bind.annotation.XmlElements;
@@ -42,12 +44,15 @@ import org.apache.camel.util.TimeUtils;
 @Metadata(label = "eip,routing")
 @XmlRootElement(name = "resequence")
 @XmlAccessorType(XmlAccessType.FIELD)
-public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition> implements HasExpressionType {
+public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
+        implements HasExpressionType, ExecutorServiceAwareDefinition<ResequenceDefinition> {
 
     @XmlTransient
     private BatchResequencerConfig batchConfig;
     @XmlTransient
     private StreamResequencerConfig streamConfig;
+    @XmlTransient
+    private ExecutorService executorServiceBean;
 
     @XmlElements({
             @XmlElement(name = "batchConfig", type = BatchResequencerConfig.class),
@@ -56,6 +61,9 @@ public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
     @XmlElementRef
     @Metadata(required = true)
     private ExpressionDefinition expression;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.util.concurrent.ScheduledExecutorService")
+    private String executorService;
 
     public ResequenceDefinition() {
     }
@@ -66,6 +74,8 @@ public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
         this.streamConfig = source.streamConfig != null ? source.streamConfig.copyDefinition() : null;
         this.resequencerConfig = source.resequencerConfig != null ? source.resequencerConfig.copyDefinition() : null;
         this.expression = source.expression != null ? source.expression.copyDefinition() : null;
+        this.executorServiceBean = source.executorServiceBean;
+        this.executorService = source.executorService;
     }
 
     public ResequenceDefinition(Expression expression) {
@@ -303,6 +313,25 @@ public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
         return this;
     }
 
+    /**
+     * To use a custom Thread Pool for sending the batches of the batch resequencer. The thread pool must be a
+     * {@link java.util.concurrent.ScheduledExecutorService}.
+     */
+    @Override
+    public ResequenceDefinition executorService(ExecutorService executorService) {
+        this.executorServiceBean = executorService;
+        return this;
+    }
+
+    /**
+     * Refers to a custom Thread Pool for sending the batches of the batch resequencer.
+     */
+    @Override
+    public ResequenceDefinition executorService(String executorService) {
+        setExecutorService(executorService);
+        return this;
+    }
+
     @Override
     public String toString() {
         return "Resequencer[" + getExpression() + " -> " + getOutputs() + "]";
@@ -370,6 +399,28 @@ public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
         setExpression(new ExpressionDefinition(expression));
     }
 
+    @Override
+    public ExecutorService getExecutorServiceBean() {
+        return executorServiceBean;
+    }
+
+    @Override
+    public String getExecutorServiceRef() {
+        return executorService;
+    }
+
+    public String getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Refers to a custom Thread Pool for sending the batches of the batch resequencer. By default a thread pool which
+     * is shared by the resequencers is used.
+     */
+    public void setExecutorService(String executorService) {
+        this.executorService = executorService;
+    }
+
     @Override
     public ExpressionDefinition getExpressionType() {
         return getExpression();
@@ -21,6 +21,7 @@ import java.util.concurrent.ExecutorService;
 import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.XmlTransient;
 
@@ -76,6 +77,12 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.time.Duration", defaultValue = "0")
     private String timeout;
+    @XmlElement
+    @Metadata(label = "advanced")
+    private ExpressionSubElementDefinition correlationExpression;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String maxInflight;
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
@@ -104,6 +111,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = source.streaming;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
+        this.correlationExpression
+                = source.correlationExpression != null ? source.correlationExpression.copyDefinition() : null;
+        this.maxInflight = source.maxInflight;
         this.executorService = source.executorService;
         this.onPrepare = source.onPrepare;
         this.shareUnitOfWork = source.shareUnitOfWork;
@@ -534,6 +544,51 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages that can be inflight at the same time, when using parallel processing.
+     * A split message is inflight from when it has been split until it has been aggregated. When the limit is reached,
+     * then the Splitter waits for an inflight split message to complete before splitting the next message. This allows
+     * to bound the memory used when splitting big payloads in streaming mode with slow processing of the split
+     * messages. The default value is 0, which means no limit.
+     *
+     * @param  maxInflight the maximum number of inflight split messages
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of split messages that can be inflight at the same time, when using parallel processing.
+     * A split message is inflight from when it has been split until it has been aggregated. When the limit is reached,
+     * then the Splitter waits for an inflight split message to complete before splitting the next message. This allows
+     * to bound the memory used when splitting big payloads in streaming mode with slow processing of the split
+     * messages. The default value is 0, which means no limit.
+     *
+     * @param  maxInflight the maximum number of inflight split messages
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
+    /**
+     * An expression to calculate a correlation key for each split message, when using parallel processing. The split
+     * messages with the same correlation key are processed one at a time in the order they were split, while split
+     * messages with different correlation keys are processed in parallel. This allows to use parallel processing while
+     * keeping the order of the messages per key, such as per customer.
+     *
+     * @param  correlationExpression the expression to calculate the correlation key
+     * @return                       the builder
+     */
+    public SplitDefinition correlationExpression(Expression correlationExpression) {
+        ExpressionSubElementDefinition cor = new ExpressionSubElementDefinition();
+        cor.setExpressionType(ExpressionNodeHelper.toExpressionDefinition(correlationExpression));
+        setCorrelationExpression(cor);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and each of the sub messages. Splitter will by
      * default not share unit of work between the parent exchange and each split exchange. This means each split
@@ -702,6 +757,22 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.timeout = timeout;
     }
 
+    public ExpressionSubElementDefinition getCorrelationExpression() {
+        return correlationExpression;
+    }
+
+    public void setCorrelationExpression(ExpressionSubElementDefinition correlationExpression) {
+        this.correlationExpression = correlationExpression;
+    }
+
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     public String getOnPrepare() {
         return onPrepare;
     }
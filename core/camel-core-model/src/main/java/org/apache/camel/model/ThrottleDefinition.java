@@ -30,6 +30,7 @@ import org.apache.camel.Expression;
 import org.apache.camel.builder.ExpressionBuilder;
 import org.apache.camel.model.language.ExpressionDefinition;
 import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.TokenBucketRepository;
 
 /**
  * Controls the rate at which messages are passed to the next node in the route
@@ -42,10 +43,12 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
 
     @XmlTransient
     private ExecutorService executorServiceBean;
+    @XmlTransient
+    private TokenBucketRepository tokenBucketRepositoryBean;
 
     @XmlAttribute
     @Metadata(javaType = "org.apache.camel.model.ThrottlingMode", defaultValue = "TotalRequests",
-              enums = "TotalRequests,ConcurrentRequests")
+              enums = "TotalRequests,ConcurrentRequests,AdaptiveConcurrentRequests,TokenBucket")
     private String mode;
     @XmlElement(name = "correlationExpression")
     private ExpressionSubElementDefinition correlationExpression;
@@ -64,6 +67,12 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(defaultValue = "1000", javaType = "java.time.Duration")
     private String timePeriodMillis;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String burstCapacity;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "org.apache.camel.spi.TokenBucketRepository")
+    private String tokenBucketRepository;
 
     public ThrottleDefinition() {
         totalRequestsMode();
@@ -72,6 +81,7 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     protected ThrottleDefinition(ThrottleDefinition source) {
         super(source);
         this.executorServiceBean = source.executorServiceBean;
+        this.tokenBucketRepositoryBean = source.tokenBucketRepositoryBean;
         this.mode = source.mode;
         this.correlationExpression
                 = source.correlationExpression != null ? source.correlationExpression.copyDefinition() : null;
@@ -80,6 +90,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.callerRunsWhenRejected = source.callerRunsWhenRejected;
         this.rejectExecution = source.rejectExecution;
         this.timePeriodMillis = source.timePeriodMillis;
+        this.burstCapacity = source.burstCapacity;
+        this.tokenBucketRepository = source.tokenBucketRepository;
     }
 
     public ThrottleDefinition(Expression maximumRequestsPerPeriod) {
@@ -117,14 +129,26 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    public ThrottleDefinition adaptiveConcurrentRequestsMode() {
+        this.mode = ThrottlingMode.AdaptiveConcurrentRequests.name();
+        return this;
+    }
+
+    public ThrottleDefinition tokenBucketMode() {
+        this.mode = ThrottlingMode.TokenBucket.name();
+        return this;
+    }
+
     @Override
     public String toString() {
         return "Throttle[" + description() + "]";
     }
 
     protected String description() {
-        if (mode.equals(ThrottlingMode.TotalRequests.name())) {
+        if (mode.equals(ThrottlingMode.TotalRequests.name()) || mode.equals(ThrottlingMode.TokenBucket.name())) {
             return getExpression() + " request per " + getTimePeriodMillis() + " millis";
+        } else if (mode.equals(ThrottlingMode.AdaptiveConcurrentRequests.name())) {
+            return getExpression() + " maximum adaptive concurrent requests";
         } else {
             return getExpression() + " maximum concurrent requests";
         }
@@ -251,6 +275,57 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Sets the maximum number of requests which can be sent in a burst, when using token bucket mode.
+     * <p/>
+     * Is by default the maximum number of requests per time period
+     *
+     * @param  burstCapacity the maximum number of requests in a burst
+     * @return               the builder
+     */
+    public ThrottleDefinition burstCapacity(int burstCapacity) {
+        return burstCapacity(Integer.toString(burstCapacity));
+    }
+
+    /**
+     * Sets the maximum number of requests which can be sent in a burst, when using token bucket mode.
+     * <p/>
+     * Is by default the maximum number of requests per time period
+     *
+     * @param  burstCapacity the maximum number of requests in a burst
+     * @return               the builder
+     */
+    public ThrottleDefinition burstCapacity(String burstCapacity) {
+        setBurstCapacity(burstCapacity);
+        return this;
+    }
+
+    /**
+     * To use a custom repository for the token buckets, when using token bucket mode.
+     * <p/>
+     * Will by default use {@link org.apache.camel.support.processor.throttle.MemoryTokenBucketRepository}
+     *
+     * @param  tokenBucketRepository the token bucket repository to use
+     * @return                       the builder
+     */
+    public ThrottleDefinition tokenBucketRepository(TokenBucketRepository tokenBucketRepository) {
+        this.tokenBucketRepositoryBean = tokenBucketRepository;
+        return this;
+    }
+
+    /**
+     * To use a custom repository for the token buckets, when using token bucket mode.
+     * <p/>
+     * Will by default use {@link org.apache.camel.support.processor.throttle.MemoryTokenBucketRepository}
+     *
+     * @param  tokenBucketRepository reference to the repository to lookup in the registry
+     * @return                       the builder
+     */
+    public ThrottleDefinition tokenBucketRepository(String tokenBucketRepository) {
+        setTokenBucketRepository(tokenBucketRepository);
+        return this;
+    }
+
     /**
      * Whether or not the caller should run the task when it was rejected by the thread pool.
      * <p/>
@@ -358,8 +433,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *              `ConcurrentRequests`
+     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *              `ConcurrentRequests`, `AdaptiveConcurrentRequests` or `TokenBucket`
      * @see         ThrottlingMode
      * @return      the builder
      */
@@ -392,21 +467,56 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     }
 
     public String getTimePeriodMillis() {
-        if (ThrottlingMode.toMode(mode) == ThrottlingMode.TotalRequests) {
+        if (isTimePeriodMode()) {
             return timePeriodMillis;
         }
 
-        throw new IllegalArgumentException("Time period in millis can only be obtained when using total requests mode");
+        throw new IllegalArgumentException(
+                "Time period in millis can only be obtained when using total requests or token bucket mode");
     }
 
     public void setTimePeriodMillis(String timePeriodMillis) {
-        if (ThrottlingMode.toMode(mode) == ThrottlingMode.TotalRequests) {
+        if (isTimePeriodMode()) {
             this.timePeriodMillis = timePeriodMillis;
         } else {
-            throw new IllegalArgumentException("Time period in millis can only be set when using total requests mode");
+            throw new IllegalArgumentException(
+                    "Time period in millis can only be set when using total requests or token bucket mode");
         }
     }
 
+    private boolean isTimePeriodMode() {
+        ThrottlingMode answer = ThrottlingMode.toMode(mode);
+        return answer == ThrottlingMode.TotalRequests || answer == ThrottlingMode.TokenBucket;
+    }
+
+    public String getBurstCapacity() {
+        return burstCapacity;
+    }
+
+    /**
+     * The maximum number of requests which can be sent in a burst, when using token bucket mode. Is by default the
+     * maximum number of requests per time period.
+     */
+    public void setBurstCapacity(String burstCapacity) {
+        this.burstCapacity = burstCapacity;
+    }
+
+    public TokenBucketRepository getTokenBucketRepositoryBean() {
+        return tokenBucketRepositoryBean;
+    }
+
+    public String getTokenBucketRepository() {
+        return tokenBucketRepository;
+    }
+
+    /**
+     * Sets a reference to the repository for the token buckets, when using token bucket mode. A repository kept in a
+     * shared backend allows several applications to share the same rate limit.
+     */
+    public void setTokenBucketRepository(String tokenBucketRepository) {
+        this.tokenBucketRepository = tokenBucketRepository;
+    }
+
     public String getAsyncDelayed() {
         return asyncDelayed;
     }
@@ -458,8 +568,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *             `ConcurrentRequests`
+     * @param mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *             `ConcurrentRequests`, `AdaptiveConcurrentRequests` or `TokenBucket`
      * @see        ThrottlingMode
      */
     public void setMode(String mode) {
@@ -32,12 +32,30 @@ public enum ThrottlingMode {
      * Uses a throttling mode that uses a leaky-bucket algorithm to limit the outflow based on a maximum number of
      * concurrent requests
      */
-    ConcurrentRequests;
+    ConcurrentRequests,
+
+    /**
+     * Uses a throttling mode that limits the number of concurrent requests, where the limit is automatically adjusted
+     * from the measured latency of the requests, up to a maximum number of concurrent requests
+     */
+    AdaptiveConcurrentRequests,
+
+    /**
+     * Uses a throttling mode that uses a token-bucket algorithm, which allows bursts of requests while keeping the
+     * average rate at a maximum number of requests over defined period of time
+     */
+    TokenBucket;
 
     public static ThrottlingMode toMode(String mode) {
         if (mode.equals(ThrottlingMode.TotalRequests.name())) {
             return ThrottlingMode.TotalRequests;
         }
+        if (mode.equals(ThrottlingMode.AdaptiveConcurrentRequests.name())) {
+            return ThrottlingMode.AdaptiveConcurrentRequests;
+        }
+        if (mode.equals(ThrottlingMode.TokenBucket.name())) {
+            return ThrottlingMode.TokenBucket;
+        }
 
         return ThrottlingMode.ConcurrentRequests;
     }
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.spi.Synchronization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> which limits the number of message exchanges which
+ * can be processed concurrently, where the limit is automatically adjusted from the measured round trip time of the
+ * exchanges (the time from passing the throttler until the exchange is completed).
+ * <p/>
+ * The limit is adjusted using a gradient algorithm, similar to TCP Vegas congestion control. The gradient is the ratio
+ * between a long term average of the round trip time and the latest round trip time. When the round trip time
+ * increases, because the downstream system is saturated, then the limit is decreased. When the round trip time is
+ * steady, then the limit is increased, to probe whether more capacity is available downstream.
+ * <p/>
+ * The maximum requests expression is the upper bound of the limit, and the limit starts at
+ * {@link #DEFAULT_INITIAL_LIMIT} or the upper bound if lower. Exchanges which exceed the current limit are blocked,
+ * delayed asynchronously or rejected, just as with the {@link ConcurrentRequestsThrottler}.
+ */
+public class AdaptiveConcurrentRequestsThrottler extends ConcurrentRequestsThrottler {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveConcurrentRequestsThrottler.class);
+
+    // the round trip time may increase by this factor before the limit is decreased
+    private static final double RTT_TOLERANCE = 1.5;
+    // the long term average is over roughly the last 600 round trip times
+    private static final double LONG_RTT_FACTOR = 2.0 / 601;
+    // the limit moves 20% towards the newly calculated limit on each round trip
+    private static final double SMOOTHING = 0.2;
+
+    public AdaptiveConcurrentRequestsThrottler(final CamelContext camelContext, final Expression maxRequestsExpression,
+                                               final ScheduledExecutorService asyncExecutor,
+                                               final boolean shutdownAsyncExecutor,
+                                               final boolean rejectExecution, Expression correlation) {
+        super(camelContext, maxRequestsExpression, asyncExecutor, shutdownAsyncExecutor, rejectExecution, correlation);
+    }
+
+    @Override
+    protected ThrottlingState createThrottlingState(String key) {
+        return new AdaptiveThrottlingState(key);
+    }
+
+    @Override
+    public String getMode() {
+        return "AdaptiveConcurrentRequests";
+    }
+
+    /**
+     * Gets the measured round trip time in millis. If it is grouped throttling applied with correlationExpression then
+     * the highest round trip time within the groups will be returned
+     */
+    public long getRoundTripTime() {
+        long nanos = getStates().values().stream()
+                .mapToLong(s -> ((AdaptiveThrottlingState) s).getRoundTripTime()).max().orElse(0);
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Gets the upper bound of the limit. If it is grouped throttling applied with correlationExpression then the max
+     * within the groups will be returned
+     */
+    public int getMaximumLimit() {
+        return getStates().values().stream()
+                .mapToInt(s -> ((AdaptiveThrottlingState) s).getMaximumLimit()).max().orElse(0);
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[adaptive " + getMaximumRequestsExpression() + "]";
+    }
+
+    protected class AdaptiveThrottlingState extends ThrottlingState {
+        private final Lock limitLock = new ReentrantLock();
+        private final AtomicInteger inflight = new AtomicInteger();
+        private volatile int maximumLimit;
+        private volatile long roundTripTime;
+        private double limit;
+        private double longRoundTripTime;
+
+        AdaptiveThrottlingState(String key) {
+            super(key);
+        }
+
+        public int getMaximumLimit() {
+            return maximumLimit;
+        }
+
+        public long getRoundTripTime() {
+            return roundTripTime;
+        }
+
+        /**
+         * Evaluates the maxConcurrentRequestsExpression as the upper bound of the limit.
+         */
+        @Override
+        public void calculateAndSetMaxConcurrentRequestsExpression(final Exchange exchange) throws Exception {
+            Integer newMaximum = getMaximumRequestsExpression().evaluate(exchange, Integer.class);
+
+            if (newMaximum != null && newMaximum < 0) {
+                throw new IllegalStateException(
+                        "The maximumConcurrentRequests must be a positive number, was: " + newMaximum);
+            }
+
+            if (newMaximum == null && maximumLimit == 0) {
+                throw new RuntimeExchangeException(
+                        "The maxConcurrentRequestsExpression was evaluated as null: " + getMaximumRequestsExpression(),
+                        exchange);
+            }
+
+            if (newMaximum != null && newMaximum != maximumLimit) {
+                limitLock.lock();
+                try {
+                    if (limit == 0) {
+                        limit = Math.min(DEFAULT_INITIAL_LIMIT, newMaximum);
+                    } else {
+                        limit = Math.min(limit, newMaximum);
+                    }
+                    maximumLimit = newMaximum;
+                    adjustThrottleRate((int) limit, exchange);
+                } finally {
+                    limitLock.unlock();
+                }
+            }
+        }
+
+        @Override
+        protected void addSynchronization(final Exchange exchange) {
+            final long start = System.nanoTime();
+            inflight.incrementAndGet();
+            exchange.getExchangeExtension().addOnCompletion(new Synchronization() {
+                @Override
+                public void onComplete(Exchange exchange) {
+                    done(exchange, start);
+                }
+
+                @Override
+                public void onFailure(Exchange exchange) {
+                    done(exchange, start);
+                }
+            });
+        }
+
+        private void done(Exchange exchange, long start) {
+            int current = inflight.getAndDecrement();
+            update(exchange, System.nanoTime() - start, current);
+            release(exchange);
+        }
+
+        /**
+         * Calculates the new limit from the round trip time of the completed exchange.
+         */
+        private void update(Exchange exchange, long rtt, int inflight) {
+            limitLock.lock();
+            try {
+                roundTripTime = rtt;
+                if (longRoundTripTime == 0) {
+                    longRoundTripTime = rtt;
+                } else {
+                    longRoundTripTime = longRoundTripTime * (1 - LONG_RTT_FACTOR) + rtt * LONG_RTT_FACTOR;
+                }
+                // the round trip time has dropped a lot, so let the long term average catch up faster
+                if (longRoundTripTime > 2.0 * rtt) {
+                    longRoundTripTime = longRoundTripTime * 0.95;
+                }
+
+                double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRoundTripTime / Math.max(rtt, 1)));
+                // allow a small queue of exchanges, so the limit can grow when the round trip time is steady
+                double newLimit = limit * gradient + Math.sqrt(limit);
+                newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+                newLimit = Math.max(1, Math.min(maximumLimit, newLimit));
+                // do not increase the limit when not using it, as then the round trip time tells nothing about it
+                if (newLimit > limit && inflight < limit / 2) {
+                    return;
+                }
+
+                if ((int) newLimit != (int) limit) {
+                    LOG.trace("Adjusting limit from {} to {} with round trip time: {}ns (long term: {}ns)", (int) limit,
+                            (int) newLimit, rtt, (long) longRoundTripTime);
+                    adjustThrottleRate((int) newLimit, exchange);
+                }
+                limit = newLimit;
+            } finally {
+                limitLock.unlock();
+            }
+        }
+    }
+}
@@ -107,7 +107,7 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
         if (correlationExpression != null) {
             key = correlationExpression.evaluate(exchange, String.class);
         }
-        ThrottlingState throttlingState = states.computeIfAbsent(key, ThrottlingState::new);
+        ThrottlingState throttlingState = states.computeIfAbsent(key, this::createThrottlingState);
         throttlingState.calculateAndSetMaxConcurrentRequestsExpression(exchange);
 
         if (!throttlingState.tryAcquire(exchange)) {
@@ -216,6 +216,14 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
         super.doShutdown();
     }
 
+    protected ThrottlingState createThrottlingState(String key) {
+        return new ThrottlingState(key);
+    }
+
+    protected Map<String, ThrottlingState> getStates() {
+        return states;
+    }
+
     protected class ThrottlingState {
         private final String key;
         private final Lock lock = new ReentrantLock();
@@ -249,7 +257,7 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
             addSynchronization(exchange);
         }
 
-        private void addSynchronization(final Exchange exchange) {
+        protected void addSynchronization(final Exchange exchange) {
             exchange.getExchangeExtension().addOnCompletion(new Synchronization() {
                 @Override
                 public void onComplete(Exchange exchange) {
@@ -302,36 +310,48 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
                 }
 
                 if (newThrottle != null) {
-                    if (newThrottle != throttleRate) {
-                        // decrease
-                        if (throttleRate > newThrottle) {
-                            int delta = throttleRate - newThrottle;
+                    adjustThrottleRate(newThrottle, exchange);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
 
-                            // discard any permits that are needed to decrease throttling
-                            semaphore.reducePermits(delta);
+        /**
+         * Adjusts the throttle rate up or down, by adding or discarding permits.
+         */
+        protected void adjustThrottleRate(int newThrottle, final Exchange exchange) {
+            lock.lock();
+            try {
+                if (newThrottle != throttleRate) {
+                    // decrease
+                    if (throttleRate > newThrottle) {
+                        int delta = throttleRate - newThrottle;
+
+                        // discard any permits that are needed to decrease throttling
+                        semaphore.reducePermits(delta);
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Throttle rate decreased from {} to {}, triggered by ExchangeId: {}", throttleRate,
+                                    newThrottle, exchange.getExchangeId());
+                        }
+
+                        // increase
+                    } else if (newThrottle > throttleRate) {
+                        int delta = newThrottle - throttleRate;
+                        semaphore.increasePermits(delta);
+                        if (throttleRate == 0) {
                             if (LOG.isDebugEnabled()) {
-                                LOG.debug("Throttle rate decreased from {} to {}, triggered by ExchangeId: {}", throttleRate,
-                                        newThrottle, exchange.getExchangeId());
+                                LOG.debug("Initial throttle rate set to {}, triggered by ExchangeId: {}", newThrottle,
+                                        exchange.getExchangeId());
                             }
-
-                            // increase
-                        } else if (newThrottle > throttleRate) {
-                            int delta = newThrottle - throttleRate;
-                            semaphore.increasePermits(delta);
-                            if (throttleRate == 0) {
-                                if (LOG.isDebugEnabled()) {
-                                    LOG.debug("Initial throttle rate set to {}, triggered by ExchangeId: {}", newThrottle,
-                                            exchange.getExchangeId());
-                                }
-                            } else {
-                                if (LOG.isDebugEnabled()) {
-                                    LOG.debug("Throttle rate increase from {} to {}, triggered by ExchangeId: {}", throttleRate,
-                                            newThrottle, exchange.getExchangeId());
-                                }
+                        } else {
+                            if (LOG.isDebugEnabled()) {
+                                LOG.debug("Throttle rate increase from {} to {}, triggered by ExchangeId: {}", throttleRate,
+                                        newThrottle, exchange.getExchangeId());
                             }
                         }
-                        throttleRate = newThrottle;
                     }
+                    throttleRate = newThrottle;
                 }
             } finally {
                 lock.unlock();
@@ -45,6 +45,7 @@ import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.Expression;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
@@ -172,6 +173,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private final Collection<Processor> processors;
     private final AggregationStrategy aggregationStrategy;
     private final boolean parallelProcessing;
+    private Expression correlationExpression;
+    private int maxInflight;
     private boolean synchronous;
     private final boolean streaming;
     private final boolean parallelAggregate;
@@ -285,6 +288,33 @@ public class MulticastProcessor extends AsyncProcessorSupport
         this.synchronous = synchronous;
     }
 
+    public Expression getCorrelationExpression() {
+        return correlationExpression;
+    }
+
+    /**
+     * Sets an expression to calculate a correlation key for each sub exchange when using parallel processing. The sub
+     * exchanges with the same correlation key are processed one at a time in the order they were created, while sub
+     * exchanges with different keys are processed in parallel.
+     */
+    public void setCorrelationExpression(Expression correlationExpression) {
+        this.correlationExpression = correlationExpression;
+    }
+
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of sub exchanges that can be inflight at the same time when using parallel processing. A
+     * sub exchange is inflight from when it has been created until it has been aggregated, and the next sub exchange is
+     * not created until an inflight sub exchange has been aggregated when the limit is reached. Is by default 0, which
+     * means no limit.
+     */
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     @Override
     protected void doBuild() throws Exception {
         if (processorExchangeFactory != null) {
@@ -411,6 +441,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicInteger inflight = new AtomicInteger();
+        final AtomicBoolean suspended = new AtomicBoolean();
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
 
@@ -462,6 +494,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
                         doAggregate(result, exchange, original);
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
+                        } else if (maxInflight > 0 && isParallelProcessing()) {
+                            release();
                         }
                     }
                 } catch (Exception e) {
@@ -474,6 +508,28 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
         }
 
+        /**
+         * Whether there is room to send the next sub exchange, or else the task is suspended until an inflight sub
+         * exchange has been aggregated.
+         */
+        protected boolean acquire() {
+            if (maxInflight <= 0 || inflight.get() < maxInflight) {
+                return true;
+            }
+            suspended.set(true);
+            // an inflight sub exchange may have been aggregated before we were suspended
+            return inflight.get() < maxInflight && suspended.compareAndSet(true, false);
+        }
+
+        /**
+         * An inflight sub exchange has been aggregated, so resume sending the next sub exchange if suspended.
+         */
+        protected void release() {
+            if (inflight.decrementAndGet() < maxInflight && suspended.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
         protected void timeout() {
             Lock lock = this.lock;
             if (lock.tryLock()) {
@@ -569,7 +625,16 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     allSent.set(true);
                 }
 
-                completion.submit(exchangeResult -> {
+                // sub exchanges with the same correlation key are processed one at a time
+                Object key = null;
+                if (correlationExpression != null && isParallelProcessing()) {
+                    key = correlationExpression.evaluate(exchange, Object.class);
+                }
+                if (maxInflight > 0 && isParallelProcessing()) {
+                    inflight.incrementAndGet();
+                }
+
+                completion.submit(key, exchangeResult -> {
                     // compute time taken if sending to another endpoint
                     StopWatch watch = beforeSend(pair);
 
@@ -625,7 +690,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     }
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
-                if (hasNext && isParallelProcessing()) {
+                // unless too many sub exchanges are inflight, then we continue when one has been aggregated
+                if (hasNext && isParallelProcessing() && acquire()) {
                     schedule(this);
                 }
             } catch (Exception e) {
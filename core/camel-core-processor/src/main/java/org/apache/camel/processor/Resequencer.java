@@ -20,17 +20,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
@@ -44,14 +43,17 @@ import org.apache.camel.Predicate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
 import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
 import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.ExpressionComparator;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,6 +66,12 @@ public class Resequencer extends AsyncProcessorSupport implements Navigate<Proce
 
     public static final long DEFAULT_BATCH_TIMEOUT = 1000L;
     public static final int DEFAULT_BATCH_SIZE = 100;
+    /**
+     * The id of the thread pool profile for the thread pool which is shared by the resequencers of the same
+     * {@link CamelContext}, to send the batches. Register a thread pool profile with this id to configure the thread
+     * pool, otherwise the default thread pool profile is used.
+     */
+    public static final String THREAD_POOL_PROFILE_ID = "ResequencerBatchSender";
 
     private static final Logger LOG = LoggerFactory.getLogger(Resequencer.class);
 
@@ -84,6 +92,8 @@ public class Resequencer extends AsyncProcessorSupport implements Navigate<Proce
     private final AsyncProcessor processor;
     private final Collection<Exchange> collection;
     private ExceptionHandler exceptionHandler;
+    private ScheduledExecutorService executorService;
+    private boolean shutdownExecutorService;
     private BatchSender sender;
 
     public Resequencer(CamelContext camelContext, Processor processor, Expression expression) {
@@ -218,6 +228,31 @@ public class Resequencer extends AsyncProcessorSupport implements Navigate<Proce
         this.allowDuplicates = allowDuplicates;
     }
 
+    public ScheduledExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the thread pool to use for sending the batches. By default a thread pool which is shared by the resequencers
+     * of the same {@link CamelContext} is used, which is configured by the thread pool profile with the id
+     * {@link #THREAD_POOL_PROFILE_ID}.
+     */
+    public void setExecutorService(ScheduledExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public boolean isShutdownExecutorService() {
+        return shutdownExecutorService;
+    }
+
+    /**
+     * Whether to shutdown the thread pool set with {@link #setExecutorService(ScheduledExecutorService)} when this
+     * resequencer is shutdown.
+     */
+    public void setShutdownExecutorService(boolean shutdownExecutorService) {
+        this.shutdownExecutorService = shutdownExecutorService;
+    }
+
     public Predicate getCompletionPredicate() {
         return completionPredicate;
     }
@@ -338,7 +373,11 @@ public class Resequencer extends AsyncProcessorSupport implements Navigate<Proce
     @Override
     protected void doStart() throws Exception {
         ServiceHelper.startService(processor);
-        sender = new BatchSender();
+        ScheduledExecutorService pool = executorService;
+        if (pool == null) {
+            pool = BatchSenderThreadPool.getOrCreate(camelContext).getExecutorService();
+        }
+        sender = new BatchSender(pool);
         sender.start();
     }
 
@@ -355,6 +394,14 @@ public class Resequencer extends AsyncProcessorSupport implements Navigate<Proce
         ServiceHelper.stopService(processor);
     }
 
+    @Override
+    protected void doShutdown() throws Exception {
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+        }
+        super.doShutdown();
+    }
+
     /**
      * Enqueues an exchange for later batch processing.
      */
@@ -406,114 +453,118 @@ public class Resequencer extends AsyncProcessorSupport implements Navigate<Proce
     }
 
     /**
-     * Sender thread for queued-up exchanges.
+     * Sender for queued-up exchanges, which runs on a shared scheduled thread pool, instead of a dedicated thread.
+     * <p/>
+     * Exchanges are enqueued without locking, and are only drained to the collection, which orders them, when the batch
+     * is completed by its size, the completion predicate or the batch timeout. At most one task is sending exchanges at
+     * any time, so the exchanges are sent in order.
      */
-    private class BatchSender extends Thread {
+    private class BatchSender implements Runnable {
 
-        private final Queue<Exchange> queue;
-        private final Lock queueLock = new ReentrantLock();
-        private final AtomicBoolean exchangeEnqueued = new AtomicBoolean();
+        private final ScheduledExecutorService executorService;
+        private final Queue<Exchange> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queueSize = new AtomicInteger();
         private final Queue<String> completionPredicateMatched = new ConcurrentLinkedQueue<>();
-        private final Condition exchangeEnqueuedCondition = queueLock.newCondition();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean timedOut = new AtomicBoolean();
+        private volatile long lastEnqueued;
+        private volatile ScheduledFuture<?> timeoutTask;
+        private volatile boolean cancelled;
+
+        BatchSender(ScheduledExecutorService executorService) {
+            this.executorService = executorService;
+        }
 
-        BatchSender() {
-            super(camelContext.getExecutorServiceManager().resolveThreadName("Batch Sender"));
-            this.queue = new LinkedList<>();
+        public void start() {
+            lastEnqueued = System.nanoTime();
+            if (batchTimeout > 0) {
+                timeoutTask = executorService.schedule(this::checkTimeout, batchTimeout, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        public void cancel() {
+            cancelled = true;
+            ScheduledFuture<?> task = timeoutTask;
+            if (task != null) {
+                task.cancel(false);
+            }
         }
 
         @Override
         public void run() {
-            // Wait until one of either:
-            // * an exchange being queued;
-            // * the batch timeout expiring; or
-            // * the thread being cancelled.
-            //
-            // If an exchange is queued then we need to determine whether the
-            // batch is complete. If it is complete then we send out the batched
-            // exchanges. Otherwise we move back into our wait state.
-            //
-            // If the batch times out then we send out the batched exchanges
-            // collected so far.
-            //
-            // If we receive an interrupt then all blocking operations are
-            // interrupted and our thread terminates.
-            //
-            // The goal of the following algorithm in terms of synchronisation
-            // is to provide fine grained locking i.e. retaining the lock only
-            // when required. Special consideration is given to releasing the
-            // lock when calling an overloaded method i.e. sendExchanges.
-            // Unlocking is important as the process of sending out the exchanges
-            // would otherwise block new exchanges from being queued.
-
-            queueLock.lock();
-            try {
-                do {
-                    try {
-                        if (!exchangeEnqueued.get()) {
-                            LOG.trace("Waiting for new exchange to arrive or batchTimeout to occur after {} ms.", batchTimeout);
-                            exchangeEnqueuedCondition.await(batchTimeout, TimeUnit.MILLISECONDS);
-                        }
-
-                        // if the completion predicate was triggered then there is an exchange id which denotes when to complete
-                        String id = null;
-                        if (!completionPredicateMatched.isEmpty()) {
-                            id = completionPredicateMatched.poll();
-                        }
-
-                        if (id != null || !exchangeEnqueued.get()) {
-                            if (id != null) {
-                                LOG.trace("Collecting exchanges to be aggregated triggered by completion predicate");
-                            } else {
-                                LOG.trace("Collecting exchanges to be aggregated triggered by batch timeout");
-                            }
-                            drainQueueTo(collection, batchSize, id);
-                        } else {
-                            exchangeEnqueued.set(false);
-                            boolean drained = false;
-                            while (isInBatchCompleted(queue.size())) {
-                                drained = true;
-                                drainQueueTo(collection, batchSize, id);
-                            }
-                            if (drained) {
-                                LOG.trace("Collecting exchanges to be aggregated triggered by new exchanges received");
-                            }
-
-                            if (!isOutBatchCompleted()) {
-                                continue;
-                            }
-                        }
-
-                        queueLock.unlock();
-                        try {
-                            try {
-                                sendExchanges();
-                            } catch (Exception t) {
-                                // a fail safe to handle all exceptions being thrown
-                                getExceptionHandler().handleException(t);
-                            }
-                        } finally {
-                            queueLock.lock();
-                        }
-
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
+            do {
+                try {
+                    sendBatches();
+                } catch (Exception t) {
+                    // a fail safe to handle all exceptions being thrown
+                    getExceptionHandler().handleException(t);
+                } finally {
+                    scheduled.set(false);
+                }
+                // a batch may have been completed while sending, which we must then send as no other task was scheduled
+            } while (isBatchTriggered() && scheduled.compareAndSet(false, true));
+        }
 
-                } while (isRunAllowed());
+        /**
+         * The batch timeout is triggered when no exchange has been enqueued for the duration of the batch timeout.
+         */
+        private void checkTimeout() {
+            if (cancelled) {
+                return;
+            }
+            long remaining = lastEnqueued + TimeUnit.MILLISECONDS.toNanos(batchTimeout) - System.nanoTime();
+            if (remaining <= 0) {
+                timedOut.set(true);
+                trigger();
+                remaining = TimeUnit.MILLISECONDS.toNanos(batchTimeout);
+            }
+            timeoutTask = executorService.schedule(this::checkTimeout, remaining, TimeUnit.NANOSECONDS);
+        }
 
-            } finally {
-                queueLock.unlock();
+        private boolean isBatchTriggered() {
+            return !cancelled && (timedOut.get() || !completionPredicateMatched.isEmpty()
+                    || isInBatchCompleted(queueSize.get()));
+        }
+
+        private void trigger() {
+            if (!cancelled && scheduled.compareAndSet(false, true)) {
+                executorService.execute(this);
+            }
+        }
+
+        private void sendBatches() {
+            while (!cancelled) {
+                // if the completion predicate was triggered then there is an exchange id which denotes when to complete
+                String id = completionPredicateMatched.poll();
+                if (id != null) {
+                    LOG.trace("Collecting exchanges to be aggregated triggered by completion predicate");
+                    drainQueueTo(collection, batchSize, id);
+                } else if (timedOut.getAndSet(false)) {
+                    LOG.trace("Collecting exchanges to be aggregated triggered by batch timeout");
+                    drainQueueTo(collection, batchSize, null);
+                } else if (isInBatchCompleted(queueSize.get())) {
+                    LOG.trace("Collecting exchanges to be aggregated triggered by new exchanges received");
+                    while (isInBatchCompleted(queueSize.get())) {
+                        drainQueueTo(collection, batchSize, null);
+                    }
+                    if (!isOutBatchCompleted()) {
+                        return;
+                    }
+                } else {
+                    return;
+                }
+                sendExchanges();
             }
         }
 
         /**
-         * This method should be called with queueLock held
+         * This method should only be called by the task sending the exchanges
          */
         private void drainQueueTo(Collection<Exchange> collection, int batchSize, String exchangeId) {
             for (int i = 0; i < batchSize; ++i) {
                 Exchange e = queue.poll();
                 if (e != null) {
+                    queueSize.decrementAndGet();
                     try {
                         collection.add(e);
                     } catch (Exception t) {
@@ -531,30 +582,22 @@ public class Resequencer extends AsyncProcessorSupport implements Navigate<Proce
             }
         }
 
-        public void cancel() {
-            interrupt();
-        }
-
         public void enqueueExchange(Exchange exchange) {
             LOG.debug("Received exchange to be batched: {}", exchange);
-            queueLock.lock();
-            try {
-                // pre test whether the completion predicate matched
-                if (completionPredicate != null) {
-                    boolean matches = completionPredicate.matches(exchange);
-                    if (matches) {
-                        LOG.trace("Exchange matched completion predicate: {}", exchange);
-                        // add this exchange to the list of exchanges which marks the batch as complete
-                        completionPredicateMatched.add(exchange.getExchangeId());
-                    }
-                }
-                // need to make defensive copy that are put on the sequencer queue
-                Exchange copy = ExchangeHelper.createCorrelatedCopy(exchange, true);
-                queue.add(copy);
-                exchangeEnqueued.set(true);
-                exchangeEnqueuedCondition.signal();
-            } finally {
-                queueLock.unlock();
+            // pre test whether the completion predicate matched
+            boolean matches = completionPredicate != null && completionPredicate.matches(exchange);
+            // need to make defensive copy that are put on the sequencer queue
+            Exchange copy = ExchangeHelper.createCorrelatedCopy(exchange, true);
+            queue.add(copy);
+            int size = queueSize.incrementAndGet();
+            lastEnqueued = System.nanoTime();
+            if (matches) {
+                LOG.trace("Exchange matched completion predicate: {}", exchange);
+                // add this exchange to the list of exchanges which marks the batch as complete
+                completionPredicateMatched.add(exchange.getExchangeId());
+            }
+            if (matches || isInBatchCompleted(size)) {
+                trigger();
             }
         }
 
@@ -569,4 +612,50 @@ public class Resequencer extends AsyncProcessorSupport implements Navigate<Proce
         }
     }
 
+    /**
+     * The thread pool which is shared by the resequencers of the same {@link CamelContext} to send the batches.
+     */
+    static final class BatchSenderThreadPool extends ServiceSupport {
+
+        private final CamelContext camelContext;
+        private ScheduledExecutorService executorService;
+
+        private BatchSenderThreadPool(CamelContext camelContext) {
+            this.camelContext = camelContext;
+        }
+
+        static BatchSenderThreadPool getOrCreate(CamelContext camelContext) throws Exception {
+            synchronized (BatchSenderThreadPool.class) {
+                BatchSenderThreadPool answer = camelContext.hasService(BatchSenderThreadPool.class);
+                if (answer == null) {
+                    answer = new BatchSenderThreadPool(camelContext);
+                    // the service is stopped together with the CamelContext
+                    camelContext.addService(answer, true, true);
+                }
+                return answer;
+            }
+        }
+
+        synchronized ScheduledExecutorService getExecutorService() {
+            if (executorService == null) {
+                ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
+                ThreadPoolProfile profile = manager.getThreadPoolProfile(THREAD_POOL_PROFILE_ID);
+                if (profile == null) {
+                    // use the default thread pool profile
+                    profile = new ThreadPoolProfile(THREAD_POOL_PROFILE_ID);
+                }
+                executorService = manager.newScheduledThreadPool(this, "Resequencer", profile);
+            }
+            return executorService;
+        }
+
+        @Override
+        protected synchronized void doStop() throws Exception {
+            if (executorService != null) {
+                camelContext.getExecutorServiceManager().shutdownNow(executorService);
+                executorService = null;
+            }
+        }
+    }
+
 }
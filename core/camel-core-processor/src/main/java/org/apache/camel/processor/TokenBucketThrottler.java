@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.spi.TokenBucketRepository;
+import org.apache.camel.support.processor.throttle.MemoryTokenBucketRepository;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> which uses a token bucket to limit the rate of
+ * message exchanges which can be sent to a processor.
+ * <p/>
+ * The bucket holds up to the burst capacity of tokens, and is refilled smoothly with the maximum requests of tokens per
+ * time period. Each exchange takes a token from the bucket, which allows bursts of exchanges up to the burst capacity,
+ * while keeping the average rate at the maximum requests per time period.
+ * <p/>
+ * The buckets are kept in a {@link TokenBucketRepository}, which is by default a {@link MemoryTokenBucketRepository}. A
+ * repository kept in a shared backend lets several applications share the same rate limit. The throttler takes
+ * {@link TokenBucketRepository#getReservationSize()} tokens at once from the repository, and hands them out locally.
+ * The keys of the buckets are prefixed with the id of the throttler, so throttlers sharing a repository do not share
+ * their buckets, unless they have the same id.
+ */
+public class TokenBucketThrottler extends AbstractThrottler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenBucketThrottler.class);
+
+    private final Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+    private long timePeriodMillis;
+    private int burstCapacity;
+    private TokenBucketRepository tokenBucketRepository;
+    private boolean stopTokenBucketRepository;
+    private String keyPrefix;
+
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsExpression,
+                                final long timePeriodMillis,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor,
+                                final boolean rejectExecution, Expression correlation) {
+        super(asyncExecutor, shutdownAsyncExecutor, camelContext, rejectExecution, correlation, maxRequestsExpression);
+
+        if (timePeriodMillis <= 0) {
+            throw new IllegalArgumentException("TimePeriodMillis should be a positive number, was: " + timePeriodMillis);
+        }
+        this.timePeriodMillis = timePeriodMillis;
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        State state = exchange.getProperty(PROPERTY_EXCHANGE_STATE, State.SYNC, State.class);
+        exchange.removeProperty(PROPERTY_EXCHANGE_STATE);
+        boolean doneSync = state == State.SYNC || state == State.ASYNC_REJECTED;
+
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            String key = DEFAULT_KEY;
+            if (correlationExpression != null) {
+                key = correlationExpression.evaluate(exchange, String.class);
+            }
+            ThrottlingState throttlingState = states.computeIfAbsent(key, k -> new ThrottlingState(keyPrefix + k));
+            throttlingState.calculateAndSetMaxRequestsPerPeriod(exchange);
+
+            if (!throttlingState.tryAcquire()) {
+                if (isRejectExecution()) {
+                    throw new ThrottlerRejectedExecutionException(
+                            "Exceeded the max throttle rate of " + throttlingState.getThrottleRate() + " within "
+                                                                  + timePeriodMillis + "ms");
+                } else {
+                    // delegate to async pool
+                    if (isAsyncDelayed() && !exchange.isTransacted() && state == State.SYNC) {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug(
+                                    "Throttle rate exceeded but AsyncDelayed enabled, so queueing for async processing, exchangeId: {}",
+                                    exchange.getExchangeId());
+                        }
+                        return processAsynchronously(exchange, callback, throttlingState);
+                    }
+
+                    // block waiting for a token
+                    long start = System.nanoTime();
+                    throttlingState.acquire();
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("Throttled for {}ms, exchangeId: {}",
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), exchange.getExchangeId());
+                    }
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                }
+            }
+
+            callback.done(doneSync);
+            return doneSync;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return handleInterrupt(exchange, callback, e, doneSync);
+        } catch (Exception e) {
+            return handleException(exchange, callback, e, doneSync);
+        }
+    }
+
+    /**
+     * Delegate waiting for a token to an asyncExecutor. Except if the executor rejects the submission and
+     * isCallerRunsWhenRejected() is enabled, then this method will delegate back to process(), but not before changing
+     * the exchange state to stop any recursion.
+     */
+    protected boolean processAsynchronously(
+            final Exchange exchange, final AsyncCallback callback, ThrottlingState throttlingState) {
+        try {
+            exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC);
+            long delay = throttlingState.getRefillDelay();
+            asyncExecutor.schedule(() -> process(exchange, callback), delay, TimeUnit.NANOSECONDS);
+            return false;
+        } catch (final RejectedExecutionException e) {
+            if (isCallerRunsWhenRejected()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}",
+                            exchange.getExchangeId());
+                }
+                exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC_REJECTED);
+                return process(exchange, callback);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (isAsyncDelayed()) {
+            ObjectHelper.notNull(asyncExecutor, "executorService", this);
+        }
+        if (tokenBucketRepository == null) {
+            tokenBucketRepository = new MemoryTokenBucketRepository();
+            stopTokenBucketRepository = true;
+        } else if (!stopTokenBucketRepository && !camelContext.hasService(tokenBucketRepository)) {
+            // the repository may be shared with other throttlers, so it is stopped by CamelContext
+            camelContext.addService(tokenBucketRepository);
+        }
+        ServiceHelper.startService(tokenBucketRepository);
+        // namespace the buckets per throttler
+        String prefix = id != null ? id : routeId;
+        keyPrefix = prefix != null ? prefix + ":" : "";
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // only stop the repository created by this throttler
+        if (stopTokenBucketRepository) {
+            ServiceHelper.stopService(tokenBucketRepository);
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        if (shutdownAsyncExecutor && asyncExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
+        }
+        states.clear();
+        super.doShutdown();
+    }
+
+    protected class ThrottlingState {
+        private final String key;
+        private final Lock lock = new ReentrantLock();
+        private volatile int throttleRate;
+        // the tokens taken from the repository, which have not yet been handed out
+        private long reserved;
+
+        ThrottlingState(String key) {
+            this.key = key;
+        }
+
+        public int getThrottleRate() {
+            return throttleRate;
+        }
+
+        /**
+         * Takes a token from the tokens reserved locally, or else reserves more tokens from the repository.
+         */
+        public boolean tryAcquire() {
+            lock.lock();
+            try {
+                if (reserved == 0) {
+                    long capacity = burstCapacity > 0 ? burstCapacity : throttleRate;
+                    reserved = tokenBucketRepository.take(key, tokenBucketRepository.getReservationSize(), capacity,
+                            throttleRate, timePeriodMillis);
+                }
+                if (reserved > 0) {
+                    reserved--;
+                    return true;
+                }
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Waits for the bucket to be refilled until a token is acquired.
+         */
+        public void acquire() throws InterruptedException {
+            while (!tryAcquire()) {
+                TimeUnit.NANOSECONDS.sleep(getRefillDelay());
+            }
+        }
+
+        /**
+         * The time in nanos for a token to be refilled in the bucket.
+         */
+        public long getRefillDelay() {
+            return Math.max(1, TimeUnit.MILLISECONDS.toNanos(timePeriodMillis) / Math.max(1, throttleRate));
+        }
+
+        /**
+         * Evaluates the maxRequestsExpression, which is the number of tokens the bucket is refilled with per period.
+         */
+        public void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
+            Integer newThrottle = getMaximumRequestsExpression().evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle <= 0) {
+                throw new IllegalStateException(
+                        "The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            if (newThrottle == null && throttleRate == 0) {
+                throw new RuntimeExchangeException(
+                        "The maxRequestsPerPeriodExpression was evaluated as null: " + getMaximumRequestsExpression(),
+                        exchange);
+            }
+
+            if (newThrottle != null && newThrottle != throttleRate) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate set from {} to {}, triggered by ExchangeId: {}", throttleRate, newThrottle,
+                            exchange.getExchangeId());
+                }
+                throttleRate = newThrottle;
+            }
+        }
+    }
+
+    public long getTimePeriodMillis() {
+        return timePeriodMillis;
+    }
+
+    /**
+     * Sets the time period during which the bucket is refilled with the maximum requests of tokens
+     */
+    public void setTimePeriodMillis(long timePeriodMillis) {
+        this.timePeriodMillis = timePeriodMillis;
+    }
+
+    public int getBurstCapacity() {
+        return burstCapacity;
+    }
+
+    /**
+     * Sets the maximum number of tokens the bucket can hold, which is the number of exchanges which can pass the
+     * throttler in a burst. Is by default the maximum requests per time period.
+     */
+    public void setBurstCapacity(int burstCapacity) {
+        this.burstCapacity = burstCapacity;
+    }
+
+    public TokenBucketRepository getTokenBucketRepository() {
+        return tokenBucketRepository;
+    }
+
+    /**
+     * Sets the repository to keep the buckets. The repository is not stopped by this throttler, as it may be shared
+     * with other throttlers.
+     */
+    public void setTokenBucketRepository(TokenBucketRepository tokenBucketRepository) {
+        this.tokenBucketRepository = tokenBucketRepository;
+        this.stopTokenBucketRepository = false;
+    }
+
+    @Override
+    public String getMode() {
+        return "TokenBucket";
+    }
+
+    /**
+     * Gets the current maximum request per period value. If it is grouped throttling applied with correlationExpression
+     * then the max per group will be returned
+     */
+    @Override
+    public int getCurrentMaximumRequests() {
+        return states.values().stream().mapToInt(ThrottlingState::getThrottleRate).max().orElse(0);
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[" + this.getMaximumRequestsExpression() + " per: " + timePeriodMillis + "]";
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
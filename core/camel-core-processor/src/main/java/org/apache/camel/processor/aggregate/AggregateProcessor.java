@@ -66,6 +66,7 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.NoLock;
+import org.apache.camel.support.StripedLock;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
@@ -100,6 +101,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile StripedLock stripedLock;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -231,6 +233,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -404,13 +407,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        AtomicBoolean completeAllGroups = new AtomicBoolean();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, completeAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -419,6 +424,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        // when using lock stripes then completing all groups cannot be done while holding the lock of the key
+        if (completeAllGroups.get()) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -472,11 +482,14 @@ public class AggregateProcessor extends AsyncProcessorSupport
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  completeAllGroups                       set to <tt>true</tt> if all groups must be completed after the
+     *                                                 lock of the correlation key has been released
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean completeAllGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -576,7 +589,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (stripedLock != null) {
+                completeAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -1105,6 +1122,20 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Number of lock stripes to use for guarding the correlation groups, where each correlation key is guarded by the
+     * stripe its hash code maps to. This allows aggregating exchanges of unrelated correlation groups concurrently,
+     * while exchanges of the same group are still aggregated one at a time. Is by default 0, which uses a single lock
+     * for all groups.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1273,13 +1304,13 @@ public class AggregateProcessor extends AsyncProcessorSupport
         @Override
         protected void purge() {
             // wait for lock to be created
-            if (lock != null) {
+            if (lock != null || stripedLock != null) {
                 // must acquire the shared aggregation lock to be able to purge
-                lock.lock();
+                lockAll();
                 try {
                     super.purge();
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
         }
@@ -1343,7 +1374,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
             if (keys != null && !keys.isEmpty()) {
                 // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
+                lockAll();
                 try {
                     for (String key : keys) {
                         boolean stolenInterval = false;
@@ -1370,7 +1401,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
 
@@ -1411,7 +1442,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         LOG.info("We are shutting down so stop recovering");
                         return;
                     }
-                    lock.lock();
+                    lockAll();
                     try {
                         // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                         // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1488,7 +1519,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                             }
                         }
                     } finally {
-                        lock.unlock();
+                        unlockAll();
                     }
                 }
             } finally {
@@ -1554,6 +1585,21 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (lockStripes < 0) {
+            throw new IllegalArgumentException("Option lockStripes must not be a negative number, was: " + lockStripes);
+        }
+        if (lockStripes > 1) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Cannot use both optimisticLocking and lockStripes");
+            }
+            // these completions work across all the groups while aggregating a single group
+            if (isCompletionFromBatchConsumer() || isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException(
+                        "Cannot use lockStripes with completionFromBatchConsumer or completionOnNewCorrelationGroup");
+            }
+            LOG.info("Using {} lock stripes for correlation groups", lockStripes);
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1618,7 +1664,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 shutdownTimeoutCheckerExecutorService = true;
             }
             // check for timed out aggregated messages once every second
-            timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            AggregationTimeoutMap map
+                    = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            map.setTimingWheel(DefaultTimeoutMap.isTimingWheelEnabled(camelContext));
+            timeoutMap = map;
             // fill in existing timeout values from the aggregation repository, for example if a restart occurred, then we
             // need to re-establish the timeout map so timeout can trigger
             restoreTimeoutMapFromAggregationRepository();
@@ -1630,6 +1679,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         }
         aggregateController.onStart(this);
 
+        stripedLock = null;
         if (optimisticLocking) {
             lock = NoLock.INSTANCE;
             if (getOptimisticLockingExecutorService() == null) {
@@ -1637,11 +1687,46 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (lockStripes > 1) {
+            stripedLock = new StripedLock(lockStripes);
+            lock = null;
         } else {
             lock = new ReentrantLock();
         }
     }
 
+    /**
+     * Gets the lock to use for aggregating the given correlation key
+     */
+    private Lock getLock(String key) {
+        StripedLock striped = stripedLock;
+        if (striped != null) {
+            return striped.getLock(key);
+        }
+        return lock;
+    }
+
+    /**
+     * Acquires the shared aggregation lock, which when using lock stripes is all the stripes
+     */
+    private void lockAll() {
+        StripedLock striped = stripedLock;
+        if (striped != null) {
+            striped.lockAll();
+        } else {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        StripedLock striped = stripedLock;
+        if (striped != null) {
+            striped.unlockAll();
+        } else {
+            lock.unlock();
+        }
+    }
+
     @Override
     protected void doStop() throws Exception {
         // note: we cannot do doForceCompletionOnStop from this doStop method
@@ -1750,7 +1835,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1764,7 +1850,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1792,7 +1878,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            lockAll();
             total = keys.size();
             try {
                 for (String key : keys) {
@@ -1808,7 +1894,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                     }
                 }
             } finally {
-                lock.unlock();
+                unlockAll();
             }
         }
         LOG.trace("Completed force completion of all groups task");
@@ -1823,7 +1909,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1833,7 +1920,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1861,7 +1948,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            lockAll();
             total = keys.size();
             try {
                 for (String key : keys) {
@@ -1873,7 +1960,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                     }
                 }
             } finally {
-                lock.unlock();
+                unlockAll();
             }
         }
         LOG.trace("Completed force discarding of all groups task");
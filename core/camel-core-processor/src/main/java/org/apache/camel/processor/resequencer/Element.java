@@ -34,7 +34,7 @@ class Element<E> implements TimeoutHandler {
     /**
      * Not <code>null</code> if this element is currently beeing scheduled for timing out.
      */
-    private Timeout timeout;
+    private volatile Timeout timeout;
 
     /**
      * Creates a new container instance.
@@ -60,12 +60,7 @@ class Element<E> implements TimeoutHandler {
      * @return <code>true</code> if scheduled or <code>false</code> if not scheduled or already timed-out.
      */
     public boolean scheduled() {
-        lock.lock();
-        try {
-            return timeout != null;
-        } finally {
-            lock.unlock();
-        }
+        return timeout != null;
     }
 
     /**
@@ -92,6 +92,13 @@ public class ResequencerEngine<E> {
 
     private final Lock lock = new ReentrantLock();
 
+    /**
+     * Guards the delivery of elements, so elements are delivered one at a time and in sequence, without holding the
+     * lock of the sequence while the elements are being sent. This allows elements to be inserted while the elements
+     * that are ready are being processed by the {@link SequenceSender}.
+     */
+    private final Lock deliveryLock = new ReentrantLock();
+
     /**
      * Creates a new resequencer instance with a default timeout of 2000 milliseconds.
      *
@@ -152,6 +159,10 @@ public class ResequencerEngine<E> {
     }
 
     private void evaluateConditions() {
+        if (waitConditions.isEmpty()) {
+            // this method is called while holding the lock so no one can be adding a wait condition
+            return;
+        }
         lock.lock();
         try {
             for (var it = waitConditions.entrySet().iterator(); it.hasNext();) {
@@ -289,13 +300,13 @@ public class ResequencerEngine<E> {
      */
     @SuppressWarnings("StatementWithEmptyBody")
     public void deliver() throws Exception {
-        lock.lock();
+        deliveryLock.lock();
         try {
-            while (deliverNext()) {
+            while (doDeliverNext()) {
                 // do nothing here
             }
         } finally {
-            lock.unlock();
+            deliveryLock.unlock();
         }
     }
 
@@ -310,13 +321,26 @@ public class ResequencerEngine<E> {
      *
      */
     public boolean deliverNext() throws Exception {
+        deliveryLock.lock();
+        try {
+            return doDeliverNext();
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    /**
+     * Attempts to deliver a single element, which must be called while holding the delivery lock.
+     */
+    private boolean doDeliverNext() throws Exception {
+        Element<E> element;
         lock.lock();
         try {
             if (sequence.isEmpty()) {
                 return false;
             }
             // inspect element with the lowest sequence value
-            Element<E> element = sequence.first();
+            element = sequence.first();
 
             // if element is scheduled do not deliver and return
             if (element.scheduled()) {
@@ -324,22 +348,22 @@ public class ResequencerEngine<E> {
             }
 
             // remove deliverable element from sequence
-            sequence.remove(element);
+            sequence.pollFirst();
 
             // set the delivered element to last delivered element
             lastDelivered = element;
 
-            // deliver the sequence element
-            sequenceSender.sendElement(element.getObject());
-
             // evaluate wait conditions
             evaluateConditions();
-
-            // element has been delivered
-            return true;
         } finally {
             lock.unlock();
         }
+
+        // deliver the sequence element (outside the lock so elements can be inserted meanwhile)
+        sequenceSender.sendElement(element.getObject());
+
+        // element has been delivered
+        return true;
     }
 
     /**
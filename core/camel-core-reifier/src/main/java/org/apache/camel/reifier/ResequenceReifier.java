@@ -16,6 +16,8 @@
  */
 package org.apache.camel.reifier;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Expression;
 import org.apache.camel.Processor;
@@ -96,6 +98,13 @@ public class ResequenceReifier extends ProcessorReifier<ResequenceDefinition> {
         if (config.getIgnoreInvalidExchanges() != null) {
             resequencer.setIgnoreInvalidExchanges(parseBoolean(config.getIgnoreInvalidExchanges(), false));
         }
+        // the resequencer uses a shared thread pool by default
+        boolean shutdownThreadPool = willCreateNewThreadPool(definition, false);
+        ScheduledExecutorService threadPool = getConfiguredScheduledExecutorService("Resequencer", definition, false);
+        if (threadPool != null) {
+            resequencer.setExecutorService(threadPool);
+            resequencer.setShutdownExecutorService(shutdownThreadPool);
+        }
         return resequencer;
     }
 
@@ -56,6 +56,18 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        Expression correlation = null;
+        if (definition.getCorrelationExpression() != null) {
+            if (!isParallelProcessing) {
+                throw new IllegalArgumentException(
+                        "CorrelationExpression is used but ParallelProcessing has not been enabled.");
+            }
+            correlation = createExpression(definition.getCorrelationExpression());
+        }
+        int maxInflight = parseInt(definition.getMaxInflight(), 0);
+        if (maxInflight > 0 && !isParallelProcessing) {
+            throw new IllegalArgumentException("MaxInflight is used but ParallelProcessing has not been enabled.");
+        }
         Processor prepare = definition.getOnPrepareProcessor();
         if (prepare == null && definition.getOnPrepare() != null) {
             prepare = mandatoryLookup(definition.getOnPrepare(), Processor.class);
@@ -77,6 +89,8 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     isShareUnitOfWork, isParallelAggregate);
         }
         answer.setSynchronous(isSynchronous);
+        answer.setCorrelationExpression(correlation);
+        answer.setMaxInflight(maxInflight);
 
         return answer;
     }
@@ -24,8 +24,11 @@ import org.apache.camel.Route;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.ThrottleDefinition;
 import org.apache.camel.model.ThrottlingMode;
+import org.apache.camel.processor.AdaptiveConcurrentRequestsThrottler;
 import org.apache.camel.processor.ConcurrentRequestsThrottler;
+import org.apache.camel.processor.TokenBucketThrottler;
 import org.apache.camel.processor.TotalRequestsThrottler;
+import org.apache.camel.spi.TokenBucketRepository;
 
 public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
 
@@ -52,7 +55,30 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
             throw new IllegalArgumentException("MaxRequestsPerPeriod expression must be provided on " + this);
         }
 
-        if (ThrottlingMode.toMode(parseString(definition.getMode())) == ThrottlingMode.ConcurrentRequests) {
+        ThrottlingMode mode = ThrottlingMode.toMode(parseString(definition.getMode()));
+        if (mode == ThrottlingMode.AdaptiveConcurrentRequests) {
+            AdaptiveConcurrentRequestsThrottler answer = new AdaptiveConcurrentRequestsThrottler(
+                    camelContext, maxRequestsExpression, threadPool, shutdownThreadPool, reject, correlation);
+
+            answer.setAsyncDelayed(async);
+            // should be true by default
+            answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
+
+            return answer;
+        } else if (mode == ThrottlingMode.TokenBucket) {
+            long period = parseDuration(definition.getTimePeriodMillis(), 1000L);
+
+            TokenBucketThrottler answer = new TokenBucketThrottler(
+                    camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+
+            answer.setAsyncDelayed(async);
+            // should be true by default
+            answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
+            answer.setBurstCapacity(parseInt(definition.getBurstCapacity(), 0));
+            answer.setTokenBucketRepository(createTokenBucketRepository());
+
+            return answer;
+        } else if (mode == ThrottlingMode.ConcurrentRequests) {
             ConcurrentRequestsThrottler answer = new ConcurrentRequestsThrottler(
                     camelContext, maxRequestsExpression, threadPool, shutdownThreadPool, reject, correlation);
 
@@ -76,6 +102,14 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
 
     }
 
+    private TokenBucketRepository createTokenBucketRepository() {
+        TokenBucketRepository repository = definition.getTokenBucketRepositoryBean();
+        if (repository == null && definition.getTokenBucketRepository() != null) {
+            repository = mandatoryLookup(definition.getTokenBucketRepository(), TokenBucketRepository.class);
+        }
+        return repository;
+    }
+
     private Expression createMaxRequestsPerPeriodExpression() {
         return definition.getExpression() != null ? createExpression(definition.getExpression()) : null;
     }
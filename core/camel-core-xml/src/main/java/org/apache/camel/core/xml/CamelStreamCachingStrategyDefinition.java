@@ -49,6 +49,9 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
     @XmlAttribute
     private String spoolCipher;
     @XmlAttribute
+    @Metadata(defaultValue = "false", javaType = "java.lang.Boolean")
+    private String spoolMemoryMapped;
+    @XmlAttribute
     @Metadata(defaultValue = "" + StreamCache.DEFAULT_SPOOL_THRESHOLD)
     private String spoolThreshold;
     @XmlAttribute
@@ -159,6 +162,18 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
         this.spoolCipher = spoolCipher;
     }
 
+    public String getSpoolMemoryMapped() {
+        return spoolMemoryMapped;
+    }
+
+    /**
+     * Whether to spool to disk using memory mapped files, instead of regular file streams. This avoids copying the
+     * cached data through buffers in the heap, which benefits large payloads.
+     */
+    public void setSpoolMemoryMapped(String spoolMemoryMapped) {
+        this.spoolMemoryMapped = spoolMemoryMapped;
+    }
+
     public String getSpoolThreshold() {
         return spoolThreshold;
     }
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.util.Map;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Header;
+import org.apache.camel.Headers;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the bean methods invoked by method handles, and the fallback to reflection.
+ */
+public class BeanMethodHandleInvocationTest extends ContextTestSupport {
+
+    @Test
+    public void testBody() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Hello World", template.requestBody("bean:" + MyBean.class.getName() + "?method=hello", "World"));
+        }
+    }
+
+    @Test
+    public void testBodyAndHeaders() {
+        Object out = template.requestBodyAndHeader("bean:" + MyBean.class.getName() + "?method=bodyAndHeaders", "World",
+                "foo", "bar");
+        assertEquals("World bar", out);
+    }
+
+    @Test
+    public void testExchange() {
+        Exchange out = template.request("bean:" + MyBean.class.getName() + "?method=exchange",
+                e -> e.getMessage().setBody("World"));
+        assertEquals("World", out.getMessage().getHeader("got"));
+    }
+
+    @Test
+    public void testStatic() {
+        assertEquals("Bye World", template.requestBody("bean:" + MyBean.class.getName() + "?method=bye", "World"));
+    }
+
+    @Test
+    public void testPrimitive() {
+        assertEquals(3, template.requestBodyAndHeader("bean:" + MyBean.class.getName() + "?method=add", 1, "num", 2));
+    }
+
+    @Test
+    public void testPrimitiveNull() {
+        // null cannot be passed to a primitive parameter so reflection reports it the same as before
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("bean:" + MyBean.class.getName() + "?method=add", 1));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause().getCause());
+    }
+
+    @Test
+    public void testParameterValue() {
+        assertEquals(5L, template.requestBody("bean:" + MyBean.class.getName() + "?method=toLong(${body})", 5));
+    }
+
+    @Test
+    public void testException() {
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("bean:" + MyBean.class.getName() + "?method=kaboom", "World"));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals("Forced World", e.getCause().getMessage());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                // noop
+            }
+        };
+    }
+
+    public static class MyBean {
+
+        public String hello(String body) {
+            return "Hello " + body;
+        }
+
+        public String bodyAndHeaders(String body, @Headers Map<String, Object> headers) {
+            return body + " " + headers.get("foo");
+        }
+
+        public void exchange(Exchange exchange) {
+            exchange.getMessage().setHeader("got", exchange.getMessage().getBody());
+        }
+
+        public static String bye(String body) {
+            return "Bye " + body;
+        }
+
+        public int add(int body, @Header("num") int num) {
+            return body + num;
+        }
+
+        public long toLong(long value) {
+            return value;
+        }
+
+        public String kaboom(String body) {
+            throw new IllegalStateException("Forced " + body);
+        }
+    }
+}
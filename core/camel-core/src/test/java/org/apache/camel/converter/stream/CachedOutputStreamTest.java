@@ -22,6 +22,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.util.StringJoiner;
 
@@ -185,6 +186,70 @@ public class CachedOutputStreamTest extends ContextTestSupport {
         IOHelper.close(cos);
     }
 
+    @Test
+    public void testCacheStreamToMemoryMappedFile() throws Exception {
+        context.getStreamCachingStrategy().setSpoolMemoryMapped(true);
+
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertNotNull(files, "There should be a list of files");
+        assertEquals(1, files.length, "we should have a temp file");
+
+        StreamCache cache = cos.newStreamCache();
+        boolean b = cache instanceof FileInputStreamCache;
+        assertTrue(b, "Should get the FileInputStreamCache");
+        assertEquals(TEST_STRING.length(), cache.length());
+        assertEquals(TEST_STRING, toString((InputStream) cache), "Cached a wrong file");
+
+        cache.reset();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8));
+
+        cache.reset();
+        bos = new ByteArrayOutputStream();
+        long size = ((FileInputStreamCache) cache).transferTo(Channels.newChannel(bos));
+        assertEquals(TEST_STRING.length(), size);
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8));
+
+        ((InputStream) cache).close();
+        exchange.getUnitOfWork().done(exchange);
+
+        files = file.list();
+        assertNotNull(files, "There should be a list of files");
+        assertEquals(0, files.length, "we should have no temp file");
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamToMemoryMappedFileEncrypted() throws Exception {
+        context.getStreamCachingStrategy().setSpoolMemoryMapped(true);
+        context.getStreamCachingStrategy().setSpoolCipher("RC4");
+
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        StreamCache cache = cos.newStreamCache();
+        assertEquals(TEST_STRING, toString((InputStream) cache), "Cached a wrong file");
+
+        cache.reset();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ((FileInputStreamCache) cache).transferTo(Channels.newChannel(bos));
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8));
+
+        ((InputStream) cache).close();
+        exchange.getUnitOfWork().done(exchange);
+        IOHelper.close(cos);
+    }
+
     @Test
     public void testCacheStreamToFileCloseStreamBeforeDone() throws Exception {
         context.start();
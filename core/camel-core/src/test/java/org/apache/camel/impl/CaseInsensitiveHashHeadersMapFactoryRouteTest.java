@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.CaseInsensitiveHashHeadersMapFactory;
+import org.apache.camel.util.CaseInsensitiveHashMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class CaseInsensitiveHashHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getCamelContextExtension().setHeadersMapFactory(new CaseInsensitiveHashHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testCaseInsensitiveHeaders() throws Exception {
+        getMockEndpoint("mock:a").expectedHeaderReceived("foo", 456);
+        getMockEndpoint("mock:a").expectedHeaderReceived("bar", "a");
+        getMockEndpoint("mock:b").expectedHeaderReceived("FOO", 456);
+        getMockEndpoint("mock:b").expectedHeaderReceived("bar", "b");
+        getMockEndpoint("mock:result").expectedHeaderReceived("Bar", "yes");
+
+        Map<String, Object> headers = new LinkedHashMap<>();
+        headers.put("foo", 123);
+        headers.put("FOO", 456);
+        headers.put("Bar", "yes");
+        headers.put("Baz", true);
+
+        template.sendBodyAndHeaders("direct:start", "Hello World", headers);
+
+        assertMockEndpointsSatisfied();
+
+        Exchange out = getMockEndpoint("mock:result").getReceivedExchanges().get(0);
+        assertInstanceOf(CaseInsensitiveHashMap.class, out.getMessage().getHeaders());
+        // the original case of the first key and the insertion order is preserved
+        assertEquals(List.of("foo", "Bar", "Baz"), List.copyOf(out.getMessage().getHeaders().keySet()));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .multicast(AggregationStrategies.useOriginal())
+                            .to("direct:a", "direct:b")
+                        .end()
+                        .to("mock:result");
+
+                from("direct:a").setHeader("BAR", constant("a")).to("mock:a");
+                from("direct:b").setHeader("bar", constant("b")).to("mock:b");
+            }
+        };
+    }
+
+}
@@ -18,6 +18,7 @@ package org.apache.camel.impl;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.util.Map;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -366,6 +367,26 @@ public class DefaultExchangeTest extends ExchangeTestSupport {
         assertEquals(2, copy.getVariables().size());
     }
 
+    @Test
+    public void testCopyExchangeWithProperties() {
+        exchange.setProperty("beer", "Carlsberg");
+        Map<String, Object> properties = exchange.getProperties();
+
+        Exchange copy = exchange.copy();
+        assertEquals("Carlsberg", copy.getProperty("beer"));
+
+        // changing the parent properties after the copy should not affect the copy
+        exchange.setProperty("beer", "Heineken");
+        properties.put("wine", "Merlot");
+        assertEquals("Carlsberg", copy.getProperty("beer"));
+        assertNull(copy.getProperty("wine"));
+
+        copy.getProperties().put("cheese", "gauda");
+        copy.removeProperty("beer");
+        assertEquals("Heineken", exchange.getProperty("beer"));
+        assertNull(exchange.getProperty("cheese"));
+    }
+
     @Test
     public void testInType() {
         exchange.setIn(new MyMessage(context));
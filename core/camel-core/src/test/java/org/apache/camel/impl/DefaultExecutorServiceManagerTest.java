@@ -27,11 +27,15 @@ import org.apache.camel.ContextTestSupport;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadFactoryTypeAware;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -609,4 +613,81 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         c.stop();
     }
 
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testVirtualThreadsProfile() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfile("virtual");
+        profile.setVirtualThreads(true);
+        profile.setMaxPoolSize(3);
+        profile.setMaxQueueSize(100);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Virtual", profile);
+        ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+        assertTrue(assertIsInstanceOf(ThreadFactoryTypeAware.class, tp.getThreadFactory()).isVirtual());
+        // the max pool size is used as core pool size to start a thread per task up till the max pool size
+        assertEquals(3, tp.getCorePoolSize());
+        assertEquals(3, tp.getMaximumPoolSize());
+        assertTrue(tp.allowsCoreThreadTimeOut());
+
+        CountDownLatch started = new CountDownLatch(3);
+        CountDownLatch latch = new CountDownLatch(1);
+        for (int i = 0; i < 5; i++) {
+            pool.execute(() -> {
+                started.countDown();
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        // only 3 tasks may run concurrently, and the others are queued
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertEquals(3, tp.getActiveCount());
+            assertEquals(2, tp.getQueue().size());
+        });
+
+        latch.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> tp.getCompletedTaskCount() == 5);
+        assertEquals(3, tp.getLargestPoolSize());
+
+        context.getExecutorServiceManager().shutdown(pool);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testVirtualThreadsDefaultProfile() {
+        context.getExecutorServiceManager().getDefaultThreadPoolProfile().setVirtualThreads(true);
+
+        // fixed thread pools such as used by seda consumers inherit from the default profile
+        ExecutorService pool = context.getExecutorServiceManager().newFixedThreadPool(this, "Virtual", 5);
+        ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+        assertTrue(assertIsInstanceOf(ThreadFactoryTypeAware.class, tp.getThreadFactory()).isVirtual());
+        assertEquals(5, tp.getCorePoolSize());
+        assertEquals(5, tp.getMaximumPoolSize());
+        assertFalse(tp.allowsCoreThreadTimeOut());
+
+        context.getExecutorServiceManager().shutdown(pool);
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    public void testVirtualThreadsProfileNotSupported() {
+        ThreadPoolProfile profile = new ThreadPoolProfile("virtual");
+        profile.setVirtualThreads(true);
+        profile.setMaxPoolSize(3);
+
+        // virtual threads requires Java 21, so platform threads are used
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Virtual", profile);
+        ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+        assertFalse(assertIsInstanceOf(ThreadFactoryTypeAware.class, tp.getThreadFactory()).isVirtual());
+        // the pool size from the default profile is higher than the max pool size
+        assertEquals(3, tp.getCorePoolSize());
+        assertEquals(3, tp.getMaximumPoolSize());
+
+        context.getExecutorServiceManager().shutdown(pool);
+    }
+
 }
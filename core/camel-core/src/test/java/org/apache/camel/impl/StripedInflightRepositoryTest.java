@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.StripedInflightRepository;
+import org.apache.camel.spi.InflightRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StripedInflightRepositoryTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setInflightRepository(new StripedInflightRepository());
+        context.getInflightRepository().setInflightBrowseEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testCounterOnly() throws Exception {
+        InflightRepository repo = new StripedInflightRepository(3);
+        assertEquals(4, ((StripedInflightRepository) repo).getSlots());
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        Thread.sleep(10);
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+        assertEquals(2, repo.size());
+
+        // browsing is not enabled so the exchanges cannot be browsed
+        assertTrue(repo.browse().isEmpty());
+
+        // but the oldest is still known
+        assertSame(e1, repo.oldest(null).getExchange());
+        assertTrue(repo.oldest(null).getDuration() >= 10);
+
+        repo.remove(e1);
+        assertSame(e2, repo.oldest(null).getExchange());
+
+        repo.remove(e2);
+        assertEquals(0, repo.size());
+        assertNull(repo.oldest(null));
+    }
+
+    @Test
+    public void testCounterOnlyAllCellsInUse() throws Exception {
+        InflightRepository repo = new StripedInflightRepository(1);
+
+        List<Exchange> exchanges = new ArrayList<>();
+        for (int i = 0; i < StripedInflightRepository.CELLS_PER_SLOT + 2; i++) {
+            Exchange exchange = new DefaultExchange(context);
+            exchanges.add(exchange);
+            repo.add(exchange);
+            Thread.sleep(2);
+        }
+        assertEquals(StripedInflightRepository.CELLS_PER_SLOT + 2, repo.size());
+        assertSame(exchanges.get(0), repo.oldest(null).getExchange());
+
+        // the exchanges which did not get a cell are only counted, but the cells are reused
+        for (int i = 0; i < StripedInflightRepository.CELLS_PER_SLOT; i++) {
+            repo.remove(exchanges.get(i));
+        }
+        assertEquals(2, repo.size());
+        assertNull(repo.oldest(null));
+
+        Exchange exchange = new DefaultExchange(context);
+        repo.add(exchange);
+        assertSame(exchange, repo.oldest(null).getExchange());
+    }
+
+    @Test
+    public void testOldest() throws Exception {
+        InflightRepository repo = new StripedInflightRepository(2);
+        repo.setInflightBrowseEnabled(true);
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        Thread.sleep(10);
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+        Exchange e3 = new DefaultExchange(context);
+        repo.add(e3);
+
+        assertEquals(3, repo.size());
+        assertEquals(3, repo.browse().size());
+        assertSame(e1, repo.oldest(null).getExchange());
+        assertSame(e1, repo.browse(1, true).iterator().next().getExchange());
+
+        repo.remove(e1);
+        assertEquals(2, repo.size());
+        assertEquals(2, repo.browse().size());
+        assertNotSame(e1, repo.oldest(null).getExchange());
+
+        repo.remove(e2);
+        repo.remove(e3);
+        assertEquals(0, repo.size());
+        assertNull(repo.oldest(null));
+    }
+
+    @Test
+    public void testInflight() {
+        assertInstanceOf(StripedInflightRepository.class, context.getInflightRepository());
+        assertEquals(0, context.getInflightRepository().browse().size());
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertEquals(0, context.getInflightRepository().size());
+        assertEquals(0, context.getInflightRepository().size("foo"));
+        assertEquals(0, context.getInflightRepository().browse().size());
+    }
+
+    @Test
+    public void testInflightCounterOnly() {
+        context.getInflightRepository().setInflightBrowseEnabled(false);
+
+        template.sendBody("direct:counter", "Hello World");
+
+        assertEquals(0, context.getInflightRepository().size());
+        assertEquals(0, context.getInflightRepository().size("counter"));
+        assertNull(context.getInflightRepository().oldest(null));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").routeId("foo").to("mock:a").process(exchange -> {
+                    assertEquals(1, context.getInflightRepository().size("foo"));
+
+                    Collection<InflightRepository.InflightExchange> list = context.getInflightRepository().browse("foo");
+                    assertEquals(1, list.size());
+
+                    InflightRepository.InflightExchange inflight = list.iterator().next();
+                    assertEquals(exchange, inflight.getExchange());
+                    assertEquals("foo", inflight.getFromRouteId());
+                    assertEquals("myProcessor", inflight.getNodeId());
+
+                    assertSame(exchange, context.getInflightRepository().oldest("foo").getExchange());
+                    assertNull(context.getInflightRepository().oldest("bar"));
+                }).id("myProcessor").to("mock:result");
+
+                from("direct:counter").routeId("counter").process(exchange -> {
+                    assertEquals(1, context.getInflightRepository().size("counter"));
+                    assertTrue(context.getInflightRepository().browse("counter").isEmpty());
+
+                    // the oldest inflight exchange is known without browsing
+                    assertSame(exchange, context.getInflightRepository().oldest("counter").getExchange());
+                    assertNull(context.getInflightRepository().oldest("foo"));
+                }).to("mock:counter");
+            }
+        };
+    }
+
+}
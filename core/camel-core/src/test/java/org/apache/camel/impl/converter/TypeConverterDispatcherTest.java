@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.TypeConverterLoaderException;
+import org.apache.camel.spi.TypeConverterDispatcher;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.support.SimpleTypeConverter;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests the type converter registry using a build time generated {@link TypeConverterDispatcher}.
+ */
+public class TypeConverterDispatcherTest extends ContextTestSupport {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testDispatcher() {
+        MyDispatcher dispatcher = new MyDispatcher();
+        context.getTypeConverterRegistry().addBulkTypeConverters(dispatcher);
+
+        assertEquals("dispatched-a", context.getTypeConverter().convertTo(Target.class, new Source("a")).value);
+        assertEquals("dispatched-b", context.getTypeConverter().convertTo(Target.class, new SubSource("b")).value);
+        assertEquals(2, dispatcher.calls.get());
+
+        // the other type converters are still used
+        assertEquals(Integer.valueOf(123), context.getTypeConverter().convertTo(Integer.class, "123"));
+
+        // and the dispatcher is found by lookup also for sub types
+        assertSame(dispatcher, context.getTypeConverterRegistry().lookup(Target.class, Source.class));
+        assertSame(dispatcher, context.getTypeConverterRegistry().lookup(Target.class, SubSource.class));
+        assertNull(context.getTypeConverterRegistry().lookup(Target.class, String.class));
+    }
+
+    @Test
+    public void testTypeConverterAddedToRegistry() {
+        MyDispatcher dispatcher = new MyDispatcher();
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        reg.addBulkTypeConverters(dispatcher);
+
+        // a type converter added to the registry is used instead of the dispatcher
+        reg.addTypeConverter(Target.class, SubSource.class, new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                return (T) new Target("registry-" + ((Source) value).value);
+            }
+        });
+
+        assertEquals("registry-a", context.getTypeConverter().convertTo(Target.class, new SubSource("a")).value);
+        assertEquals(0, dispatcher.calls.get());
+
+        // but the dispatcher is still used for the other types
+        assertEquals("dispatched-b", context.getTypeConverter().convertTo(Target.class, new Source("b")).value);
+        assertEquals(1, dispatcher.calls.get());
+    }
+
+    @Test
+    public void testLoadTypeConverterDispatcher() throws Exception {
+        Path file = tempDir.resolve("TypeConverterDispatcher");
+        Files.writeString(file, "# the dispatcher\n" + MyDispatcher.class.getName() + "\n");
+
+        DefaultTypeConverter reg = new DefaultTypeConverter(
+                context, PluginHelper.getPackageScanClassResolver(context), context.getInjector(), false, false) {
+            @Override
+            protected Collection<URL> getLoaderUrls(String basePath) throws IOException {
+                if (META_INF_SERVICES_TYPE_CONVERTER_DISPATCHER.equals(basePath)) {
+                    return List.of(file.toUri().toURL());
+                }
+                return super.getLoaderUrls(basePath);
+            }
+        };
+        reg.loadCoreAndFastTypeConverters();
+
+        TypeConverterDispatcher dispatcher = reg.getTypeConverterDispatcher();
+        assertNotNull(dispatcher);
+        assertEquals("dispatched-a", reg.convertTo(Target.class, new Source("a")).value);
+
+        // the fallback type converters are added when loading the dispatcher
+        assertEquals("fallback-b", reg.convertTo(OtherTarget.class, new Source("b")).value);
+
+        // the type converter loaders included in the dispatcher are not loaded
+        assertNull(reg.lookup(Integer.class, String.class));
+    }
+
+    public static class MyDispatcher implements TypeConverterDispatcher {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Collection<String> getTypeConverterLoaders() {
+            return List.of("org.apache.camel.converter.CamelBaseBulkConverterLoader");
+        }
+
+        @Override
+        public void load(TypeConverterRegistry registry) throws TypeConverterLoaderException {
+            registry.addBulkTypeConverters(this);
+            registry.addFallbackTypeConverter(new SimpleTypeConverter(false, (type, exchange, value) -> {
+                if (type == OtherTarget.class && value instanceof Source source) {
+                    return new OtherTarget("fallback-" + source.value);
+                }
+                return null;
+            }), false);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T convertTo(Class<?> from, Class<T> to, Exchange exchange, Object value) throws TypeConversionException {
+            if (to == Target.class && value instanceof Source source) {
+                calls.incrementAndGet();
+                return (T) new Target("dispatched-" + source.value);
+            }
+            return null;
+        }
+
+        @Override
+        public TypeConverter lookup(Class<?> to, Class<?> from) {
+            if (to == Target.class && from == Source.class) {
+                return this;
+            }
+            return null;
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+    }
+
+    public static class Source {
+        private final String value;
+
+        public Source(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class SubSource extends Source {
+
+        public SubSource(String value) {
+            super(value);
+        }
+    }
+
+    public static class Target {
+        private final String value;
+
+        public Target(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class OtherTarget {
+        private final String value;
+
+        public OtherTarget(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.spi.TypeConvertible;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests the caching of misses and unmatched type pairs in the type converter registry, and the hot conversions
+ * statistics.
+ */
+public class TypeConverterRegistryCacheTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = new DefaultCamelContext(false);
+        context.setTypeConverterStatisticsEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testMissThenAddTypeConverter() {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+
+        // the miss is remembered
+        assertNull(context.getTypeConverter().convertTo(Target.class, new Source("a")));
+        assertNull(context.getTypeConverter().convertTo(Target.class, new Source("b")));
+        assertEquals(2, reg.getStatistics().getMissCounter());
+
+        reg.addTypeConverter(Target.class, Source.class, new SourceTargetConverter());
+        assertEquals("c", context.getTypeConverter().convertTo(Target.class, new Source("c")).value);
+
+        // and removed again
+        reg.removeTypeConverter(Target.class, Source.class);
+        assertNull(context.getTypeConverter().convertTo(Target.class, new Source("d")));
+    }
+
+    @Test
+    public void testFallbackMissIsPerValue() {
+        AtomicInteger calls = new AtomicInteger();
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                if (type == OtherTarget.class && value instanceof Source source) {
+                    calls.incrementAndGet();
+                    if ("miss".equals(source.value)) {
+                        return (T) MISS_VALUE;
+                    }
+                    return (T) new OtherTarget(source.value);
+                }
+                return null;
+            }
+        }, false);
+
+        assertNull(context.getTypeConverter().convertTo(OtherTarget.class, new Source("miss")));
+        assertNull(context.getTypeConverter().convertTo(OtherTarget.class, new Source("miss")));
+        // the fallback decides per value, so a miss from the fallback must not prevent converting other values
+        assertEquals("a", context.getTypeConverter().convertTo(OtherTarget.class, new Source("a")).value);
+        assertEquals("b", context.getTypeConverter().convertTo(OtherTarget.class, new Source("b")).value);
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testUnmatchedThenAddTypeConverter() {
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new TypeConverterSupport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                if (type == Target.class && value instanceof SubSource) {
+                    return (T) MISS_VALUE;
+                }
+                return null;
+            }
+        }, false);
+
+        // there is no converter for the sub type so only the fallback is tried
+        assertNull(context.getTypeConverter().convertTo(Target.class, new SubSource("a")));
+        assertNull(context.getTypeConverter().convertTo(Target.class, new SubSource("b")));
+
+        // which must be forgotten when a converter is added for its super type
+        context.getTypeConverterRegistry().addTypeConverter(Target.class, Source.class, new SourceTargetConverter());
+        assertEquals("c", context.getTypeConverter().convertTo(Target.class, new SubSource("c")).value);
+    }
+
+    @Test
+    public void testHotConversions() {
+        TypeConverter tc = context.getTypeConverter();
+        TypeConverterRegistry.Statistics statistics = context.getTypeConverterRegistry().getStatistics();
+        statistics.reset();
+
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals("Hello".getBytes(), tc.convertTo(byte[].class, "Hello"));
+        }
+        assertEquals("Hello", tc.convertTo(String.class, "Hello".getBytes()));
+
+        Map<TypeConvertible<?, ?>, Long> hot = statistics.getHotConversions(10);
+        assertEquals(2, hot.size());
+        Map.Entry<TypeConvertible<?, ?>, Long> first = hot.entrySet().iterator().next();
+        assertEquals(String.class, first.getKey().getFrom());
+        assertEquals(byte[].class, first.getKey().getTo());
+        assertEquals(3, first.getValue());
+        assertEquals(1, hot.get(new TypeConvertible<>(byte[].class, String.class)));
+
+        assertEquals(1, statistics.getHotConversions(1).size());
+
+        statistics.reset();
+        assertEquals(0, statistics.getHotConversions(10).size());
+    }
+
+    public static class Source {
+        private final String value;
+
+        public Source(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class SubSource extends Source {
+
+        public SubSource(String value) {
+            super(value);
+        }
+    }
+
+    public static class Target {
+        private final String value;
+
+        public Target(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class OtherTarget {
+        private final String value;
+
+        public OtherTarget(String value) {
+            this.value = value;
+        }
+    }
+
+    private static class SourceTargetConverter extends TypeConverterSupport {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+            return (T) new Target(((Source) value).value);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.CamelInternalProcessorAdvice;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CamelInternalProcessorTest extends ContextTestSupport {
+
+    private final Map<String, List<Object>> states = new ConcurrentHashMap<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        // the after tasks are only pooled when the exchanges are pooled
+        context.getCamelContextExtension().setExchangeFactory(new PooledExchangeFactory());
+        return context;
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testThreeStatefulAdvices() throws Exception {
+        CamelInternalProcessor processor = new CamelInternalProcessor(context, e -> e.getMessage().setBody("Bye"));
+        processor.addAdvice(new MyAdvice("a", true));
+        processor.addAdvice(new MyAdvice("b", false));
+        processor.addAdvice(new MyAdvice("c", true));
+        processor.addAdvice(new MyAdvice("d", true));
+        ServiceHelper.startService(processor);
+
+        for (int i = 0; i < 3; i++) {
+            Exchange exchange = createExchangeWithBody("Hello " + i);
+            processor.process(exchange);
+            assertEquals("Bye", exchange.getMessage().getBody());
+        }
+
+        assertEquals(List.of("a-0", "a-1", "a-2"), states.get("a"));
+        assertEquals(List.of("c-0", "c-1", "c-2"), states.get("c"));
+        assertEquals(List.of("d-0", "d-1", "d-2"), states.get("d"));
+        // the stateless advice has no state
+        assertEquals(3, states.get("b").size());
+        states.get("b").forEach(s -> assertEquals("none", s));
+
+        ServiceHelper.stopAndShutdownService(processor);
+    }
+
+    @Test
+    public void testStatefulAdviceAddedAfterProcessing() throws Exception {
+        CamelInternalProcessor processor = new CamelInternalProcessor(context, e -> e.getMessage().setBody("Bye"));
+        processor.addAdvice(new MyAdvice("a", true));
+        processor.addAdvice(new MyAdvice("b", true));
+        ServiceHelper.startService(processor);
+
+        processor.process(createExchangeWithBody("Hello 0"));
+
+        // the pooled task only keeps the states of two advices
+        processor.addAdvice(new MyAdvice("c", true));
+        processor.process(createExchangeWithBody("Hello 1"));
+
+        assertEquals(List.of("a-0", "a-1"), states.get("a"));
+        assertEquals(List.of("b-0", "b-1"), states.get("b"));
+        assertEquals(List.of("c-1"), states.get("c"));
+
+        ServiceHelper.stopAndShutdownService(processor);
+    }
+
+    private class MyAdvice implements CamelInternalProcessorAdvice<Object> {
+
+        private final String name;
+        private final boolean stateful;
+
+        MyAdvice(String name, boolean stateful) {
+            this.name = name;
+            this.stateful = stateful;
+        }
+
+        @Override
+        public Object before(Exchange exchange) {
+            String body = exchange.getMessage().getBody(String.class);
+            return name + "-" + body.substring(body.length() - 1);
+        }
+
+        @Override
+        public void after(Exchange exchange, Object data) {
+            states.computeIfAbsent(name, k -> new CopyOnWriteArrayList<>()).add(data != null ? data : "none");
+        }
+
+        @Override
+        public boolean hasState() {
+            return stateful;
+        }
+    }
+}
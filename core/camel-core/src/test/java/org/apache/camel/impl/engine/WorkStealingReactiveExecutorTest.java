@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+        executor.setParallelism(4);
+        executor.setStatisticsEnabled(true);
+        context.getCamelContextExtension().setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testStealQueuedTasks() throws Exception {
+        WorkStealingReactiveExecutor executor = (WorkStealingReactiveExecutor) context.getCamelContextExtension()
+                .getReactiveExecutor();
+        assertTrue(executor.isStarted());
+
+        final int size = 20;
+        final CountDownLatch latch = new CountDownLatch(size);
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final Thread caller = Thread.currentThread();
+
+        executor.schedule(() -> {
+            // a burst of tasks queued behind the current task
+            for (int i = 0; i < size; i++) {
+                executor.schedule(() -> {
+                    threads.add(Thread.currentThread());
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    latch.countDown();
+                });
+            }
+        });
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(executor.getStolenTasks() > 0, "Should have stolen tasks");
+        assertTrue(threads.contains(caller), "Should have run tasks on the caller thread");
+        assertTrue(threads.size() > 1, "Should have run tasks on other threads");
+        assertEquals(0, executor.getPendingTasks());
+    }
+
+    @Test
+    public void testScheduleSyncIsNotStolen() {
+        WorkStealingReactiveExecutor executor = (WorkStealingReactiveExecutor) context.getCamelContextExtension()
+                .getReactiveExecutor();
+
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final Thread caller = Thread.currentThread();
+
+        executor.schedule(() -> {
+            for (int i = 0; i < 5; i++) {
+                final int num = i;
+                executor.scheduleSync(() -> {
+                    assertSame(caller, Thread.currentThread());
+                    order.add("sync" + num);
+                });
+            }
+        });
+
+        assertEquals(List.of("sync0", "sync1", "sync2", "sync3", "sync4"), order);
+    }
+
+    @Test
+    public void testRoute() throws Exception {
+        getMockEndpoint("mock:line").expectedMessageCount(100);
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "A,B,C,D,E,F,G,H,I,J");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body().tokenize(","))
+                            .to("mock:line")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResequencerExecutorServiceTest extends ContextTestSupport {
+
+    private ScheduledExecutorService myPool;
+
+    @Override
+    protected Registry createCamelRegistry() throws Exception {
+        Registry registry = super.createCamelRegistry();
+        myPool = Executors.newScheduledThreadPool(1, r -> new Thread(r, "MyResequencer"));
+        registry.bind("myPool", myPool);
+        return registry;
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+        myPool.shutdownNow();
+    }
+
+    @Test
+    public void testSharedThreadPool() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:shared");
+        mock.expectedBodiesReceived("A", "B", "C");
+        sendBodies("direct:shared", "C", "A", "B");
+        mock.assertIsSatisfied();
+
+        String name = mock.getReceivedExchanges().get(0).getMessage().getHeader("threadName", String.class);
+        assertTrue(name.endsWith("Resequencer"), "Should use the shared resequencer thread pool: " + name);
+        assertFalse(name.contains("ErrorHandlerRedeliveryTask"), "Should not use the error handler thread pool: " + name);
+    }
+
+    @Test
+    public void testCustomThreadPool() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:custom");
+        mock.expectedBodiesReceived("A", "B", "C");
+        sendBodies("direct:custom", "C", "A", "B");
+        mock.assertIsSatisfied();
+
+        String name = mock.getReceivedExchanges().get(0).getMessage().getHeader("threadName", String.class);
+        assertTrue(name.endsWith("MyResequencer"), "Should use the custom thread pool: " + name);
+
+        // the custom thread pool is not shutdown when the route is removed
+        context.getRouteController().stopRoute("custom");
+        context.removeRoute("custom");
+        assertFalse(myPool.isShutdown());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:shared").routeId("shared")
+                        .resequence(body()).batch().timeout(50)
+                        .process(e -> e.getMessage().setHeader("threadName", Thread.currentThread().getName()))
+                        .to("mock:shared");
+
+                from("direct:custom").routeId("custom")
+                        .resequence(body()).batch().timeout(50).executorService("myPool")
+                        .process(e -> e.getMessage().setHeader("threadName", Thread.currentThread().getName()))
+                        .to("mock:custom");
+            }
+        };
+    }
+}
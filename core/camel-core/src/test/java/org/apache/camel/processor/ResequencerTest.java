@@ -30,6 +30,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class ResequencerTest extends ContextTestSupport {
     protected Endpoint startEndpoint;
@@ -61,6 +62,18 @@ public class ResequencerTest extends ContextTestSupport {
         resultEndpoint.assertIsSatisfied();
     }
 
+    @Test
+    public void testNoDedicatedSenderThread() throws Exception {
+        resultEndpoint.expectedBodiesReceived("Guillaume", "Hiram", "James", "Rob");
+        sendBodies("direct:start", "Rob", "Hiram", "Guillaume", "James");
+        resultEndpoint.assertIsSatisfied();
+
+        // the batches are sent by the shared scheduled thread pool
+        boolean found = Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(t -> t.getName().contains("Batch Sender"));
+        assertFalse(found, "Should not use a dedicated thread for sending the batches");
+    }
+
     @Override
     @BeforeEach
     public void setUp() throws Exception {
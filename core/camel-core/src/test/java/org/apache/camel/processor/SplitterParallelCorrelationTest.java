@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.FailedToCreateRouteException;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SplitterParallelCorrelationTest extends ContextTestSupport {
+
+    private final Map<String, List<String>> received = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> active = new ConcurrentHashMap<>();
+    private final AtomicInteger overlaps = new AtomicInteger();
+
+    @Test
+    public void testOrderPerKey() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", createBody());
+
+        assertMockEndpointsSatisfied();
+        assertOrderPerKey();
+    }
+
+    @Test
+    public void testOrderPerKeyStreaming() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:streaming", createBody());
+
+        assertMockEndpointsSatisfied();
+        assertOrderPerKey();
+    }
+
+    @Test
+    public void testAggregate() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived(
+                "A1+B1+C1+A2+B2+C2+A3+B3+C3+A4+B4+C4+A5+B5+C5+A6+B6+C6+A7+B7+C7+A8+B8+C8+A9+B9+C9");
+
+        template.sendBody("direct:aggregate", createBody());
+
+        assertMockEndpointsSatisfied();
+        assertOrderPerKey();
+    }
+
+    @Test
+    public void testParallelProcessingRequired() throws Exception {
+        RouteBuilder builder = new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:invalid").split(body()).correlationExpression(simple("${body.substring(0, 1)}"))
+                        .to("mock:split");
+            }
+        };
+
+        assertThrows(FailedToCreateRouteException.class, () -> context.addRoutes(builder));
+    }
+
+    private static String createBody() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i < 10; i++) {
+            for (String key : new String[] { "A", "B", "C" }) {
+                if (!sb.isEmpty()) {
+                    sb.append(",");
+                }
+                sb.append(key).append(i);
+            }
+        }
+        return sb.toString();
+    }
+
+    private void assertOrderPerKey() {
+        assertEquals(0, overlaps.get(), "Split messages with the same key should not be processed concurrently");
+        assertEquals(3, received.size());
+        for (Map.Entry<String, List<String>> entry : received.entrySet()) {
+            List<String> expected = new ArrayList<>();
+            for (int i = 1; i < 10; i++) {
+                expected.add(entry.getKey() + i);
+            }
+            assertEquals(expected, entry.getValue());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body().tokenize(",")).parallelProcessing()
+                        .correlationExpression(simple("${body.substring(0, 1)}"))
+                        .process(e -> record(e.getMessage().getBody(String.class)))
+                        .end()
+                        .to("mock:result");
+
+                from("direct:streaming")
+                        .split(body().tokenize(",")).parallelProcessing().streaming()
+                        .correlationExpression(simple("${body.substring(0, 1)}"))
+                        .process(e -> record(e.getMessage().getBody(String.class)))
+                        .end()
+                        .to("mock:result");
+
+                from("direct:aggregate")
+                        .split(body().tokenize(","), AggregationStrategies.string("+")).parallelProcessing()
+                        .correlationExpression(simple("${body.substring(0, 1)}"))
+                        .process(e -> record(e.getMessage().getBody(String.class)))
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private void record(String body) throws InterruptedException {
+        String key = body.substring(0, 1);
+        AtomicInteger counter = active.computeIfAbsent(key, k -> new AtomicInteger());
+        if (counter.incrementAndGet() > 1) {
+            overlaps.incrementAndGet();
+        }
+        try {
+            // the later split messages are faster to provoke processing them out of order
+            Thread.sleep(10 - Integer.parseInt(body.substring(1)));
+            received.computeIfAbsent(key, k -> new ArrayList<>()).add(body);
+        } finally {
+            counter.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.FailedToCreateRouteException;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelMaxInflightTest extends ContextTestSupport {
+
+    private static final int MAX_INFLIGHT = 3;
+
+    private final AtomicInteger split = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxSeen = new AtomicInteger();
+
+    @Test
+    public void testMaxInflightStreaming() throws Exception {
+        getMockEndpoint("mock:split").expectedMessageCount(50);
+        getMockEndpoint("mock:result").expectedBodiesReceived(50);
+
+        template.sendBody("direct:streaming", new CountingIterator(50));
+
+        assertMockEndpointsSatisfied();
+        assertEquals(50, aggregated.get());
+        assertTrue(maxSeen.get() <= MAX_INFLIGHT, "Should not have more than 3 inflight, was: " + maxSeen.get());
+    }
+
+    @Test
+    public void testMaxInflight() throws Exception {
+        getMockEndpoint("mock:split").expectedMessageCount(50);
+        getMockEndpoint("mock:result").expectedBodiesReceived(50);
+
+        List<Integer> body = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            body.add(i);
+        }
+        template.sendBody("direct:start", body);
+
+        assertMockEndpointsSatisfied();
+        assertEquals(50, aggregated.get());
+        assertTrue(maxSeen.get() <= MAX_INFLIGHT, "Should not have more than 3 inflight, was: " + maxSeen.get());
+    }
+
+    @Test
+    public void testParallelProcessingRequired() throws Exception {
+        RouteBuilder builder = new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:invalid").split(body()).streaming().maxInflight(10).to("mock:split");
+            }
+        };
+
+        assertThrows(FailedToCreateRouteException.class, () -> context.addRoutes(builder));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                AggregationStrategy counting = (oldExchange, newExchange) -> {
+                    int count = aggregated.incrementAndGet();
+                    newExchange.getMessage().setBody(count);
+                    return newExchange;
+                };
+
+                from("direct:streaming")
+                        .split(body(), counting).streaming().parallelProcessing().maxInflight(MAX_INFLIGHT)
+                        .process(e -> Thread.sleep(5))
+                        .to("mock:split")
+                        .end()
+                        .to("mock:result");
+
+                from("direct:start")
+                        .split(body(), counting).parallelProcessing().maxInflight(MAX_INFLIGHT)
+                        .process(e -> {
+                            // all the messages are split up front, so count the sub messages being processed
+                            int inflight = split.incrementAndGet() - aggregated.get();
+                            maxSeen.accumulateAndGet(inflight, Math::max);
+                        })
+                        .process(e -> Thread.sleep(5))
+                        .to("mock:split")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    /**
+     * Iterator which keeps track of the number of inflight split messages when the splitter asks for the next message
+     */
+    private final class CountingIterator implements Iterator<Integer> {
+
+        private final int size;
+
+        private CountingIterator(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return split.get() < size;
+        }
+
+        @Override
+        public Integer next() {
+            int inflight = split.incrementAndGet() - aggregated.get();
+            maxSeen.accumulateAndGet(inflight, Math::max);
+            return split.get();
+        }
+    }
+}
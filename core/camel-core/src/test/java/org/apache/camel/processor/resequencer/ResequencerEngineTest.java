@@ -19,6 +19,8 @@ package org.apache.camel.processor.resequencer;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.TestSupport;
@@ -30,6 +32,7 @@ import org.junit.jupiter.api.condition.DisabledIf;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ResequencerEngineTest extends TestSupport {
 
@@ -89,6 +92,33 @@ class ResequencerEngineTest extends TestSupport {
         assertEquals(4, resequencer.getLastDelivered());
     }
 
+    @Test
+    void testInsertWhileDelivering() throws Exception {
+        ResequencerEngine<Integer> engine = new ResequencerEngine<>(new IntegerComparator());
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch inserted = new CountDownLatch(1);
+        engine.setSequenceSender(o -> {
+            if (o == 3) {
+                // the next element is inserted by another thread while this element is being delivered
+                new Thread(() -> {
+                    engine.insert(4);
+                    inserted.countDown();
+                }).start();
+                assertTrue(inserted.await(5, TimeUnit.SECONDS));
+            }
+            delivered.add(o);
+        });
+        engine.start();
+        try {
+            engine.setLastDelivered(2);
+            engine.insert(3);
+            engine.deliver();
+            assertEquals(List.of(3, 4), delivered);
+        } finally {
+            engine.stop();
+        }
+    }
+
     @DisabledIf(value = "isIgnoreLoadTests",
                 disabledReason = "Enabled only when the System property 'ignore.load.tests' is not set to 'true'")
     @Test
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.concurrent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.AdaptiveConcurrentRequestsThrottler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrentRequestsThrottlerTest extends ContextTestSupport {
+
+    private static final int MAXIMUM = 10;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private volatile long latency = 1;
+
+    @Test
+    public void testLimitDecreasedWhenLatencyIncreases() throws Exception {
+        AdaptiveConcurrentRequestsThrottler throttler
+                = context.getProcessor("throttle", AdaptiveConcurrentRequestsThrottler.class);
+
+        getMockEndpoint("mock:result").expectedMessageCount(200);
+        for (int i = 0; i < 200; i++) {
+            template.sendBody("seda:start", i);
+        }
+        assertMockEndpointsSatisfied();
+
+        assertEquals("AdaptiveConcurrentRequests", throttler.getMode());
+        assertEquals(MAXIMUM, throttler.getMaximumLimit());
+        assertTrue(throttler.getCurrentMaximumRequests() <= MAXIMUM);
+        assertTrue(maxActive.get() <= MAXIMUM, "Should not have more than 10 concurrent, was: " + maxActive.get());
+
+        // the downstream system is now saturated
+        latency = 50;
+        resetMocks();
+        getMockEndpoint("mock:result").expectedMessageCount(100);
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("seda:start", i);
+        }
+        assertMockEndpointsSatisfied();
+
+        int limit = throttler.getCurrentMaximumRequests();
+        assertTrue(limit < MAXIMUM, "Limit should be decreased, was: " + limit);
+        assertTrue(throttler.getRoundTripTime() >= 50, "Round trip time was: " + throttler.getRoundTripTime());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:start?concurrentConsumers=20")
+                        .throttle(MAXIMUM).adaptiveConcurrentRequestsMode().id("throttle")
+                        .process(e -> {
+                            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                            try {
+                                Thread.sleep(latency);
+                            } finally {
+                                active.decrementAndGet();
+                            }
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.requests;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.ThrottlerRejectedExecutionException;
+import org.apache.camel.processor.TokenBucketThrottler;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.support.processor.throttle.MemoryTokenBucketRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketThrottlerTest extends ContextTestSupport {
+
+    private final CountingTokenBucketRepository repository = new CountingTokenBucketRepository();
+
+    @Test
+    public void testBurstThenRateLimited() throws Exception {
+        TokenBucketThrottler throttler = context.getProcessor("burst", TokenBucketThrottler.class);
+        assertEquals("TokenBucket", throttler.getMode());
+        assertEquals(5, throttler.getBurstCapacity());
+
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedMessageCount(5);
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:burst", i);
+        }
+        assertMockEndpointsSatisfied();
+        long burst = System.currentTimeMillis() - start;
+        assertTrue(burst < 400, "The burst should not be throttled, was: " + burst);
+
+        // the bucket is empty, so each message must wait for a token (2 tokens per second)
+        resetMocks();
+        result.expectedMessageCount(2);
+        start = System.currentTimeMillis();
+        for (int i = 0; i < 2; i++) {
+            template.sendBody("direct:burst", i);
+        }
+        assertMockEndpointsSatisfied();
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue(elapsed >= 700, "Should be throttled, was: " + elapsed);
+    }
+
+    @Test
+    public void testRejectExecution() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+        getMockEndpoint("mock:error").expectedMessageCount(2);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:reject", i);
+        }
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testReservationSize() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(20);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("direct:shared", i);
+        }
+        assertMockEndpointsSatisfied();
+
+        // 10 tokens are reserved per call to the repository
+        assertEquals(2, repository.calls.get());
+    }
+
+    @Test
+    public void testSharedRepository() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        template.sendBody("direct:shared", "A");
+        template.sendBody("direct:shared2", "B");
+        assertMockEndpointsSatisfied();
+
+        // each throttler has its own bucket in the shared repository
+        assertEquals(Set.of("shared:CamelThrottlerDefaultKey", "shared2:CamelThrottlerDefaultKey"), repository.keys);
+
+        // the shared repository is not stopped together with the throttler
+        context.getRouteController().stopRoute("sharedRoute");
+        assertTrue(repository.isStarted());
+        assertFalse(repository.isStopped());
+    }
+
+    @Override
+    protected Registry createCamelRegistry() throws Exception {
+        Registry registry = super.createCamelRegistry();
+        registry.bind("sharedRepository", repository);
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                onException(ThrottlerRejectedExecutionException.class).handled(true).to("mock:error");
+
+                from("direct:burst")
+                        .throttle(2).tokenBucketMode().burstCapacity(5).id("burst")
+                        .to("mock:result");
+
+                from("direct:reject")
+                        .throttle(3).tokenBucketMode().timePeriodMillis(10000).rejectExecution(true)
+                        .to("mock:result");
+
+                from("direct:shared").routeId("sharedRoute")
+                        .throttle(100).tokenBucketMode().tokenBucketRepository("sharedRepository").id("shared")
+                        .to("mock:result");
+
+                from("direct:shared2")
+                        .throttle(100).tokenBucketMode().tokenBucketRepository("sharedRepository").id("shared2")
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private static class CountingTokenBucketRepository extends MemoryTokenBucketRepository {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public long take(String key, long tokens, long capacity, long refillTokens, long refillPeriodMillis) {
+            calls.incrementAndGet();
+            keys.add(key);
+            return super.take(key, tokens, capacity, refillTokens, refillPeriodMillis);
+        }
+
+        @Override
+        public int getReservationSize() {
+            return 10;
+        }
+    }
+}
@@ -198,4 +198,103 @@ public class DefaultTimeoutMapTest {
         map.stop();
     }
 
+    @Test
+    public void testTimingWheelExpiredInCorrectOrder() {
+        final List<String> keys = new ArrayList<>();
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
+        map.setTimingWheel(true);
+        assertTrue(map.isTimingWheel());
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+        map.start();
+
+        map.put("A", 1, 50);
+        map.put("B", 2, 30);
+        map.put("C", 3, 40);
+        map.put("D", 4, 20);
+        map.put("E", 5, 40);
+        // is not expired
+        map.put("F", 6, 800);
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertEquals(5, keys.size()));
+
+        assertEquals(List.of("D", "B", "C", "E", "A"), keys);
+        assertEquals(1, map.size());
+
+        map.stop();
+    }
+
+    @Test
+    public void testTimingWheel() {
+        final List<String> keys = new ArrayList<>();
+        final long[] clock = { 1_000_000 };
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100) {
+            @Override
+            protected long currentTime() {
+                return clock[0];
+            }
+        };
+        map.setTimingWheel(true);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+
+        // timeouts spanning the levels of the timing wheel
+        map.put("A", 1, 150);
+        map.put("B", 2, 30_000);
+        map.put("C", 3, 3_600_000);
+        map.put("D", 4, 20_000);
+        map.put("E", 5, 20_000);
+        map.put("F", 6, 50_000);
+        map.put("G", 7, 30L * 24 * 3_600_000);
+        assertEquals(7, map.size());
+
+        clock[0] += 100;
+        map.purge();
+        assertTrue(keys.isEmpty());
+
+        clock[0] += 100;
+        map.purge();
+        assertEquals(List.of("A"), keys);
+
+        // refreshing the entry postpones its expiry
+        clock[0] += 10_000;
+        map.purge();
+        assertEquals(4, map.get("D").intValue());
+        // replacing the entry uses the new timeout
+        map.put("F", 6, 100_000);
+        // removed entries are not evicted
+        map.remove("E");
+
+        clock[0] += 20_000;
+        map.purge();
+        assertEquals(List.of("A", "B"), keys);
+
+        clock[0] += 10_000;
+        map.purge();
+        assertEquals(List.of("A", "B", "D"), keys);
+
+        clock[0] += 100_000;
+        map.purge();
+        assertEquals(List.of("A", "B", "D", "F"), keys);
+
+        clock[0] += 3_600_000;
+        map.purge();
+        assertEquals(List.of("A", "B", "D", "F", "C"), keys);
+        assertEquals(1, map.size());
+
+        clock[0] += 30L * 24 * 3_600_000;
+        map.purge();
+        assertEquals(List.of("A", "B", "D", "F", "C", "G"), keys);
+        assertEquals(0, map.size());
+    }
+
 }
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AppendOnlyFileIdempotentRepositoryTest extends TestSupport {
+
+    private AppendOnlyFileIdempotentRepository repository;
+
+    @AfterEach
+    public void tearDown() {
+        if (repository != null) {
+            repository.stop();
+        }
+    }
+
+    private AppendOnlyFileIdempotentRepository newRepository() {
+        File directory = testDirectory().resolve("store").toFile();
+        return new AppendOnlyFileIdempotentRepository(directory);
+    }
+
+    @Test
+    public void testAddRemoveAndReload() {
+        repository = newRepository();
+        repository.start();
+
+        assertTrue(repository.add("A"));
+        assertTrue(repository.add("B"));
+        assertTrue(repository.add("C"));
+        assertFalse(repository.add("B"));
+        assertTrue(repository.remove("B"));
+        assertFalse(repository.remove("B"));
+        assertTrue(repository.contains("A"));
+        assertFalse(repository.contains("B"));
+        assertEquals(2, repository.getSize());
+        assertEquals(4, repository.getRecords());
+        repository.stop();
+
+        // the store is replayed when starting
+        repository = newRepository();
+        repository.start();
+        assertEquals(2, repository.getSize());
+        assertTrue(repository.contains("A"));
+        assertFalse(repository.contains("B"));
+        assertTrue(repository.contains("C"));
+    }
+
+    @Test
+    public void testDirectoryNotSet() {
+        AppendOnlyFileIdempotentRepository repo = new AppendOnlyFileIdempotentRepository();
+        assertNull(repo.getDirectoryPath());
+
+        Exception e = assertThrows(IllegalArgumentException.class, repo::start);
+        assertTrue(e.getMessage().startsWith("directory must be specified"), e.getMessage());
+    }
+
+    @Test
+    public void testCompact() {
+        repository = newRepository();
+        repository.setMaxSegmentSize(64);
+        // only compact when asked
+        repository.setCompactionThreshold(100);
+        repository.start();
+
+        for (int i = 0; i < 100; i++) {
+            repository.add("key" + i);
+        }
+        for (int i = 10; i < 100; i++) {
+            repository.remove("key" + i);
+        }
+        assertEquals(10, repository.getSize());
+        assertEquals(190, repository.getRecords());
+        assertTrue(repository.getSegments() > 2);
+
+        repository.compact();
+        assertEquals(1, repository.getCompactions());
+        assertEquals(10, repository.getRecords());
+        assertEquals(2, repository.getSegments());
+
+        repository.add("key100");
+        repository.remove("key0");
+        repository.stop();
+
+        repository = newRepository();
+        repository.start();
+        assertEquals(10, repository.getSize());
+        assertFalse(repository.contains("key0"));
+        assertTrue(repository.contains("key9"));
+        assertTrue(repository.contains("key100"));
+        assertFalse(repository.contains("key10"));
+    }
+
+    @Test
+    public void testCompactInBackground() {
+        repository = newRepository();
+        repository.setMaxSegmentSize(64);
+        repository.start();
+
+        for (int i = 0; i < 100; i++) {
+            repository.add("key" + i);
+            repository.remove("key" + i);
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertTrue(repository.getCompactions() > 0));
+        assertEquals(0, repository.getSize());
+        assertTrue(repository.getRecords() < 200);
+    }
+
+    @Test
+    public void testDiscardPartialRecord() throws Exception {
+        repository = newRepository();
+        repository.start();
+        repository.add("A");
+        repository.add("B");
+        repository.stop();
+
+        // simulate a crash while writing a record
+        Path last;
+        try (Stream<Path> files = Files.list(testDirectory().resolve("store"))) {
+            last = files.sorted().reduce((a, b) -> b).orElseThrow();
+        }
+        Files.write(last, "+C".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        repository = newRepository();
+        repository.start();
+        assertEquals(2, repository.getSize());
+        assertFalse(repository.contains("C"));
+        assertTrue(repository.add("C"));
+    }
+
+    @Test
+    public void testClear() {
+        repository = newRepository();
+        repository.setSyncPolicy("always");
+        repository.start();
+        repository.add("A");
+        repository.add("B");
+
+        repository.clear();
+        assertEquals(0, repository.getSize());
+        assertEquals(0, repository.getRecords());
+        assertTrue(repository.add("A"));
+        repository.stop();
+
+        repository = newRepository();
+        repository.start();
+        assertEquals(1, repository.getSize());
+        assertTrue(repository.contains("A"));
+    }
+}
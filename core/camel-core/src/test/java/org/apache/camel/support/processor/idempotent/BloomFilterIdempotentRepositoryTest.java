@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterIdempotentRepositoryTest extends TestSupport {
+
+    private final AtomicInteger checks = new AtomicInteger();
+
+    private MemoryIdempotentRepository newBackingRepository() {
+        return new MemoryIdempotentRepository() {
+            @Override
+            public boolean contains(String key) {
+                checks.incrementAndGet();
+                return super.contains(key);
+            }
+        };
+    }
+
+    @Test
+    public void testNewKeysAreNotChecked() {
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(newBackingRepository());
+        repository.setExpectedInsertions(1000);
+        repository.setTrustNewFilter(true);
+        repository.start();
+        try {
+            assertTrue(repository.isTrusted());
+            for (int i = 0; i < 100; i++) {
+                assertFalse(repository.contains("key" + i));
+                assertTrue(repository.add("key" + i));
+            }
+            // the backing repository is only checked on false positives
+            assertEquals(checks.get(), repository.getMissCount());
+            assertEquals(100, repository.getHitCount() + repository.getMissCount());
+            assertTrue(repository.getHitCount() >= 95);
+            assertEquals(repository.getMissCount(), repository.getFalsePositiveCount());
+
+            // duplicates are checked against the backing repository
+            assertTrue(repository.contains("key10"));
+            assertFalse(repository.add("key10"));
+            assertTrue(repository.remove("key10"));
+            assertFalse(repository.contains("key10"));
+            assertTrue(repository.add("key10"));
+
+            repository.clear();
+            assertFalse(repository.contains("key20"));
+            assertEquals(0, ((MemoryIdempotentRepository) repository.getIdempotentRepository()).getCacheSize());
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void testAddIsNotCounted() {
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(newBackingRepository());
+        repository.setExpectedInsertions(1000);
+        repository.setTrustNewFilter(true);
+        repository.start();
+        try {
+            // adding keys (as the idempotent consumer does in eager mode) always goes to the backing repository
+            assertTrue(repository.add("key1"));
+            assertFalse(repository.add("key1"));
+            assertEquals(0, repository.getHitCount());
+            assertEquals(0, repository.getMissCount());
+            assertEquals(0, repository.getFalsePositiveCount());
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void testNewFilterNotTrusted() {
+        MemoryIdempotentRepository backing = newBackingRepository();
+        backing.start();
+        backing.add("key5");
+
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(backing);
+        repository.setExpectedInsertions(1000);
+        repository.start();
+        try {
+            assertFalse(repository.isTrusted());
+            // the keys are checked against the backing repository
+            assertTrue(repository.contains("key5"));
+            assertFalse(repository.contains("key6"));
+            assertEquals(2, checks.get());
+            assertEquals(0, repository.getHitCount());
+
+            // until the repository is cleared
+            repository.clear();
+            assertTrue(repository.isTrusted());
+            assertFalse(repository.contains("key5"));
+            assertEquals(2, checks.get());
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void testFilterFile() {
+        File file = testFile("bloom.dat").toFile();
+
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(newBackingRepository());
+        repository.setExpectedInsertions(1000);
+        repository.setTrustNewFilter(true);
+        repository.setFilterFile(file);
+        repository.start();
+        for (int i = 0; i < 100; i++) {
+            repository.add("key" + i);
+        }
+        repository.stop();
+        assertTrue(file.exists());
+
+        // the filter is loaded from the file, and knows the keys added before
+        MemoryIdempotentRepository backing = newBackingRepository();
+        backing.start();
+        backing.add("key5");
+        repository = new BloomFilterIdempotentRepository(backing);
+        repository.setExpectedInsertions(1000);
+        repository.setFilterFile(file);
+        repository.start();
+        try {
+            assertTrue(repository.isTrusted());
+            assertTrue(repository.contains("key5"));
+            assertEquals(1, repository.getMissCount());
+        } finally {
+            repository.stop();
+        }
+
+        // a filter of another size is ignored, and the keys are checked against the backing repository
+        repository = new BloomFilterIdempotentRepository(backing);
+        repository.setExpectedInsertions(5000);
+        repository.setTrustNewFilter(true);
+        repository.setFilterFile(file);
+        repository.start();
+        try {
+            assertFalse(repository.isTrusted());
+            assertFalse(repository.contains("key6"));
+            assertEquals(0, repository.getHitCount());
+            assertEquals(1, repository.getMissCount());
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void testRestartWithoutStop() {
+        File file = testFile("bloom.dat").toFile();
+        MemoryIdempotentRepository backing = newBackingRepository();
+        backing.start();
+
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(backing);
+        repository.setExpectedInsertions(1000);
+        repository.setTrustNewFilter(true);
+        repository.setFilterFile(file);
+        repository.start();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(repository.add("key" + i));
+        }
+        // the application crashes, so the repository is not stopped
+
+        repository = new BloomFilterIdempotentRepository(backing);
+        repository.setExpectedInsertions(1000);
+        repository.setTrustNewFilter(true);
+        repository.setFilterFile(file);
+        repository.start();
+        try {
+            assertTrue(repository.isTrusted());
+            // the keys added before the crash are known
+            for (int i = 0; i < 100; i++) {
+                assertTrue(repository.contains("key" + i));
+                assertFalse(repository.add("key" + i));
+            }
+            assertFalse(repository.contains("key100"));
+        } finally {
+            repository.stop();
+        }
+    }
+}
@@ -76,6 +76,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("JmxManagementRegisterRoutesCreateByKamelet", boolean.class);
         map.put("JmxManagementRegisterRoutesCreateByTemplate", boolean.class);
         map.put("JmxManagementStatisticsLevel", org.apache.camel.ManagementStatisticsLevel.class);
+        map.put("JmxManagementStatisticsSampleRate", int.class);
         map.put("JmxUpdateRouteEnabled", boolean.class);
         map.put("LoadHealthChecks", boolean.class);
         map.put("LoadStatisticsEnabled", boolean.class);
@@ -91,8 +92,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("MessageHistory", boolean.class);
         map.put("Modeline", boolean.class);
         map.put("Name", java.lang.String.class);
+        map.put("ProcessingTimePercentilesEnabled", boolean.class);
         map.put("ProducerTemplateCacheSize", int.class);
         map.put("Profile", java.lang.String.class);
+        map.put("ReactiveExecutor", java.lang.String.class);
+        map.put("ReactiveExecutorParallelism", int.class);
+        map.put("ReactiveExecutorStealThreshold", int.class);
         map.put("RouteFilterExcludePattern", java.lang.String.class);
         map.put("RouteFilterIncludePattern", java.lang.String.class);
         map.put("RoutesBuilderClasses", java.lang.String.class);
@@ -112,6 +117,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("ShutdownRoutesInReverseOrder", boolean.class);
         map.put("ShutdownSuppressLoggingOnTimeout", boolean.class);
         map.put("ShutdownTimeout", int.class);
+        map.put("SimpleCompileThreshold", int.class);
         map.put("SourceLocationEnabled", boolean.class);
         map.put("StartupRecorder", java.lang.String.class);
         map.put("StartupRecorderDir", java.lang.String.class);
@@ -129,6 +135,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("StreamCachingSpoolCipher", java.lang.String.class);
         map.put("StreamCachingSpoolDirectory", java.lang.String.class);
         map.put("StreamCachingSpoolEnabled", boolean.class);
+        map.put("StreamCachingSpoolMemoryMapped", boolean.class);
         map.put("StreamCachingSpoolThreshold", long.class);
         map.put("StreamCachingSpoolUsedHeapMemoryLimit", java.lang.String.class);
         map.put("StreamCachingSpoolUsedHeapMemoryThreshold", int.class);
@@ -257,6 +264,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "jmxManagementRegisterRoutesCreateByTemplate": target.setJmxManagementRegisterRoutesCreateByTemplate(property(camelContext, boolean.class, value)); return true;
         case "jmxmanagementstatisticslevel":
         case "jmxManagementStatisticsLevel": target.setJmxManagementStatisticsLevel(property(camelContext, org.apache.camel.ManagementStatisticsLevel.class, value)); return true;
+        case "jmxmanagementstatisticssamplerate":
+        case "jmxManagementStatisticsSampleRate": target.setJmxManagementStatisticsSampleRate(property(camelContext, int.class, value)); return true;
         case "jmxupdaterouteenabled":
         case "jmxUpdateRouteEnabled": target.setJmxUpdateRouteEnabled(property(camelContext, boolean.class, value)); return true;
         case "loadhealthchecks":
@@ -285,9 +294,17 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageHistory": target.setMessageHistory(property(camelContext, boolean.class, value)); return true;
         case "modeline": target.setModeline(property(camelContext, boolean.class, value)); return true;
         case "name": target.setName(property(camelContext, java.lang.String.class, value)); return true;
+        case "processingtimepercentilesenabled":
+        case "processingTimePercentilesEnabled": target.setProcessingTimePercentilesEnabled(property(camelContext, boolean.class, value)); return true;
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
         case "profile": target.setProfile(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutor":
+        case "reactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutorparallelism":
+        case "reactiveExecutorParallelism": target.setReactiveExecutorParallelism(property(camelContext, int.class, value)); return true;
+        case "reactiveexecutorstealthreshold":
+        case "reactiveExecutorStealThreshold": target.setReactiveExecutorStealThreshold(property(camelContext, int.class, value)); return true;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
@@ -326,6 +343,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "shutdownSuppressLoggingOnTimeout": target.setShutdownSuppressLoggingOnTimeout(property(camelContext, boolean.class, value)); return true;
         case "shutdowntimeout":
         case "shutdownTimeout": target.setShutdownTimeout(property(camelContext, int.class, value)); return true;
+        case "simplecompilethreshold":
+        case "simpleCompileThreshold": target.setSimpleCompileThreshold(property(camelContext, int.class, value)); return true;
         case "sourcelocationenabled":
         case "sourceLocationEnabled": target.setSourceLocationEnabled(property(camelContext, boolean.class, value)); return true;
         case "startuprecorder":
@@ -360,6 +379,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": target.setStreamCachingSpoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspoolmemorymapped":
+        case "streamCachingSpoolMemoryMapped": target.setStreamCachingSpoolMemoryMapped(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspoolthreshold":
         case "streamCachingSpoolThreshold": target.setStreamCachingSpoolThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolusedheapmemorylimit":
@@ -507,6 +528,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "jmxManagementRegisterRoutesCreateByTemplate": return boolean.class;
         case "jmxmanagementstatisticslevel":
         case "jmxManagementStatisticsLevel": return org.apache.camel.ManagementStatisticsLevel.class;
+        case "jmxmanagementstatisticssamplerate":
+        case "jmxManagementStatisticsSampleRate": return int.class;
         case "jmxupdaterouteenabled":
         case "jmxUpdateRouteEnabled": return boolean.class;
         case "loadhealthchecks":
@@ -535,9 +558,17 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageHistory": return boolean.class;
         case "modeline": return boolean.class;
         case "name": return java.lang.String.class;
+        case "processingtimepercentilesenabled":
+        case "processingTimePercentilesEnabled": return boolean.class;
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return int.class;
         case "profile": return java.lang.String.class;
+        case "reactiveexecutor":
+        case "reactiveExecutor": return java.lang.String.class;
+        case "reactiveexecutorparallelism":
+        case "reactiveExecutorParallelism": return int.class;
+        case "reactiveexecutorstealthreshold":
+        case "reactiveExecutorStealThreshold": return int.class;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
@@ -576,6 +607,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "shutdownSuppressLoggingOnTimeout": return boolean.class;
         case "shutdowntimeout":
         case "shutdownTimeout": return int.class;
+        case "simplecompilethreshold":
+        case "simpleCompileThreshold": return int.class;
         case "sourcelocationenabled":
         case "sourceLocationEnabled": return boolean.class;
         case "startuprecorder":
@@ -610,6 +643,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": return java.lang.String.class;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return boolean.class;
+        case "streamcachingspoolmemorymapped":
+        case "streamCachingSpoolMemoryMapped": return boolean.class;
         case "streamcachingspoolthreshold":
         case "streamCachingSpoolThreshold": return long.class;
         case "streamcachingspoolusedheapmemorylimit":
@@ -753,6 +788,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "jmxManagementRegisterRoutesCreateByTemplate": return target.isJmxManagementRegisterRoutesCreateByTemplate();
         case "jmxmanagementstatisticslevel":
         case "jmxManagementStatisticsLevel": return target.getJmxManagementStatisticsLevel();
+        case "jmxmanagementstatisticssamplerate":
+        case "jmxManagementStatisticsSampleRate": return target.getJmxManagementStatisticsSampleRate();
         case "jmxupdaterouteenabled":
         case "jmxUpdateRouteEnabled": return target.isJmxUpdateRouteEnabled();
         case "loadhealthchecks":
@@ -781,9 +818,17 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageHistory": return target.isMessageHistory();
         case "modeline": return target.isModeline();
         case "name": return target.getName();
+        case "processingtimepercentilesenabled":
+        case "processingTimePercentilesEnabled": return target.isProcessingTimePercentilesEnabled();
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return target.getProducerTemplateCacheSize();
         case "profile": return target.getProfile();
+        case "reactiveexecutor":
+        case "reactiveExecutor": return target.getReactiveExecutor();
+        case "reactiveexecutorparallelism":
+        case "reactiveExecutorParallelism": return target.getReactiveExecutorParallelism();
+        case "reactiveexecutorstealthreshold":
+        case "reactiveExecutorStealThreshold": return target.getReactiveExecutorStealThreshold();
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
@@ -822,6 +867,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "shutdownSuppressLoggingOnTimeout": return target.isShutdownSuppressLoggingOnTimeout();
         case "shutdowntimeout":
         case "shutdownTimeout": return target.getShutdownTimeout();
+        case "simplecompilethreshold":
+        case "simpleCompileThreshold": return target.getSimpleCompileThreshold();
         case "sourcelocationenabled":
         case "sourceLocationEnabled": return target.isSourceLocationEnabled();
         case "startuprecorder":
@@ -856,6 +903,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return target.isStreamCachingSpoolEnabled();
+        case "streamcachingspoolmemorymapped":
+        case "streamCachingSpoolMemoryMapped": return target.isStreamCachingSpoolMemoryMapped();
         case "streamcachingspoolthreshold":
         case "streamCachingSpoolThreshold": return target.getStreamCachingSpoolThreshold();
         case "streamcachingspoolusedheapmemorylimit":
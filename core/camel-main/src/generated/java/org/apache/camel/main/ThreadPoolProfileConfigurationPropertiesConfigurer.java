@@ -30,6 +30,7 @@ public class ThreadPoolProfileConfigurationPropertiesConfigurer extends org.apac
         map.put("PoolSize", java.lang.Integer.class);
         map.put("RejectedPolicy", org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy.class);
         map.put("TimeUnit", java.util.concurrent.TimeUnit.class);
+        map.put("VirtualThreads", java.lang.Boolean.class);
         ALL_OPTIONS = map;
     }
 
@@ -52,6 +53,8 @@ public class ThreadPoolProfileConfigurationPropertiesConfigurer extends org.apac
         case "rejectedPolicy": target.setRejectedPolicy(property(camelContext, org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy.class, value)); return true;
         case "timeunit":
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
+        case "virtualthreads":
+        case "virtualThreads": target.setVirtualThreads(property(camelContext, java.lang.Boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -79,6 +82,8 @@ public class ThreadPoolProfileConfigurationPropertiesConfigurer extends org.apac
         case "rejectedPolicy": return org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy.class;
         case "timeunit":
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
+        case "virtualthreads":
+        case "virtualThreads": return java.lang.Boolean.class;
         default: return null;
         }
     }
@@ -102,6 +107,8 @@ public class ThreadPoolProfileConfigurationPropertiesConfigurer extends org.apac
         case "rejectedPolicy": return target.getRejectedPolicy();
         case "timeunit":
         case "timeUnit": return target.getTimeUnit();
+        case "virtualthreads":
+        case "virtualThreads": return target.getVirtualThreads();
         default: return null;
         }
     }
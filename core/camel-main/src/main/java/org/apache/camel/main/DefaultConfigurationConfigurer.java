@@ -41,6 +41,8 @@ import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
+import org.apache.camel.language.simple.SimpleLanguage;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -61,6 +63,7 @@ import org.apache.camel.spi.EventNotifier;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinderResolver;
+import org.apache.camel.spi.HeadersMapFactory;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.spi.InterceptStrategy;
 import org.apache.camel.spi.LifecycleStrategy;
@@ -168,6 +171,13 @@ public final class DefaultConfigurationConfigurer {
         ecc.getExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
         ecc.getProcessorExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
 
+        if ("work-stealing".equals(config.getReactiveExecutor())) {
+            WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+            executor.setParallelism(config.getReactiveExecutorParallelism());
+            executor.setStealThreshold(config.getReactiveExecutorStealThreshold());
+            ecc.setReactiveExecutor(executor);
+        }
+
         if (!config.isJmxEnabled()) {
             camelContext.disableJMX();
         }
@@ -196,6 +206,10 @@ public final class DefaultConfigurationConfigurer {
             camelContext.getGlobalOptions().put(Exchange.LOG_DEBUG_BODY_MAX_CHARS,
                     Integer.toString(config.getLogDebugMaxChars()));
         }
+        if (config.getSimpleCompileThreshold() > 0) {
+            camelContext.getGlobalOptions().put(SimpleLanguage.COMPILE_THRESHOLD,
+                    Integer.toString(config.getSimpleCompileThreshold()));
+        }
 
         // stream caching
         camelContext.setStreamCaching(config.isStreamCachingEnabled());
@@ -207,6 +221,7 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy()
                 .setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
+        camelContext.getStreamCachingStrategy().setSpoolMemoryMapped(config.isStreamCachingSpoolMemoryMapped());
         if (config.getStreamCachingSpoolDirectory() != null) {
             camelContext.getStreamCachingStrategy().setSpoolDirectory(config.getStreamCachingSpoolDirectory());
         }
@@ -293,8 +308,12 @@ public final class DefaultConfigurationConfigurer {
                     .setEndpointRuntimeStatisticsEnabled(config.isEndpointRuntimeStatisticsEnabled());
             camelContext.getManagementStrategy().getManagementAgent()
                     .setLoadStatisticsEnabled(config.isLoadStatisticsEnabled());
+            camelContext.getManagementStrategy().getManagementAgent()
+                    .setProcessingTimePercentilesEnabled(config.isProcessingTimePercentilesEnabled());
             camelContext.getManagementStrategy().getManagementAgent()
                     .setStatisticsLevel(config.getJmxManagementStatisticsLevel());
+            camelContext.getManagementStrategy().getManagementAgent()
+                    .setStatisticsSampleRate(config.getJmxManagementStatisticsSampleRate());
             camelContext.getManagementStrategy().getManagementAgent()
                     .setMBeansLevel(config.getJmxManagementMBeansLevel());
             camelContext.getManagementStrategy().getManagementAgent()
@@ -484,6 +503,10 @@ public final class DefaultConfigurationConfigurer {
         if (exf != null) {
             camelContext.getCamelContextExtension().setExchangeFactory(exf);
         }
+        HeadersMapFactory hmf = getSingleBeanOfType(registry, HeadersMapFactory.class);
+        if (hmf != null) {
+            camelContext.getCamelContextExtension().setHeadersMapFactory(hmf);
+        }
         Set<TypeConverters> tcs = registry.findByType(TypeConverters.class);
         if (!tcs.isEmpty()) {
             tcs.forEach(t -> camelContext.getTypeConverterRegistry().addTypeConverters(t));
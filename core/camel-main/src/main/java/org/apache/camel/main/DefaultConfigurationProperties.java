@@ -58,12 +58,16 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean devConsoleEnabled;
     private boolean modeline;
     private int logDebugMaxChars;
+    @Metadata(label = "advanced")
+    private int simpleCompileThreshold;
     private boolean streamCachingEnabled = true;
     private String streamCachingAllowClasses;
     private String streamCachingDenyClasses;
     private boolean streamCachingSpoolEnabled;
     private String streamCachingSpoolDirectory;
     private String streamCachingSpoolCipher;
+    @Metadata(label = "advanced")
+    private boolean streamCachingSpoolMemoryMapped;
     private long streamCachingSpoolThreshold;
     private int streamCachingSpoolUsedHeapMemoryThreshold;
     private String streamCachingSpoolUsedHeapMemoryLimit;
@@ -91,6 +95,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean autowiredEnabled = true;
     private boolean endpointRuntimeStatisticsEnabled;
     private boolean loadStatisticsEnabled;
+    private boolean processingTimePercentilesEnabled;
     private boolean endpointLazyStartProducer;
     private boolean endpointBridgeErrorHandler;
     private boolean useDataType;
@@ -98,8 +103,9 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean beanPostProcessorEnabled = true;
     @Metadata(defaultValue = "Default", enums = "ContextOnly,RoutesOnly,Default")
     private ManagementMBeansLevel jmxManagementMBeansLevel = ManagementMBeansLevel.Default;
-    @Metadata(defaultValue = "Default", enums = "Extended,Default,RoutesOnly,Off")
+    @Metadata(defaultValue = "Default", enums = "Extended,Default,Sampled,RoutesOnly,Off")
     private ManagementStatisticsLevel jmxManagementStatisticsLevel = ManagementStatisticsLevel.Default;
+    private int jmxManagementStatisticsSampleRate = 10;
     private String jmxManagementNamePattern = "#name#";
     private boolean jmxUpdateRouteEnabled;
     private boolean jmxManagementRegisterRoutesCreateByKamelet;
@@ -133,6 +139,12 @@ public abstract class DefaultConfigurationProperties<T> {
     private String exchangeFactory = "default";
     private int exchangeFactoryCapacity = 100;
     private boolean exchangeFactoryStatisticsEnabled;
+    @Metadata(label = "advanced", defaultValue = "default", enums = "default,work-stealing")
+    private String reactiveExecutor = "default";
+    @Metadata(label = "advanced")
+    private int reactiveExecutorParallelism;
+    @Metadata(label = "advanced", defaultValue = "1")
+    private int reactiveExecutorStealThreshold = 1;
     @Metadata(enums = "xml,yaml")
     private String dumpRoutes;
     private String dumpRoutesInclude = "routes";
@@ -441,6 +453,20 @@ public abstract class DefaultConfigurationProperties<T> {
         this.logDebugMaxChars = logDebugMaxChars;
     }
 
+    public int getSimpleCompileThreshold() {
+        return simpleCompileThreshold;
+    }
+
+    /**
+     * Number of evaluations of the same simple expression or predicate, before it's compiled to bytecode at runtime
+     * (requires camel-csimple-joor on the classpath). The expressions are compiled by a background thread, and an
+     * expression that cannot be compiled continues to be evaluated by the simple language as usual. Is default 0 which
+     * means compilation is turned off.
+     */
+    public void setSimpleCompileThreshold(int simpleCompileThreshold) {
+        this.simpleCompileThreshold = simpleCompileThreshold;
+    }
+
     public boolean isStreamCachingEnabled() {
         return streamCachingEnabled;
     }
@@ -529,6 +555,18 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolCipher = streamCachingSpoolCipher;
     }
 
+    public boolean isStreamCachingSpoolMemoryMapped() {
+        return streamCachingSpoolMemoryMapped;
+    }
+
+    /**
+     * Whether stream caching should spool to disk using memory mapped files, instead of regular file streams. This
+     * avoids copying the cached data through buffers in the heap, which benefits large payloads.
+     */
+    public void setStreamCachingSpoolMemoryMapped(boolean streamCachingSpoolMemoryMapped) {
+        this.streamCachingSpoolMemoryMapped = streamCachingSpoolMemoryMapped;
+    }
+
     public long getStreamCachingSpoolThreshold() {
         return streamCachingSpoolThreshold;
     }
@@ -894,6 +932,21 @@ public abstract class DefaultConfigurationProperties<T> {
         this.loadStatisticsEnabled = loadStatisticsEnabled;
     }
 
+    public boolean isProcessingTimePercentilesEnabled() {
+        return processingTimePercentilesEnabled;
+    }
+
+    /**
+     * Sets whether the percentiles (p50, p95, p99 and p999) of the processing time of routes and processors are
+     * recorded. The processing times are recorded in a histogram per route and processor, which uses additional memory.
+     * The statistics requires to have camel-management on the classpath as JMX is required.
+     *
+     * The default value is false.
+     */
+    public void setProcessingTimePercentilesEnabled(boolean processingTimePercentilesEnabled) {
+        this.processingTimePercentilesEnabled = processingTimePercentilesEnabled;
+    }
+
     public boolean isEndpointLazyStartProducer() {
         return endpointLazyStartProducer;
     }
@@ -994,7 +1047,8 @@ public abstract class DefaultConfigurationProperties<T> {
     }
 
     /**
-     * Sets the JMX statistics level, the level can be set to Extended to gather additional information
+     * Sets the JMX statistics level, the level can be set to Extended to gather additional information, or to Sampled
+     * to only measure the processing time of the processors for a sample of the exchanges.
      *
      * The default value is Default.
      */
@@ -1002,6 +1056,20 @@ public abstract class DefaultConfigurationProperties<T> {
         this.jmxManagementStatisticsLevel = jmxManagementStatisticsLevel;
     }
 
+    public int getJmxManagementStatisticsSampleRate() {
+        return jmxManagementStatisticsSampleRate;
+    }
+
+    /**
+     * Sets the sample rate when the JMX statistics level is Sampled, where the processing time of the processors is
+     * measured for 1 in N exchanges. The exchanges are still counted exactly, and the routes are always measured.
+     *
+     * The default value is 10.
+     */
+    public void setJmxManagementStatisticsSampleRate(int jmxManagementStatisticsSampleRate) {
+        this.jmxManagementStatisticsSampleRate = jmxManagementStatisticsSampleRate;
+    }
+
     public String getJmxManagementNamePattern() {
         return jmxManagementNamePattern;
     }
@@ -1432,6 +1500,45 @@ public abstract class DefaultConfigurationProperties<T> {
         this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
     }
 
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * Controls which reactive executor the routing engine uses to run asynchronous continuations. The default runs the
+     * continuations on the thread that completed the callback. Using work-stealing lets idle threads from a fork-join
+     * pool steal continuations that are queued up behind a busy thread, which allows spreading a burst of work from a
+     * few threads (such as IO threads) across the CPU cores.
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
+    public int getReactiveExecutorParallelism() {
+        return reactiveExecutorParallelism;
+    }
+
+    /**
+     * Number of threads in the pool that can steal tasks, when using the work-stealing reactive executor. The default
+     * is the number of available processors.
+     */
+    public void setReactiveExecutorParallelism(int reactiveExecutorParallelism) {
+        this.reactiveExecutorParallelism = reactiveExecutorParallelism;
+    }
+
+    public int getReactiveExecutorStealThreshold() {
+        return reactiveExecutorStealThreshold;
+    }
+
+    /**
+     * Number of pending tasks a thread must have queued before further tasks can be stolen by idle threads, when using
+     * the work-stealing reactive executor. The default is 1, which means the next pending task is always run by the
+     * same thread.
+     */
+    public void setReactiveExecutorStealThreshold(int reactiveExecutorStealThreshold) {
+        this.reactiveExecutorStealThreshold = reactiveExecutorStealThreshold;
+    }
+
     public String getDumpRoutes() {
         return dumpRoutes;
     }
@@ -1832,6 +1939,17 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Number of evaluations of the same simple expression or predicate, before it's compiled to bytecode at runtime
+     * (requires camel-csimple-joor on the classpath). The expressions are compiled by a background thread, and an
+     * expression that cannot be compiled continues to be evaluated by the simple language as usual. Is default 0 which
+     * means compilation is turned off.
+     */
+    public T withSimpleCompileThreshold(int simpleCompileThreshold) {
+        this.simpleCompileThreshold = simpleCompileThreshold;
+        return (T) this;
+    }
+
     /**
      * Sets whether stream caching is enabled or not.
      *
@@ -1902,6 +2020,15 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether stream caching should spool to disk using memory mapped files, instead of regular file streams. This
+     * avoids copying the cached data through buffers in the heap, which benefits large payloads.
+     */
+    public T withStreamCachingSpoolMemoryMapped(boolean streamCachingSpoolMemoryMapped) {
+        this.streamCachingSpoolMemoryMapped = streamCachingSpoolMemoryMapped;
+        return (T) this;
+    }
+
     /**
      * Stream caching threshold in bytes when overflow to disk is activated. The default threshold is 128kb. Use -1 to
      * disable overflow to disk.
@@ -2158,6 +2285,18 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether the percentiles (p50, p95, p99 and p999) of the processing time of routes and processors are
+     * recorded. The processing times are recorded in a histogram per route and processor, which uses additional memory.
+     * The statistics requires to have camel-management on the classpath as JMX is required.
+     *
+     * The default value is false.
+     */
+    public T withProcessingTimePercentilesEnabled(boolean processingTimePercentilesEnabled) {
+        this.processingTimePercentilesEnabled = processingTimePercentilesEnabled;
+        return (T) this;
+    }
+
     /**
      * Whether the producer should be started lazy (on the first message). By starting lazy you can use this to allow
      * CamelContext and routes to startup in situations where a producer may otherwise fail during starting and cause
@@ -2245,6 +2384,17 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the sample rate when the JMX statistics level is Sampled, where the processing time of the processors is
+     * measured for 1 in N exchanges. The exchanges are still counted exactly, and the routes are always measured.
+     *
+     * The default value is 10.
+     */
+    public T withJmxManagementStatisticsSampleRate(int jmxManagementStatisticsSampleRate) {
+        this.jmxManagementStatisticsSampleRate = jmxManagementStatisticsSampleRate;
+        return (T) this;
+    }
+
     /**
      * The naming pattern for creating the CamelContext JMX management name.
      *
@@ -2591,6 +2741,36 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Controls which reactive executor the routing engine uses to run asynchronous continuations. The default runs the
+     * continuations on the thread that completed the callback. Using work-stealing lets idle threads from a fork-join
+     * pool steal continuations that are queued up behind a busy thread, which allows spreading a burst of work from a
+     * few threads (such as IO threads) across the CPU cores.
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
+    /**
+     * Number of threads in the pool that can steal tasks, when using the work-stealing reactive executor. The default
+     * is the number of available processors.
+     */
+    public T withReactiveExecutorParallelism(int reactiveExecutorParallelism) {
+        this.reactiveExecutorParallelism = reactiveExecutorParallelism;
+        return (T) this;
+    }
+
+    /**
+     * Number of pending tasks a thread must have queued before further tasks can be stolen by idle threads, when using
+     * the work-stealing reactive executor. The default is 1, which means the next pending task is always run by the
+     * same thread.
+     */
+    public T withReactiveExecutorStealThreshold(int reactiveExecutorStealThreshold) {
+        this.reactiveExecutorStealThreshold = reactiveExecutorStealThreshold;
+        return (T) this;
+    }
+
     /**
      * If dumping is enabled then Camel will during startup dump all loaded routes (incl rests and route templates)
      * represented as XML/YAML DSL into the log. This is intended for trouble shooting or to assist during development.
@@ -78,6 +78,7 @@ public class ProfileConfigurer {
             config.setSourceLocationEnabled(true);
             config.setModeline(true);
             config.setLoadStatisticsEnabled(true);
+            config.setProcessingTimePercentilesEnabled(true);
             config.setMessageHistory(true);
             config.setInflightRepositoryBrowseEnabled(true);
             config.setEndpointRuntimeStatisticsEnabled(true);
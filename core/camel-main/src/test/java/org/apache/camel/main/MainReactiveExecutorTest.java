@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class MainReactiveExecutorTest {
+
+    @Test
+    public void testWorkStealing() {
+        Main main = new Main();
+
+        main.addInitialProperty("camel.main.reactive-executor", "work-stealing");
+        main.addInitialProperty("camel.main.reactive-executor-parallelism", "3");
+        main.addInitialProperty("camel.main.reactive-executor-steal-threshold", "5");
+
+        main.start();
+
+        CamelContext context = main.getCamelContext();
+        ReactiveExecutor re = context.getCamelContextExtension().getReactiveExecutor();
+        WorkStealingReactiveExecutor executor = assertInstanceOf(WorkStealingReactiveExecutor.class, re);
+        assertEquals(3, executor.getParallelism());
+        assertEquals(5, executor.getStealThreshold());
+
+        main.stop();
+    }
+
+}
@@ -40,12 +40,19 @@ public final class JmxSystemPropertyKeys {
     // whether to enable gathering load statistics in the background
     public static final String LOAD_STATISTICS_ENABLED = "org.apache.camel.jmx.loadStatisticsEnabled";
 
+    // whether to record the percentiles of the processing time
+    public static final String PROCESSING_TIME_PERCENTILES_ENABLED
+            = "org.apache.camel.jmx.processingTimePercentilesEnabled";
+
     // whether to enable gathering endpoint runtime statistics
     public static final String ENDPOINT_RUNTIME_STATISTICS_ENABLED = "org.apache.camel.jmx.endpointRuntimeStatisticsEnabled";
 
     // the level of statistics enabled
     public static final String STATISTICS_LEVEL = "org.apache.camel.jmx.statisticsLevel";
 
+    // the sample rate (1 in N exchanges) when the statistics level is sampled
+    public static final String STATISTICS_SAMPLE_RATE = "org.apache.camel.jmx.statisticsSampleRate";
+
     // whether to register always
     public static final String REGISTER_ALWAYS = "org.apache.camel.jmx.registerAlways";
 
@@ -91,11 +91,15 @@ public final class CamelOpenMBeanTypes {
     public static CompositeType listExchangeFactoryCompositeType() throws OpenDataException {
         return new CompositeType(
                 "factories", "Factories",
-                new String[] { "url", "routeId", "capacity", "pooled", "created", "acquired", "released", "discarded" },
-                new String[] { "Url", "RouteId", "Capacity", "Pooled", "Created", "Acquired", "Released", "Discarded" },
+                new String[] {
+                        "url", "routeId", "capacity", "pooled", "created", "acquired", "released", "discarded", "inUse",
+                        "reusePercentage" },
+                new String[] {
+                        "Url", "RouteId", "Capacity", "Pooled", "Created", "Acquired", "Released", "Discarded", "InUse",
+                        "ReusePercentage" },
                 new OpenType[] {
                         SimpleType.STRING, SimpleType.STRING, SimpleType.INTEGER, SimpleType.INTEGER, SimpleType.LONG,
-                        SimpleType.LONG, SimpleType.LONG, SimpleType.LONG });
+                        SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.INTEGER });
     }
 
     public static TabularType listRuntimeEndpointsTabularType() throws OpenDataException {
@@ -56,6 +56,12 @@ public interface ManagedExchangeFactoryManagerMBean extends ManagedServiceMBean
     @ManagedAttribute(description = "Total number of exchanges discarded (such as when capacity is full)")
     Long getTotalDiscarded();
 
+    @ManagedAttribute(description = "Total number of exchanges currently in use (not yet released or discarded)")
+    Long getTotalInUse();
+
+    @ManagedAttribute(description = "Percentage of exchanges reused from the pool instead of being created (if pooling is in use)")
+    Integer getReusePercentage();
+
     @ManagedOperation(description = "Lists all the statistics in tabular form")
     TabularData listStatistics();
 
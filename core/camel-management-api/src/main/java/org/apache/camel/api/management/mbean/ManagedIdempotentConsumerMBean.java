@@ -42,6 +42,15 @@ public interface ManagedIdempotentConsumerMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Current count of duplicate Messages")
     long getDuplicateMessageCount();
 
+    @ManagedAttribute(description = "Number of keys the bloom filter of the idempotent repository determined to be new, without checking the backing repository (only in use with BloomFilterIdempotentRepository and eager=false)")
+    long getBloomFilterHitCount();
+
+    @ManagedAttribute(description = "Number of keys which were checked against the backing repository, as the bloom filter of the idempotent repository determined them to be probably present, or is not trusted (only in use with BloomFilterIdempotentRepository and eager=false)")
+    long getBloomFilterMissCount();
+
+    @ManagedAttribute(description = "Number of keys the bloom filter of the idempotent repository determined to be probably present, but were not present in the backing repository (only in use with BloomFilterIdempotentRepository and eager=false)")
+    long getBloomFilterFalsePositiveCount();
+
     @ManagedOperation(description = "Reset the current count of duplicate Messages")
     void resetDuplicateMessageCount();
 
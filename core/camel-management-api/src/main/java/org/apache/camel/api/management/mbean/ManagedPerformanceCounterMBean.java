@@ -26,6 +26,9 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Number of completed exchanges")
     long getExchangesCompleted();
 
+    @ManagedAttribute(description = "Number of completed exchanges where the processing time was measured (only a sample of the exchanges when the statistics level is Sampled)")
+    long getExchangesTimed();
+
     @ManagedAttribute(description = "Number of failed exchanges")
     long getExchangesFailed();
 
@@ -59,6 +62,24 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Delta Processing Time [milliseconds]")
     long getDeltaProcessingTime();
 
+    @ManagedAttribute(description = "Whether the percentiles of the processing time are recorded")
+    boolean isProcessingTimePercentilesEnabled();
+
+    @ManagedAttribute(description = "50th Percentile (median) Processing Time [milliseconds], or -1 if not enabled")
+    long getP50ProcessingTime();
+
+    @ManagedAttribute(description = "95th Percentile Processing Time [milliseconds], or -1 if not enabled")
+    long getP95ProcessingTime();
+
+    @ManagedAttribute(description = "99th Percentile Processing Time [milliseconds], or -1 if not enabled")
+    long getP99ProcessingTime();
+
+    @ManagedAttribute(description = "99.9th Percentile Processing Time [milliseconds], or -1 if not enabled")
+    long getP999ProcessingTime();
+
+    @ManagedAttribute(description = "The 50th, 95th, 99th and 99.9th Percentile Processing Time [milliseconds], or -1 if not enabled")
+    long[] getProcessingTimePercentiles();
+
     @ManagedAttribute(description = "Time in millis being idle (no messages incoming or inflight)")
     long getIdleSince();
 
@@ -84,6 +84,9 @@ public interface ManagedThreadPoolMBean {
     @ManagedAttribute(description = "Whether core threads is allowed to timeout if no tasks in queue to process")
     void setAllowCoreThreadTimeout(boolean allowCoreThreadTimeout);
 
+    @ManagedAttribute(description = "Whether the pool uses virtual threads")
+    boolean isVirtualThreads();
+
     @ManagedAttribute(description = "Is shutdown")
     boolean isShutdown();
 
@@ -35,6 +35,12 @@ public interface ManagedThrottlerMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "The throttler mode in use")
     String getMode();
 
+    @ManagedAttribute(description = "The upper bound of the maximum concurrent requests when using adaptive concurrent requests mode")
+    long getMaximumRequestsLimit();
+
+    @ManagedAttribute(description = "The measured round trip time in millis when using adaptive concurrent requests mode")
+    long getRoundTripTime();
+
     @ManagedAttribute(description = "Enables asynchronous delay which means the thread will not block while delaying")
     Boolean isAsyncDelayed();
 
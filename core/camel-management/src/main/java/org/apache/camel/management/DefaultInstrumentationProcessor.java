@@ -38,6 +38,8 @@ public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
         implements InstrumentationProcessor<StopWatch>, Ordered {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultInstrumentationProcessor.class);
+    // marks an exchange which is counted but not timed, when the statistics are sampled
+    private static final StopWatch NOT_TIMED = new StopWatch(false);
 
     private PerformanceCounter counter;
     private String type;
@@ -117,8 +119,9 @@ public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
     @Override
     public StopWatch before(Exchange exchange) {
         // only record time if stats is enabled
-        StopWatch answer = counter != null && counter.isStatisticsEnabled() ? new StopWatch() : null;
-        if (answer != null) {
+        StopWatch answer = null;
+        if (counter != null && counter.isStatisticsEnabled()) {
+            answer = counter.isTimed() ? new StopWatch() : NOT_TIMED;
             beginTime(exchange);
         }
         return answer;
@@ -128,7 +131,7 @@ public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
     public void after(Exchange exchange, StopWatch watch) {
         // record end time
         if (watch != null) {
-            recordTime(exchange, watch.taken());
+            recordTime(exchange, watch != NOT_TIMED ? watch.taken() : -1);
         }
     }
 
@@ -66,6 +66,7 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
     private Boolean usePlatformMBeanServer = true;
     private Boolean onlyRegisterProcessorWithCustomId = false;
     private Boolean loadStatisticsEnabled = false;
+    private Boolean processingTimePercentilesEnabled = false;
     private Boolean endpointRuntimeStatisticsEnabled;
     private Boolean registerAlways = false;
     private Boolean registerNewRoutes = true;
@@ -77,6 +78,7 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
     private Boolean updateRouteEnabled = false;
     private String managementNamePattern = "#name#";
     private ManagementStatisticsLevel statisticsLevel = ManagementStatisticsLevel.Default;
+    private Integer statisticsSampleRate = 10;
     private ManagementMBeansLevel mBeansLevel = ManagementMBeansLevel.Default;
 
     public DefaultManagementAgent() {
@@ -135,6 +137,10 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
             loadStatisticsEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.LOAD_STATISTICS_ENABLED);
             values.put(JmxSystemPropertyKeys.LOAD_STATISTICS_ENABLED, loadStatisticsEnabled);
         }
+        if (System.getProperty(JmxSystemPropertyKeys.PROCESSING_TIME_PERCENTILES_ENABLED) != null) {
+            processingTimePercentilesEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.PROCESSING_TIME_PERCENTILES_ENABLED);
+            values.put(JmxSystemPropertyKeys.PROCESSING_TIME_PERCENTILES_ENABLED, processingTimePercentilesEnabled);
+        }
         if (System.getProperty(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED) != null) {
             endpointRuntimeStatisticsEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED);
             values.put(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED, endpointRuntimeStatisticsEnabled);
@@ -144,6 +150,10 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
                     System.getProperty(JmxSystemPropertyKeys.STATISTICS_LEVEL));
             values.put(JmxSystemPropertyKeys.STATISTICS_LEVEL, statisticsLevel);
         }
+        if (System.getProperty(JmxSystemPropertyKeys.STATISTICS_SAMPLE_RATE) != null) {
+            statisticsSampleRate = Integer.getInteger(JmxSystemPropertyKeys.STATISTICS_SAMPLE_RATE);
+            values.put(JmxSystemPropertyKeys.STATISTICS_SAMPLE_RATE, statisticsSampleRate);
+        }
         if (System.getProperty(JmxSystemPropertyKeys.MANAGEMENT_NAME_PATTERN) != null) {
             managementNamePattern = System.getProperty(JmxSystemPropertyKeys.MANAGEMENT_NAME_PATTERN);
             values.put(JmxSystemPropertyKeys.MANAGEMENT_NAME_PATTERN, managementNamePattern);
@@ -298,6 +308,16 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
         this.loadStatisticsEnabled = loadStatisticsEnabled;
     }
 
+    @Override
+    public Boolean getProcessingTimePercentilesEnabled() {
+        return processingTimePercentilesEnabled;
+    }
+
+    @Override
+    public void setProcessingTimePercentilesEnabled(Boolean processingTimePercentilesEnabled) {
+        this.processingTimePercentilesEnabled = processingTimePercentilesEnabled;
+    }
+
     @Override
     public Boolean getEndpointRuntimeStatisticsEnabled() {
         return endpointRuntimeStatisticsEnabled;
@@ -318,6 +338,16 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
         this.statisticsLevel = statisticsLevel;
     }
 
+    @Override
+    public Integer getStatisticsSampleRate() {
+        return statisticsSampleRate;
+    }
+
+    @Override
+    public void setStatisticsSampleRate(Integer statisticsSampleRate) {
+        this.statisticsSampleRate = statisticsSampleRate;
+    }
+
     @Override
     public ManagementMBeansLevel getMBeansLevel() {
         return mBeansLevel;
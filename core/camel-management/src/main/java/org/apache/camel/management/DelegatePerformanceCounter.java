@@ -50,6 +50,11 @@ public class DelegatePerformanceCounter implements PerformanceCounter {
         }
     }
 
+    @Override
+    public boolean isTimed() {
+        return counter == null || counter.isTimed();
+    }
+
     @Override
     public void completedExchange(Exchange exchange, long time) {
         if (counter != null) {
@@ -826,7 +826,8 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
         // that then delegates to the real mbean which we register later in the onServiceAdd method
         DelegatePerformanceCounter pc = new DelegatePerformanceCounter();
         // set statistics enabled depending on the option
-        boolean enabled = camelContext.getManagementStrategy().getManagementAgent().getStatisticsLevel().isDefaultOrExtended();
+        ManagementStatisticsLevel level = camelContext.getManagementStrategy().getManagementAgent().getStatisticsLevel();
+        boolean enabled = level.isDefaultOrExtended() || level.isSampled();
         pc.setStatisticsEnabled(enabled);
 
         // and add it as a a registered counter that will be used lazy when Camel
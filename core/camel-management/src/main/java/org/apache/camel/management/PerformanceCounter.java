@@ -31,11 +31,22 @@ public interface PerformanceCounter {
      */
     void processExchange(Exchange exchange, String type);
 
+    /**
+     * Whether the processing time should be measured for the {@link org.apache.camel.Exchange} which is about to be
+     * processed. This is always the case, unless the statistics are sampled, where only some of the exchanges are
+     * timed.
+     *
+     * @return <tt>true</tt> to measure the processing time, or <tt>false</tt> to only count the exchange
+     */
+    default boolean isTimed() {
+        return true;
+    }
+
     /**
      * Executed when an {@link org.apache.camel.Exchange} is complete.
      *
      * @param exchange the exchange
-     * @param time     the time it took in millis to complete
+     * @param time     the time it took in millis to complete, or -1 if the processing time was not measured
      */
     void completedExchange(Exchange exchange, long time);
 
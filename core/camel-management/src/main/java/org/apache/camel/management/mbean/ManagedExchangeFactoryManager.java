@@ -106,6 +106,16 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
         return exchangeFactoryManager.getStatistics().getDiscardedCounter();
     }
 
+    @Override
+    public Long getTotalInUse() {
+        return exchangeFactoryManager.getStatistics().getInUseCounter();
+    }
+
+    @Override
+    public Integer getReusePercentage() {
+        return exchangeFactoryManager.getStatistics().getReusePercentage();
+    }
+
     @Override
     public TabularData listStatistics() {
         try {
@@ -125,17 +135,23 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
                 long acquired = 0;
                 long released = 0;
                 long discarded = 0;
+                long inUse = 0;
+                int reuse = 0;
                 if (ef.isStatisticsEnabled()) {
                     created = ef.getStatistics().getCreatedCounter();
                     acquired = ef.getStatistics().getAcquiredCounter();
                     released = ef.getStatistics().getReleasedCounter();
                     discarded = ef.getStatistics().getDiscardedCounter();
+                    inUse = ef.getStatistics().getInUseCounter();
+                    reuse = ef.getStatistics().getReusePercentage();
                 }
 
                 CompositeData data = new CompositeDataSupport(
                         ct,
-                        new String[] { "url", "routeId", "capacity", "pooled", "created", "acquired", "released", "discarded" },
-                        new Object[] { url, routeId, capacity, size, created, acquired, released, discarded });
+                        new String[] {
+                                "url", "routeId", "capacity", "pooled", "created", "acquired", "released", "discarded",
+                                "inUse", "reusePercentage" },
+                        new Object[] { url, routeId, capacity, size, created, acquired, released, discarded, inUse, reuse });
                 answer.put(data);
             }
             return answer;
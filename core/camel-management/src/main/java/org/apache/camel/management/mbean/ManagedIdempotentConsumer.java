@@ -21,6 +21,7 @@ import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedIdempotentConsumerMBean;
 import org.apache.camel.model.IdempotentConsumerDefinition;
 import org.apache.camel.processor.idempotent.IdempotentConsumer;
+import org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository;
 
 @ManagedResource(description = "Managed Idempotent Consumer")
 public class ManagedIdempotentConsumer extends ManagedProcessor implements ManagedIdempotentConsumerMBean {
@@ -75,6 +76,30 @@ public class ManagedIdempotentConsumer extends ManagedProcessor implements Manag
         return getProcessor().getDuplicateMessageCount();
     }
 
+    @Override
+    public long getBloomFilterHitCount() {
+        if (getProcessor().getIdempotentRepository() instanceof BloomFilterIdempotentRepository bloom) {
+            return bloom.getHitCount();
+        }
+        return 0;
+    }
+
+    @Override
+    public long getBloomFilterMissCount() {
+        if (getProcessor().getIdempotentRepository() instanceof BloomFilterIdempotentRepository bloom) {
+            return bloom.getMissCount();
+        }
+        return 0;
+    }
+
+    @Override
+    public long getBloomFilterFalsePositiveCount() {
+        if (getProcessor().getIdempotentRepository() instanceof BloomFilterIdempotentRepository bloom) {
+            return bloom.getFalsePositiveCount();
+        }
+        return 0;
+    }
+
     @Override
     public void resetDuplicateMessageCount() {
         getProcessor().resetDuplicateMessageCount();
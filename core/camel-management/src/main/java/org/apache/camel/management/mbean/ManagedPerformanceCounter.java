@@ -18,6 +18,7 @@ package org.apache.camel.management.mbean;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.api.management.ManagedResource;
@@ -33,6 +34,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     public static final String TIMESTAMP_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
 
     private Statistic exchangesCompleted;
+    private Statistic exchangesTimed;
     private Statistic exchangesFailed;
     private Statistic exchangesInflight;
     private Statistic failuresHandled;
@@ -43,7 +45,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic totalProcessingTime;
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
-    private Statistic meanProcessingTime;
+    private StatisticHistogram processingTimeHistogram;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -54,11 +56,13 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic lastExchangeFailureTimestamp;
     private String lastExchangeFailureExchangeId;
     private boolean statisticsEnabled = true;
+    private int statisticsSampleRate = 1;
 
     @Override
     public void init(ManagementStrategy strategy) {
         super.init(strategy);
         this.exchangesCompleted = new StatisticCounter();
+        this.exchangesTimed = new StatisticCounter();
         this.exchangesFailed = new StatisticCounter();
         this.exchangesInflight = new StatisticCounter();
 
@@ -71,7 +75,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.totalProcessingTime = new StatisticCounter();
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
-        this.meanProcessingTime = new StatisticValue();
+        if (strategy != null && strategy.getManagementAgent() != null
+                && Boolean.TRUE.equals(strategy.getManagementAgent().getProcessingTimePercentilesEnabled())) {
+            this.processingTimeHistogram = new StatisticHistogram();
+        }
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -84,6 +91,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     public void reset() {
         super.reset();
         exchangesCompleted.reset();
+        exchangesTimed.reset();
         exchangesFailed.reset();
         // do not reset exchangesInflight
         failuresHandled.reset();
@@ -94,7 +102,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         totalProcessingTime.reset();
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
-        meanProcessingTime.reset();
+        if (processingTimeHistogram != null) {
+            processingTimeHistogram.reset();
+        }
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -111,6 +121,11 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return exchangesCompleted.getValue();
     }
 
+    @Override
+    public long getExchangesTimed() {
+        return exchangesTimed.getValue();
+    }
+
     @Override
     public long getExchangesFailed() {
         return exchangesFailed.getValue();
@@ -143,7 +158,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
 
     @Override
     public long getMeanProcessingTime() {
-        return meanProcessingTime.getValue();
+        // calculate the mean when read instead of for every exchange
+        long timed = exchangesTimed.getValue();
+        return timed > 0 ? totalProcessingTime.getValue() / timed : 0;
     }
 
     @Override
@@ -166,6 +183,39 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return deltaProcessingTime.getValue();
     }
 
+    @Override
+    public boolean isProcessingTimePercentilesEnabled() {
+        return processingTimeHistogram != null;
+    }
+
+    @Override
+    public long getP50ProcessingTime() {
+        return processingTimeHistogram != null ? processingTimeHistogram.getValueAtPercentile(50) : -1;
+    }
+
+    @Override
+    public long getP95ProcessingTime() {
+        return processingTimeHistogram != null ? processingTimeHistogram.getValueAtPercentile(95) : -1;
+    }
+
+    @Override
+    public long getP99ProcessingTime() {
+        return processingTimeHistogram != null ? processingTimeHistogram.getValueAtPercentile(99) : -1;
+    }
+
+    @Override
+    public long getP999ProcessingTime() {
+        return processingTimeHistogram != null ? processingTimeHistogram.getValueAtPercentile(99.9) : -1;
+    }
+
+    @Override
+    public long[] getProcessingTimePercentiles() {
+        if (processingTimeHistogram != null) {
+            return processingTimeHistogram.getValuesAtPercentiles(50, 95, 99, 99.9);
+        }
+        return new long[] { -1, -1, -1, -1 };
+    }
+
     @Override
     public long getIdleSince() {
         // must not have any inflight
@@ -242,6 +292,24 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.statisticsEnabled = statisticsEnabled;
     }
 
+    public int getStatisticsSampleRate() {
+        return statisticsSampleRate;
+    }
+
+    /**
+     * Sets the sample rate, where the processing time is only measured for 1 in N exchanges, while the exchanges are
+     * still counted. The default value is 1, which measures every exchange.
+     */
+    public void setStatisticsSampleRate(int statisticsSampleRate) {
+        this.statisticsSampleRate = statisticsSampleRate;
+    }
+
+    @Override
+    public boolean isTimed() {
+        // use a random sample to avoid contention on a shared counter between threads
+        return statisticsSampleRate <= 1 || ThreadLocalRandom.current().nextInt(statisticsSampleRate) == 0;
+    }
+
     @Override
     public void processExchange(Exchange exchange, String type) {
         exchangesInflight.increment();
@@ -264,11 +332,18 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
             externalRedeliveries.increment();
         }
 
-        minProcessingTime.updateValue(time);
-        maxProcessingTime.updateValue(time);
-        totalProcessingTime.updateValue(time);
-        lastProcessingTime.updateValue(time);
-        deltaProcessingTime.updateValue(time);
+        // the time is -1 when the exchange is not part of the sample
+        if (time >= 0) {
+            exchangesTimed.increment();
+            minProcessingTime.updateValue(time);
+            maxProcessingTime.updateValue(time);
+            totalProcessingTime.updateValue(time);
+            lastProcessingTime.updateValue(time);
+            deltaProcessingTime.updateValue(time);
+            if (processingTimeHistogram != null) {
+                processingTimeHistogram.updateValue(time);
+            }
+        }
 
         long now = System.currentTimeMillis();
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
@@ -280,14 +355,6 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
             firstExchangeCompletedExchangeId = exchange.getExchangeId();
         }
         lastExchangeCompletedExchangeId = exchange.getExchangeId();
-
-        // update mean
-        long mean = 0;
-        long completed = exchangesCompleted.getValue();
-        if (completed > 0) {
-            mean = totalProcessingTime.getValue() / completed;
-        }
-        meanProcessingTime.updateValue(mean);
     }
 
     @Override
@@ -329,7 +396,14 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" totalProcessingTime=\"%s\"", totalProcessingTime.getValue()));
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
-        sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        sb.append(String.format(" meanProcessingTime=\"%s\"", getMeanProcessingTime()));
+        if (processingTimeHistogram != null) {
+            long[] percentiles = getProcessingTimePercentiles();
+            sb.append(String.format(" p50ProcessingTime=\"%s\"", percentiles[0]));
+            sb.append(String.format(" p95ProcessingTime=\"%s\"", percentiles[1]));
+            sb.append(String.format(" p99ProcessingTime=\"%s\"", percentiles[2]));
+            sb.append(String.format(" p999ProcessingTime=\"%s\"", percentiles[3]));
+        }
         sb.append(String.format(" idleSince=\"%s\"", getIdleSince()));
 
         if (fullStats) {
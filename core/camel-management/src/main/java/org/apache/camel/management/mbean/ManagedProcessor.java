@@ -17,6 +17,7 @@
 package org.apache.camel.management.mbean;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.ManagementStatisticsLevel;
 import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.ServiceStatus;
@@ -28,6 +29,7 @@ import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.ProcessorDefinitionHelper;
 import org.apache.camel.model.RouteDefinition;
 import org.apache.camel.model.StepDefinition;
+import org.apache.camel.spi.ManagementAgent;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.spi.NodeIdFactory;
 import org.apache.camel.spi.RouteIdAware;
@@ -70,8 +72,13 @@ public class ManagedProcessor extends ManagedPerformanceCounter implements Manag
     @Override
     public void init(ManagementStrategy strategy) {
         super.init(strategy);
-        boolean enabled = context.getManagementStrategy().getManagementAgent().getStatisticsLevel().isDefaultOrExtended();
+        ManagementAgent agent = context.getManagementStrategy().getManagementAgent();
+        ManagementStatisticsLevel level = agent.getStatisticsLevel();
+        boolean enabled = level.isDefaultOrExtended() || level.isSampled();
         setStatisticsEnabled(enabled);
+        if (level.isSampled() && agent.getStatisticsSampleRate() != null) {
+            setStatisticsSampleRate(agent.getStatisticsSampleRate());
+        }
     }
 
     public CamelContext getContext() {
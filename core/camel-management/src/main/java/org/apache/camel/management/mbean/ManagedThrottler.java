@@ -20,7 +20,9 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedThrottlerMBean;
 import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.AdaptiveConcurrentRequestsThrottler;
 import org.apache.camel.processor.Throttler;
+import org.apache.camel.processor.TokenBucketThrottler;
 import org.apache.camel.processor.TotalRequestsThrottler;
 
 import static org.apache.camel.builder.Builder.constant;
@@ -53,6 +55,8 @@ public class ManagedThrottler extends ManagedProcessor implements ManagedThrottl
     public long getTimePeriodMillis() {
         if (throttler instanceof TotalRequestsThrottler t) {
             return t.getTimePeriodMillis();
+        } else if (throttler instanceof TokenBucketThrottler t) {
+            return t.getTimePeriodMillis();
         }
 
         return 0;
@@ -62,6 +66,8 @@ public class ManagedThrottler extends ManagedProcessor implements ManagedThrottl
     public void setTimePeriodMillis(long timePeriodMillis) {
         if (throttler instanceof TotalRequestsThrottler t) {
             t.setTimePeriodMillis(timePeriodMillis);
+        } else if (throttler instanceof TokenBucketThrottler t) {
+            t.setTimePeriodMillis(timePeriodMillis);
         }
     }
 
@@ -70,6 +76,24 @@ public class ManagedThrottler extends ManagedProcessor implements ManagedThrottl
         return throttler.getMode();
     }
 
+    @Override
+    public long getMaximumRequestsLimit() {
+        if (throttler instanceof AdaptiveConcurrentRequestsThrottler t) {
+            return t.getMaximumLimit();
+        }
+
+        return throttler.getCurrentMaximumRequests();
+    }
+
+    @Override
+    public long getRoundTripTime() {
+        if (throttler instanceof AdaptiveConcurrentRequestsThrottler t) {
+            return t.getRoundTripTime();
+        }
+
+        return 0;
+    }
+
     @Override
     public Boolean isAsyncDelayed() {
         return throttler.isAsyncDelayed();
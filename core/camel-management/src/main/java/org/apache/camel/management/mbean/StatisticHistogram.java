@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A histogram of the recorded values, such as processing times, which is used to compute percentiles.
+ * <p/>
+ * The values are counted in log-linear buckets in the same way as HdrHistogram. Values below 64 are counted exactly,
+ * and larger values are grouped by their highest bit into 32 linear sub buckets. This keeps the error of a percentile
+ * below 1/32 of its value. The number of buckets is fixed (896 buckets, which is 7KB) so the memory is bounded, and
+ * values larger than {@link #MAX_VALUE} are counted as {@link #MAX_VALUE}.
+ * <p/>
+ * The values are recorded without locking into a number of stripes, where each thread uses the stripe selected by its
+ * identity, to avoid contention between threads. There is at most one stripe per CPU, up to {@link #MAX_STRIPES}. A
+ * stripe is only allocated when a thread first records into it, and the stripes are merged when the percentiles are
+ * computed. Use {@link #getValuesAtPercentiles(double...)} to compute several percentiles with a single merge.
+ */
+public class StatisticHistogram extends Statistic {
+
+    /**
+     * The largest value which can be recorded (about 49 days in millis)
+     */
+    public static final long MAX_VALUE = (1L << 32) - 1;
+
+    /**
+     * The maximum number of stripes, which bounds the memory of a histogram to 28KB
+     */
+    public static final int MAX_STRIPES = 4;
+
+    private static final int SUB_BUCKET_HALF_COUNT_MAGNITUDE = 5;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_COUNT_MAGNITUDE;
+    private static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF_COUNT * 2;
+    private static final int BUCKETS = indexOf(MAX_VALUE) + 1;
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes;
+
+    public StatisticHistogram() {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        // must be a power of two to select the stripe by a mask, and no more than the number of CPUs
+        int size = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, cpus)));
+        this.stripes = new AtomicReferenceArray<>(size);
+    }
+
+    @Override
+    public void updateValue(long newValue) {
+        int index = indexOf(Math.min(Math.max(0, newValue), MAX_VALUE));
+        stripe().incrementAndGet(index);
+    }
+
+    /**
+     * The number of recorded values
+     */
+    @Override
+    public long getValue() {
+        long count = 0;
+        for (long c : merge()) {
+            count += c;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the value at the given percentile, such as 99.9, of the recorded values.
+     *
+     * @param  percentile the percentile between 0 and 100
+     * @return            the highest value counted in the same bucket as the value at the percentile, or 0 if no values
+     *                    has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        return getValuesAtPercentiles(percentile)[0];
+    }
+
+    /**
+     * Gets the values at the given percentiles, such as 50, 99 and 99.9, of the recorded values. The stripes are only
+     * merged once, so this is cheaper than getting the value of each percentile.
+     *
+     * @param  percentiles the percentiles between 0 and 100
+     * @return             the values at the percentiles, in the same order as the given percentiles
+     * @see                #getValueAtPercentile(double)
+     */
+    public long[] getValuesAtPercentiles(double... percentiles) {
+        long[] answer = new long[percentiles.length];
+        long[] counts = merge();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return answer;
+        }
+
+        for (int k = 0; k < percentiles.length; k++) {
+            double p = Math.min(Math.max(0, percentiles[k]), 100);
+            long target = Math.max(1, (long) Math.ceil(p / 100 * total));
+            long sum = 0;
+            int i = 0;
+            while (i < counts.length - 1) {
+                sum += counts[i];
+                if (sum >= target) {
+                    break;
+                }
+                i++;
+            }
+            answer[k] = highestValueOf(i);
+        }
+        return answer;
+    }
+
+    @Override
+    public boolean isUpdated() {
+        for (int i = 0; i < stripes.length(); i++) {
+            if (stripes.get(i) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void reset() {
+        // the stripes are allocated again when used, so a histogram which is reset and no longer used takes no memory
+        for (int i = 0; i < stripes.length(); i++) {
+            stripes.set(i, null);
+        }
+    }
+
+    @Override
+    public String toString() {
+        long[] values = getValuesAtPercentiles(50, 99);
+        return "p50=" + values[0] + " p99=" + values[1];
+    }
+
+    private AtomicLongArray stripe() {
+        int hash = System.identityHashCode(Thread.currentThread());
+        int i = (hash ^ (hash >>> 16)) & (stripes.length() - 1);
+        AtomicLongArray answer = stripes.get(i);
+        if (answer == null) {
+            AtomicLongArray created = new AtomicLongArray(BUCKETS);
+            if (stripes.compareAndSet(i, null, created)) {
+                answer = created;
+            } else {
+                answer = stripes.get(i);
+            }
+        }
+        return answer;
+    }
+
+    private long[] merge() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < stripes.length(); i++) {
+            AtomicLongArray stripe = stripes.get(i);
+            if (stripe != null) {
+                for (int j = 0; j < BUCKETS; j++) {
+                    counts[j] += stripe.get(j);
+                }
+            }
+        }
+        return counts;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_HALF_COUNT_MAGNITUDE;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_HALF_COUNT;
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + subBucket;
+    }
+
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.MemoryIdempotentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedBloomFilterIdempotentConsumerTest extends ManagementTestSupport {
+
+    @Test
+    public void testBloomFilterStatistics() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_PROCESSOR, "lazy");
+        assertTrue(mbeanServer.isRegistered(on), "Should be registered");
+
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedBodiesReceived("one", "two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        result.assertIsSatisfied();
+
+        assertEquals(2L, mbeanServer.getAttribute(on, "DuplicateMessageCount"));
+        assertEquals(3L, mbeanServer.getAttribute(on, "BloomFilterHitCount"));
+        assertEquals(2L, mbeanServer.getAttribute(on, "BloomFilterMissCount"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "BloomFilterFalsePositiveCount"));
+    }
+
+    @Test
+    public void testBloomFilterStatisticsEager() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_PROCESSOR, "eager");
+        assertTrue(mbeanServer.isRegistered(on), "Should be registered");
+
+        MockEndpoint result = getMockEndpoint("mock:eager");
+        result.expectedBodiesReceived("one", "two");
+
+        template.sendBodyAndHeader("direct:eager", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:eager", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:eager", "one", "messageId", "1");
+
+        result.assertIsSatisfied();
+
+        // in eager mode the keys are only added, which always goes to the backing repository
+        assertEquals(1L, mbeanServer.getAttribute(on, "DuplicateMessageCount"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "BloomFilterHitCount"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "BloomFilterMissCount"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                // the bloom filter only avoids checking the backing repository when not eager, and the filter is trusted
+                BloomFilterIdempotentRepository repo
+                        = new BloomFilterIdempotentRepository(new MemoryIdempotentRepository());
+                repo.setExpectedInsertions(1000);
+                repo.setTrustNewFilter(true);
+
+                from("direct:start")
+                        .idempotentConsumer(header("messageId"), repo).eager(false).id("lazy")
+                        .to("mock:result");
+
+                BloomFilterIdempotentRepository eagerRepo
+                        = new BloomFilterIdempotentRepository(new MemoryIdempotentRepository());
+                eagerRepo.setExpectedInsertions(1000);
+                eagerRepo.setTrustNewFilter(true);
+
+                from("direct:eager")
+                        .idempotentConsumer(header("messageId"), eagerRepo).id("eager")
+                        .to("mock:eager");
+            }
+        };
+    }
+}
@@ -21,6 +21,8 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -101,8 +103,20 @@ public class ManagedPooledExchangeTest extends ManagementTestSupport {
 
             Integer num2 = (Integer) mbeanServer.getAttribute(on, "TotalPooled");
             assertEquals(1, num2.intValue());
+
+            num = (Long) mbeanServer.getAttribute(on, "TotalInUse");
+            assertEquals(0, num.intValue());
+
+            num2 = (Integer) mbeanServer.getAttribute(on, "ReusePercentage");
+            assertEquals(66, num2.intValue());
         });
 
+        TabularData data = (TabularData) mbeanServer.invoke(on, "listStatistics", null, null);
+        assertEquals(1, data.size());
+        CompositeData row = (CompositeData) data.values().iterator().next();
+        assertEquals(0L, row.get("inUse"));
+        assertEquals(66, row.get("reusePercentage"));
+
     }
 
     @Override
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedProcessingTimePercentilesTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getManagementStrategy().getManagementAgent().setProcessingTimePercentilesEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testPercentiles() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName route = getCamelObjectName(TYPE_ROUTE, context.getRoutes().get(0).getRouteId());
+        ObjectName delay = getCamelObjectName(TYPE_PROCESSOR, "delay");
+
+        assertEquals(Boolean.TRUE, mbeanServer.getAttribute(route, "ProcessingTimePercentilesEnabled"));
+        assertEquals(0L, mbeanServer.getAttribute(route, "P99ProcessingTime"));
+
+        getMockEndpoint("mock:result").expectedMessageCount(20);
+
+        // only one of the exchanges is slow
+        for (int i = 0; i < 19; i++) {
+            template.sendBody("direct:start", 0);
+        }
+        template.sendBody("direct:start", 300);
+
+        assertMockEndpointsSatisfied();
+
+        for (ObjectName on : new ObjectName[] { route, delay }) {
+            long p50 = (Long) mbeanServer.getAttribute(on, "P50ProcessingTime");
+            long p95 = (Long) mbeanServer.getAttribute(on, "P95ProcessingTime");
+            long p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+            long p999 = (Long) mbeanServer.getAttribute(on, "P999ProcessingTime");
+            assertTrue(p50 < 200, "Should be fast: was " + p50);
+            assertTrue(p95 < 200, "Should be fast: was " + p95);
+            assertTrue(p99 >= 290, "Should be slow: was " + p99);
+            assertTrue(p999 >= p99, "Should be at least p99: was " + p999);
+
+            long[] percentiles = (long[]) mbeanServer.getAttribute(on, "ProcessingTimePercentiles");
+            assertArrayEquals(new long[] { p50, p95, p99, p999 }, percentiles);
+        }
+
+        String xml = (String) mbeanServer.invoke(route, "dumpStatsAsXml", new Object[] { false },
+                new String[] { "boolean" });
+        assertTrue(xml.contains("p99ProcessingTime="));
+
+        mbeanServer.invoke(route, "reset", null, null);
+        assertEquals(0L, mbeanServer.getAttribute(route, "P99ProcessingTime"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .delay(body()).id("delay")
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -46,6 +46,10 @@ public class ManagedRoutePerformanceCounterTest extends ManagementTestSupport {
         Long delta = (Long) mbeanServer.getAttribute(on, "DeltaProcessingTime");
         assertEquals(0, delta.intValue());
 
+        // percentiles are not enabled by default
+        assertEquals(Boolean.FALSE, mbeanServer.getAttribute(on, "ProcessingTimePercentilesEnabled"));
+        assertEquals(-1L, mbeanServer.getAttribute(on, "P99ProcessingTime"));
+
         getMockEndpoint("mock:result").expectedMessageCount(1);
 
         template.asyncSendBody("direct:start", "Hello World");
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ManagementStatisticsLevel;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedStatisticsLevelSampledTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getManagementStrategy().getManagementAgent().setStatisticsLevel(ManagementStatisticsLevel.Sampled);
+        context.getManagementStrategy().getManagementAgent().setStatisticsSampleRate(5);
+        return context;
+    }
+
+    @Test
+    public void testManageStatisticsSampled() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(200);
+
+        for (int i = 0; i < 200; i++) {
+            template.sendBody("direct:start", "Hello World");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName route = getCamelObjectName(TYPE_ROUTE, context.getRoutes().get(0).getRouteId());
+        ObjectName processor = getCamelObjectName(TYPE_PROCESSOR, "mock");
+
+        // the route measures every exchange
+        assertEquals(200L, mbeanServer.getAttribute(route, "ExchangesCompleted"));
+        assertEquals(200L, mbeanServer.getAttribute(route, "ExchangesTimed"));
+
+        // the processor counts every exchange but only measures a sample of them
+        assertEquals(200L, mbeanServer.getAttribute(processor, "ExchangesCompleted"));
+        assertEquals(200L, mbeanServer.getAttribute(processor, "ExchangesTotal"));
+        long timed = (Long) mbeanServer.getAttribute(processor, "ExchangesTimed");
+        assertTrue(timed > 0 && timed < 200, "Should only time a sample of the exchanges, was: " + timed);
+        assertEquals(0L, mbeanServer.getAttribute(processor, "ExchangesInflight"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").to("mock:result").id("mock");
+            }
+        };
+    }
+
+}
@@ -94,6 +94,9 @@ public class ManagedStreamCachingStrategyTest extends ManagementTestSupport {
         String cipher = (String) mbeanServer.getAttribute(name, "SpoolCipher");
         assertNull(cipher);
 
+        Boolean mapped = (Boolean) mbeanServer.getAttribute(name, "SpoolMemoryMapped");
+        assertEquals(Boolean.FALSE, mapped);
+
         Boolean remove = (Boolean) mbeanServer.getAttribute(name, "RemoveSpoolDirectoryWhenStopping");
         assertEquals(Boolean.TRUE, remove);
     }
@@ -66,6 +66,9 @@ public class ManagedThreadPoolTest extends ManagementTestSupport {
         Boolean allow = (Boolean) mbeanServer.getAttribute(on, "AllowCoreThreadTimeout");
         assertTrue(allow.booleanValue());
 
+        Boolean virtual = (Boolean) mbeanServer.getAttribute(on, "VirtualThreads");
+        assertFalse(virtual.booleanValue());
+
         getMockEndpoint("mock:result").expectedMessageCount(1);
         template.sendBody("direct:start", "Hello World");
         assertMockEndpointsSatisfied();
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.management.mbean.StatisticHistogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatisticHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        StatisticHistogram h = new StatisticHistogram();
+        assertFalse(h.isUpdated());
+        assertEquals(0, h.getValue());
+        assertEquals(0, h.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        StatisticHistogram h = new StatisticHistogram();
+        for (int i = 1; i <= 50; i++) {
+            h.updateValue(i);
+        }
+        assertTrue(h.isUpdated());
+        assertEquals(50, h.getValue());
+        assertEquals(1, h.getValueAtPercentile(0));
+        assertEquals(25, h.getValueAtPercentile(50));
+        assertEquals(48, h.getValueAtPercentile(96));
+        assertEquals(50, h.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testValuesAtPercentiles() {
+        StatisticHistogram h = new StatisticHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            h.updateValue(i);
+        }
+        long[] values = h.getValuesAtPercentiles(50, 95, 99, 99.9);
+        assertEquals(4, values.length);
+        assertEquals(h.getValueAtPercentile(50), values[0]);
+        assertEquals(h.getValueAtPercentile(95), values[1]);
+        assertEquals(h.getValueAtPercentile(99), values[2]);
+        assertEquals(h.getValueAtPercentile(99.9), values[3]);
+        assertTrue(values[0] < values[1] && values[1] < values[2] && values[2] < values[3]);
+
+        // no values recorded
+        h.reset();
+        assertArrayEquals(new long[] { 0, 0 }, h.getValuesAtPercentiles(50, 99));
+    }
+
+    @Test
+    public void testLargeValuesWithinPrecision() {
+        StatisticHistogram h = new StatisticHistogram();
+        for (long value = 1; value < StatisticHistogram.MAX_VALUE; value = value * 3 + 1) {
+            h.reset();
+            h.updateValue(value);
+            long answer = h.getValueAtPercentile(50);
+            assertTrue(answer >= value, "Should not be lower than " + value + " was " + answer);
+            assertTrue(answer - value <= value / 32, "Should be within 1/32 of " + value + " was " + answer);
+        }
+    }
+
+    @Test
+    public void testOutOfRange() {
+        StatisticHistogram h = new StatisticHistogram();
+        h.updateValue(-5);
+        h.updateValue(Long.MAX_VALUE);
+        assertEquals(0, h.getValueAtPercentile(50));
+        assertEquals(StatisticHistogram.MAX_VALUE, h.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testReset() {
+        StatisticHistogram h = new StatisticHistogram();
+        h.updateValue(10);
+        h.reset();
+        assertFalse(h.isUpdated());
+        assertEquals(0, h.getValue());
+    }
+
+    @Test
+    public void testConcurrentThreads() throws Exception {
+        StatisticHistogram h = new StatisticHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    h.updateValue(i % 1000);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(80000, h.getValue());
+        long p50 = h.getValueAtPercentile(50);
+        assertTrue(p50 >= 499 && p50 <= 499 + 499 / 32, "Should be around 500 was " + p50);
+    }
+
+}
@@ -0,0 +1,72 @@
+/* Generated by camel build tools - do NOT edit this file! */
+package org.apache.camel.support.processor.idempotent;
+
+import javax.annotation.processing.Generated;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExtendedPropertyConfigurerGetter;
+import org.apache.camel.spi.PropertyConfigurerGetter;
+import org.apache.camel.spi.ConfigurerStrategy;
+import org.apache.camel.spi.GeneratedPropertyConfigurer;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.apache.camel.support.processor.idempotent.AppendOnlyFileIdempotentRepository;
+
+/**
+ * Generated by camel build tools - do NOT edit this file!
+ */
+@Generated("org.apache.camel.maven.packaging.GenerateConfigurerMojo")
+@SuppressWarnings("unchecked")
+public class AppendOnlyFileIdempotentRepositoryConfigurer extends org.apache.camel.support.component.PropertyConfigurerSupport implements GeneratedPropertyConfigurer, PropertyConfigurerGetter {
+
+    @Override
+    public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
+        org.apache.camel.support.processor.idempotent.AppendOnlyFileIdempotentRepository target = (org.apache.camel.support.processor.idempotent.AppendOnlyFileIdempotentRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "compactionthreshold":
+        case "compactionThreshold": target.setCompactionThreshold(property(camelContext, int.class, value)); return true;
+        case "directory": target.setDirectory(property(camelContext, java.io.File.class, value)); return true;
+        case "maxsegmentsize":
+        case "maxSegmentSize": target.setMaxSegmentSize(property(camelContext, long.class, value)); return true;
+        case "syncinterval":
+        case "syncInterval": target.setSyncInterval(property(camelContext, long.class, value)); return true;
+        case "syncpolicy":
+        case "syncPolicy": target.setSyncPolicy(property(camelContext, java.lang.String.class, value)); return true;
+        default: return false;
+        }
+    }
+
+    @Override
+    public Class<?> getOptionType(String name, boolean ignoreCase) {
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "compactionthreshold":
+        case "compactionThreshold": return int.class;
+        case "directory": return java.io.File.class;
+        case "maxsegmentsize":
+        case "maxSegmentSize": return long.class;
+        case "syncinterval":
+        case "syncInterval": return long.class;
+        case "syncpolicy":
+        case "syncPolicy": return java.lang.String.class;
+        default: return null;
+        }
+    }
+
+    @Override
+    public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
+        org.apache.camel.support.processor.idempotent.AppendOnlyFileIdempotentRepository target = (org.apache.camel.support.processor.idempotent.AppendOnlyFileIdempotentRepository) obj;
+        switch (ignoreCase ? name.toLowerCase() : name) {
+        case "compactionthreshold":
+        case "compactionThreshold": return target.getCompactionThreshold();
+        case "directory": return target.getDirectory();
+        case "maxsegmentsize":
+        case "maxSegmentSize": return target.getMaxSegmentSize();
+        case "syncinterval":
+        case "syncInterval": return target.getSyncInterval();
+        case "syncpolicy":
+        case "syncPolicy": return target.getSyncPolicy();
+        default: return null;
+        }
+    }
+}
+
@@ -22,6 +22,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -72,7 +76,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         this.file = closer.getTempFile();
         this.stream = null;
         this.ciphers = closer.getCiphers();
-        this.length = file.length();
+        this.length = closer.getLength();
         this.tempFileManager = closer;
         this.tempFileManager.add(this);
     }
@@ -103,13 +107,35 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
 
     @Override
     public void writeTo(OutputStream os) throws IOException {
-        if (stream == null && ciphers == null) {
+        if (stream == null && ciphers == null && !tempFileManager.isMemoryMapped()) {
             Files.copy(file.toPath(), os);
         } else {
             IOHelper.copy(getInputStream(), os);
         }
     }
 
+    /**
+     * Transfers the cached data to the given blocking channel. When the data is not encrypted and has not been read,
+     * then the data is transferred directly from the spool file, such as when the target is a file or socket channel,
+     * which avoids copying the data through buffers in the heap.
+     *
+     * @param  target the target channel
+     * @return        the number of bytes transferred
+     */
+    public long transferTo(WritableByteChannel target) throws IOException {
+        if (stream != null || ciphers != null) {
+            // continue from the current position, or must decrypt the data
+            return getInputStream().transferTo(Channels.newOutputStream(target));
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long position = 0;
+            while (position < length) {
+                position += channel.transferTo(position, length - position, target);
+            }
+            return position;
+        }
+    }
+
     @Override
     public StreamCache copy(Exchange exchange) throws IOException {
         tempFileManager.addExchange(exchange);
@@ -184,7 +210,15 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     }
 
     private InputStream createInputStream(File file) throws IOException {
-        InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath(), StandardOpenOption.READ));
+        InputStream in;
+        if (tempFileManager.isMemoryMapped() && length <= Integer.MAX_VALUE) {
+            // the mapping remains valid after the channel is closed
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                in = new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, length));
+            }
+        } else {
+            in = new BufferedInputStream(Files.newInputStream(file.toPath(), StandardOpenOption.READ));
+        }
         if (ciphers != null) {
             in = new CipherInputStream(in, ciphers.createDecryptor()) {
                 boolean closed;
@@ -220,6 +254,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private final AtomicInteger exchangeCounter = new AtomicInteger();
         private File tempFile;
         private OutputStream outputStream; // file output stream
+        private MappedFileOutputStream mappedOutputStream;
         private CipherPair ciphers;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
@@ -323,8 +358,15 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
 
             LOG.trace("Creating temporary stream cache file: {}", tempFile);
-            OutputStream out = new BufferedOutputStream(
-                    Files.newOutputStream(tempFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE));
+            OutputStream out;
+            if (strategy.isSpoolMemoryMapped()) {
+                // no need for buffering as the data is copied directly into the memory mapped file
+                mappedOutputStream = new MappedFileOutputStream(tempFile.toPath());
+                out = mappedOutputStream;
+            } else {
+                out = new BufferedOutputStream(
+                        Files.newOutputStream(tempFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE));
+            }
             if (ObjectHelper.isNotEmpty(strategy.getSpoolCipher())) {
                 try {
                     if (ciphers == null) {
@@ -379,10 +421,65 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return tempFile;
         }
 
+        /**
+         * The length of the data in the temporary file, which can be shorter than the file when memory mapped.
+         */
+        long getLength() {
+            return mappedOutputStream != null ? mappedOutputStream.getLength() : tempFile.length();
+        }
+
+        boolean isMemoryMapped() {
+            return mappedOutputStream != null;
+        }
+
         CipherPair getCiphers() {
             return ciphers;
         }
 
     }
 
+    /**
+     * An {@link InputStream} reading from a memory mapped file.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            if (n <= 0) {
+                return 0;
+            }
+            int skip = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skip);
+            return skip;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
 }
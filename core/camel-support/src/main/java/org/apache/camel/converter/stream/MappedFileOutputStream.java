@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link OutputStream} which writes to a file via memory mapped regions, which are mapped one at a time as the file
+ * grows.
+ * <p/>
+ * The last region may extend beyond the data written, so the actual {@link #getLength() length} must be used when
+ * reading the file.
+ */
+final class MappedFileOutputStream extends OutputStream {
+
+    /**
+     * The size of the memory mapped regions
+     */
+    static final int REGION_SIZE = 4 * 1024 * 1024;
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedFileOutputStream.class);
+
+    private final FileChannel channel;
+    private MappedByteBuffer region;
+    private long length;
+    private boolean closed;
+
+    MappedFileOutputStream(Path file) throws IOException {
+        // must be opened for read as well to map the file in read-write mode
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * The number of bytes written
+     */
+    long getLength() {
+        return length;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureRegion();
+        region.put((byte) b);
+        length++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ensureRegion();
+            int n = Math.min(len, region.remaining());
+            region.put(b, off, n);
+            off += n;
+            len -= n;
+            length += n;
+        }
+    }
+
+    private void ensureRegion() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        if (region == null || !region.hasRemaining()) {
+            // mapping beyond the end of the file grows the file
+            region = channel.map(FileChannel.MapMode.READ_WRITE, length, REGION_SIZE);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        region = null;
+        try {
+            // cut off the unused part of the last region, which is not possible on some platforms while the region is
+            // still mapped, and as readers use the actual length then this is not needed for correctness
+            channel.truncate(length);
+        } catch (IOException e) {
+            LOG.debug("Cannot truncate memory mapped file to {} bytes due to: {}. This exception is ignored.", length,
+                    e.getMessage());
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -39,6 +39,7 @@ import org.apache.camel.spi.VariableRepository;
 import org.apache.camel.trait.message.MessageTrait;
 import org.apache.camel.trait.message.RedeliveryTraitPayload;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.CopyOnWriteConcurrentMap;
 
 /**
  * Base class for the two official and only implementations of {@link Exchange}, the {@link DefaultExchange} and
@@ -127,11 +128,9 @@ abstract class AbstractExchange implements Exchange {
         privateExtension.setErrorHandlerHandled(parent.getExchangeExtension().getErrorHandlerHandled());
         privateExtension.setStreamCacheDisabled(parent.getExchangeExtension().isStreamCacheDisabled());
 
+        // the properties and variables are shared with the parent until either is changed
         if (parent.hasVariables()) {
-            if (this.variableRepository == null) {
-                this.variableRepository = new ExchangeVariableRepository(getContext());
-            }
-            this.variableRepository.copyFrom(parent.variableRepository);
+            this.variableRepository = new ExchangeVariableRepository(getContext(), parent.variableRepository);
         }
         if (parent.hasProperties()) {
             this.properties = safeCopyProperties(parent.properties);
@@ -268,7 +267,7 @@ abstract class AbstractExchange implements Exchange {
         } else if (value != null) {
             // avoid the NullPointException
             if (properties == null) {
-                this.properties = new ConcurrentHashMap<>(8);
+                this.properties = new CopyOnWriteConcurrentMap<>(8);
             }
             properties.put(name, value);
         } else if (properties != null) {
@@ -279,7 +278,7 @@ abstract class AbstractExchange implements Exchange {
 
     void setProperties(Map<String, Object> properties) {
         if (this.properties == null) {
-            this.properties = new ConcurrentHashMap<>(8);
+            this.properties = new CopyOnWriteConcurrentMap<>(8);
         } else {
             this.properties.clear();
         }
@@ -349,7 +348,7 @@ abstract class AbstractExchange implements Exchange {
     @Override
     public Map<String, Object> getProperties() {
         if (properties == null) {
-            this.properties = new ConcurrentHashMap<>(8);
+            this.properties = new CopyOnWriteConcurrentMap<>(8);
         }
         return properties;
     }
@@ -764,6 +763,6 @@ abstract class AbstractExchange implements Exchange {
         if (properties == null) {
             return null;
         }
-        return new ConcurrentHashMap<>(properties);
+        return new CopyOnWriteConcurrentMap<>(properties);
     }
 }
@@ -34,10 +34,21 @@ import org.apache.camel.support.service.ServiceSupport;
 public abstract class AbstractVariableRepository extends ServiceSupport
         implements BrowsableVariableRepository, CamelContextAware {
 
-    private final Map<String, Object> variables = new ConcurrentHashMap<>(8);
+    private final Map<String, Object> variables;
     private CamelContext camelContext;
     private StreamCachingStrategy strategy;
 
+    protected AbstractVariableRepository() {
+        this(new ConcurrentHashMap<>(8));
+    }
+
+    /**
+     * Creates the repository which stores the variables in the given map
+     */
+    protected AbstractVariableRepository(Map<String, Object> variables) {
+        this.variables = variables;
+    }
+
     @Override
     public CamelContext getCamelContext() {
         return camelContext;
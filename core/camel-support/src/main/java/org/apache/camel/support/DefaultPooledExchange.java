@@ -16,8 +16,6 @@
  */
 package org.apache.camel.support;
 
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
@@ -25,6 +23,7 @@ import org.apache.camel.ExchangePattern;
 import org.apache.camel.Message;
 import org.apache.camel.PooledExchange;
 import org.apache.camel.clock.Clock;
+import org.apache.camel.util.concurrent.CopyOnWriteConcurrentMap;
 
 /**
  * The default and only implementation of {@link PooledExchange}.
@@ -40,14 +39,14 @@ public final class DefaultPooledExchange extends AbstractExchange implements Poo
     public DefaultPooledExchange(CamelContext context) {
         super(context);
         this.originalPattern = getPattern();
-        this.properties = new ConcurrentHashMap<>(8);
+        this.properties = new CopyOnWriteConcurrentMap<>(8);
         this.clock = new ResetableClock();
     }
 
     public DefaultPooledExchange(Exchange parent) {
         super(parent);
         this.originalPattern = parent.getPattern();
-        this.properties = new ConcurrentHashMap<>(8);
+        this.properties = new CopyOnWriteConcurrentMap<>(8);
 
         Clock parentClock = parent.getClock();
 
@@ -61,7 +60,7 @@ public final class DefaultPooledExchange extends AbstractExchange implements Poo
     public DefaultPooledExchange(CamelContext context, ExchangePattern pattern) {
         super(context, pattern);
         this.originalPattern = getPattern();
-        this.properties = new ConcurrentHashMap<>(8);
+        this.properties = new CopyOnWriteConcurrentMap<>(8);
 
         this.clock = new ResetableClock();
     }
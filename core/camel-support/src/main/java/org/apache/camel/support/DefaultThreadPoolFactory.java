@@ -62,9 +62,15 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        int poolSize = profile.getPoolSize();
+        if (Boolean.TRUE.equals(profile.getVirtualThreads()) && poolSize > profile.getMaxPoolSize()) {
+            // the pool size is not used with virtual threads, so it may be higher than the max pool size
+            // when falling back to platform threads (virtual threads requires Java 21)
+            poolSize = profile.getMaxPoolSize();
+        }
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
-        return newThreadPool(profile.getPoolSize(),
+        return newThreadPool(poolSize,
                 profile.getMaxPoolSize(),
                 profile.getKeepAliveTime(),
                 profile.getTimeUnit(),
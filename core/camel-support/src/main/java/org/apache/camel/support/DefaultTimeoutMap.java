@@ -27,6 +27,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.TimeoutMap;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
@@ -48,9 +49,19 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * a background task which check for old entries to purge. This implementation will shutdown the scheduler if its being
  * stopped. You must also invoke {@link #start()} to startup the timeout map, before its ready to be used. And you must
  * invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * By default the background task scans all the entries to find the expired entries. For maps with many entries, then a
+ * hierarchical timing wheel can be used instead (see {@link #setTimingWheel(boolean)}), where the background task only
+ * visits the entries which are due to expire. The timing wheel can also be enabled for the timeout maps used by Camel
+ * (such as the aggregator and request-reply correlation maps) with the {@link #TIMING_WHEEL} global option.
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
+    /**
+     * Global option on {@link CamelContext} to enable the timing wheel for the timeout maps used by Camel
+     */
+    public static final String TIMING_WHEEL = "CamelTimeoutMapTimingWheel";
+
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
     private final ConcurrentMap<K, TimeoutMapEntry<K, V>> map = new ConcurrentHashMap<>();
@@ -58,6 +69,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
     private final Lock lock;
+    // the timing wheel has its own lock, as the map may be used without locking
+    private final Lock wheelLock = new ReentrantLock();
+    private volatile TimeoutMapTimingWheel<K, V> timingWheel;
 
     private final List<Listener<K, V>> listeners = new ArrayList<>(2);
 
@@ -80,6 +94,13 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         this.lock = lock;
     }
 
+    /**
+     * Whether the timing wheel is enabled by the {@link #TIMING_WHEEL} global option on the given {@link CamelContext}
+     */
+    public static boolean isTimingWheelEnabled(CamelContext camelContext) {
+        return camelContext != null && "true".equalsIgnoreCase(camelContext.getGlobalOption(TIMING_WHEEL));
+    }
+
     @Override
     public V get(K key) {
         TimeoutMapEntry<K, V> entry;
@@ -94,6 +115,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
                 return null;
             }
             updateExpireTime(entry);
+            reschedule(entry, null);
         } finally {
             lock.unlock();
         }
@@ -107,6 +129,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            reschedule(entry, result);
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -123,6 +146,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null) {
+                reschedule(entry, null);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -142,7 +168,11 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> entry = map.remove(key);
+            if (entry != null) {
+                cancel(entry);
+            }
+            value = unwrap(entry);
             return value;
         } finally {
             lock.unlock();
@@ -184,6 +214,11 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
         long now = currentTime();
 
+        if (timingWheel != null) {
+            purgeTimingWheel(now);
+            return;
+        }
+
         List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
         lock.lock();
         try {
@@ -215,9 +250,90 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         }
     }
 
+    private void purgeTimingWheel(long now) {
+        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            List<TimeoutMapEntry<K, V>> due = new ArrayList<>();
+            wheelLock.lock();
+            try {
+                // only the entries which are due are taken out of the timing wheel
+                timingWheel.advance(now, due);
+                for (TimeoutMapEntry<K, V> entry : due) {
+                    if (entry.getExpireTime() < now && isValidForEviction(entry)) {
+                        log.debug("Evicting inactive entry ID: {}", entry);
+                        expired.add(entry);
+                    } else {
+                        // the entry has been refreshed or should not be evicted now, so check it again later
+                        timingWheel.schedule(entry, now);
+                    }
+                }
+            } finally {
+                wheelLock.unlock();
+            }
+
+            if (!expired.isEmpty()) {
+                // sort according to the expired time so we got the first expired first
+                expired.sort(comparing(TimeoutMapEntry::getExpireTime));
+
+                // the entry may have been replaced or removed in the meantime
+                expired.removeIf(entry -> !map.remove(entry.getKey(), entry));
+            }
+        } finally {
+            lock.unlock();
+            for (TimeoutMapEntry<K, V> entry : expired) {
+                emitEvent(Evict, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void reschedule(TimeoutMapEntry<K, V> entry, TimeoutMapEntry<K, V> replaced) {
+        TimeoutMapTimingWheel<K, V> wheel = timingWheel;
+        if (wheel != null) {
+            wheelLock.lock();
+            try {
+                if (replaced != null) {
+                    wheel.cancel(replaced);
+                }
+                wheel.cancel(entry);
+                wheel.schedule(entry, currentTime());
+            } finally {
+                wheelLock.unlock();
+            }
+        }
+    }
+
+    private void cancel(TimeoutMapEntry<K, V> entry) {
+        TimeoutMapTimingWheel<K, V> wheel = timingWheel;
+        if (wheel != null) {
+            wheelLock.lock();
+            try {
+                wheel.cancel(entry);
+            } finally {
+                wheelLock.unlock();
+            }
+        }
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
+    public boolean isTimingWheel() {
+        return timingWheel != null;
+    }
+
+    /**
+     * Whether to use a hierarchical timing wheel to keep track of when the entries expire, instead of scanning all the
+     * entries when purging. The timing wheel ticks at the purge poll time, and must be enabled before any entries are
+     * added.
+     */
+    public void setTimingWheel(boolean timingWheel) {
+        if (!map.isEmpty()) {
+            throw new IllegalStateException("Cannot change timing wheel when the timeout map has entries");
+        }
+        this.timingWheel = timingWheel ? new TimeoutMapTimingWheel<>(purgePollTime) : null;
+    }
+
     public long getPurgePollTime() {
         return purgePollTime;
     }
@@ -287,6 +403,14 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         }
         // clear map if we stop
         map.clear();
+        if (timingWheel != null) {
+            wheelLock.lock();
+            try {
+                timingWheel.clear();
+            } finally {
+                wheelLock.unlock();
+            }
+        }
     }
 
 }
@@ -26,6 +26,7 @@ import org.apache.camel.spi.VariableRepository;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.CaseInsensitiveMap;
 import org.apache.camel.util.StringHelper;
+import org.apache.camel.util.concurrent.CopyOnWriteConcurrentMap;
 
 /**
  * {@link VariableRepository} which is local per {@link Exchange} to hold request-scoped variables.
@@ -33,13 +34,21 @@ import org.apache.camel.util.StringHelper;
 final class ExchangeVariableRepository extends AbstractVariableRepository {
 
     public ExchangeVariableRepository(CamelContext camelContext) {
+        super(new CopyOnWriteConcurrentMap<>(8));
         setCamelContext(camelContext);
         // ensure its started
         ServiceHelper.startService(this);
     }
 
-    void copyFrom(ExchangeVariableRepository source) {
-        setVariables(source.getVariables());
+    /**
+     * Creates a repository with the variables from the source repository, which are shared until either repository is
+     * changed.
+     */
+    ExchangeVariableRepository(CamelContext camelContext, ExchangeVariableRepository source) {
+        super(new CopyOnWriteConcurrentMap<>(source.getVariables()));
+        setCamelContext(camelContext);
+        // ensure its started
+        ServiceHelper.startService(this);
     }
 
     @Override
@@ -72,6 +72,10 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
 
     @Override
     public void setStatisticsEnabled(boolean statisticsEnabled) {
+        if (statisticsEnabled && statistics == null) {
+            // statistics may be enabled at runtime (such as from JMX)
+            this.statistics = new UtilizationStatistics();
+        }
         this.statisticsEnabled = statisticsEnabled;
     }
 
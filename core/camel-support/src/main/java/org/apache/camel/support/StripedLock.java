@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A lock that is split into a number of stripes, where each key is guarded by the stripe its hash code maps to.
+ * <p/>
+ * Use {@link #lock(Object)} or {@link #getLock(Object)} to lock a single key, which allows unrelated keys to be locked
+ * concurrently. Use {@link #lockAll()} to acquire all the stripes, which is needed for operations that span all keys.
+ * <p/>
+ * This is not a {@link Lock} itself, as a {@link java.util.concurrent.locks.Condition} cannot span all the stripes.
+ * <p/>
+ * Important: a thread that holds a single stripe must not lock all the stripes, as that can deadlock with another
+ * thread doing the same.
+ */
+public class StripedLock {
+
+    private final ReentrantLock[] stripes;
+
+    public StripedLock(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Stripes must be a positive number, was: " + stripes);
+        }
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Number of stripes
+     */
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    /**
+     * Gets the stripe that guards the given key
+     */
+    public Lock getLock(Object key) {
+        int h = key.hashCode();
+        // spread the higher bits as keys such as strings with a common prefix may only differ in the lower bits
+        h ^= h >>> 16;
+        return stripes[Math.floorMod(h, stripes.length)];
+    }
+
+    /**
+     * Locks the stripe that guards the given key
+     */
+    public void lock(Object key) {
+        getLock(key).lock();
+    }
+
+    /**
+     * Unlocks the stripe that guards the given key
+     */
+    public void unlock(Object key) {
+        getLock(key).unlock();
+    }
+
+    /**
+     * Locks all the stripes
+     */
+    public void lockAll() {
+        // always lock in the same order to avoid deadlocks between threads acquiring all the stripes
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+    }
+
+    /**
+     * Unlocks all the stripes
+     */
+    public void unlockAll() {
+        // unlock in reverse order
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+}
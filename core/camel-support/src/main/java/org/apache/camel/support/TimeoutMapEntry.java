@@ -28,6 +28,10 @@ public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V
     private V value;
     private long timeout;
     private long expireTime;
+    // links into the timing wheel (if in use) which is guarded by the lock of the timeout map
+    TimeoutMapTimingWheel.Slot<K, V> wheelSlot;
+    TimeoutMapEntry<K, V> wheelPrev;
+    TimeoutMapEntry<K, V> wheelNext;
 
     public TimeoutMapEntry(K id, V handler, long timeout) {
         this.key = id;
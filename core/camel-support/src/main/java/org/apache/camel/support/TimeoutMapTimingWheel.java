@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel which keeps track of when the entries of a {@link DefaultTimeoutMap} expire.
+ * <p/>
+ * The wheel advances one tick at a time, and the first level has a slot per tick. The higher levels have slots spanning
+ * more ticks, and their entries are cascaded down to the lower levels as the wheel advances. The entries are linked
+ * into the slots, so scheduling and cancelling an entry is O(1), and advancing the wheel only visits the entries which
+ * are due (and each entry is cascaded at most once per level).
+ * <p/>
+ * This class is not thread safe, and must be guarded by the lock of the timeout map.
+ */
+final class TimeoutMapTimingWheel<K, V> {
+
+    private static final int ROOT_BITS = 8;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVELS = 5;
+    private static final long MAX_DELTA = 1L << (ROOT_BITS + LEVEL_BITS * (LEVELS - 1));
+
+    private final long tickMillis;
+    private final Slot<K, V>[][] levels;
+    private final List<TimeoutMapEntry<K, V>> cascading = new ArrayList<>();
+    private long currentTick = -1;
+
+    @SuppressWarnings("unchecked")
+    TimeoutMapTimingWheel(long tickMillis) {
+        this.tickMillis = Math.max(1, tickMillis);
+        this.levels = new Slot[LEVELS][];
+        for (int i = 0; i < LEVELS; i++) {
+            Slot<K, V>[] slots = new Slot[1 << (i == 0 ? ROOT_BITS : LEVEL_BITS)];
+            for (int j = 0; j < slots.length; j++) {
+                slots[j] = new Slot<>();
+            }
+            levels[i] = slots;
+        }
+    }
+
+    /**
+     * Schedules the entry to expire at its expire time
+     */
+    void schedule(TimeoutMapEntry<K, V> entry, long now) {
+        if (currentTick < 0) {
+            currentTick = now / tickMillis;
+        }
+        // the current tick has already been processed, so an entry which is already due is checked on the next tick
+        scheduleAt(entry, currentTick + 1);
+    }
+
+    private void scheduleAt(TimeoutMapEntry<K, V> entry, long minTick) {
+        long expireTick = Math.max(entry.getExpireTime() / tickMillis, minTick);
+        long delta = expireTick - currentTick;
+        if (delta >= MAX_DELTA) {
+            // too far ahead so park the entry on the last level, and it is rescheduled when cascaded
+            delta = MAX_DELTA - 1;
+            expireTick = currentTick + delta;
+        }
+
+        int level = 0;
+        int shift = 0;
+        long range = 1L << ROOT_BITS;
+        while (delta >= range) {
+            level++;
+            shift = ROOT_BITS + LEVEL_BITS * (level - 1);
+            range <<= LEVEL_BITS;
+        }
+        Slot<K, V>[] slots = levels[level];
+        slots[(int) ((expireTick >>> shift) & (slots.length - 1))].add(entry);
+    }
+
+    /**
+     * Cancels the entry, if it is scheduled
+     */
+    void cancel(TimeoutMapEntry<K, V> entry) {
+        if (entry.wheelSlot != null) {
+            entry.wheelSlot.remove(entry);
+        }
+    }
+
+    /**
+     * Advances the wheel up to the given time, and moves all the entries which are due into the given list. The caller
+     * must reschedule any due entry which is not expired.
+     */
+    void advance(long now, List<TimeoutMapEntry<K, V>> due) {
+        if (currentTick < 0) {
+            currentTick = now / tickMillis;
+            return;
+        }
+        long targetTick = now / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            int index = (int) (currentTick & ((1 << ROOT_BITS) - 1));
+            if (index == 0) {
+                cascade();
+            }
+            levels[0][index].drainTo(due);
+        }
+    }
+
+    /**
+     * Removes all the entries
+     */
+    void clear() {
+        for (Slot<K, V>[] slots : levels) {
+            for (Slot<K, V> slot : slots) {
+                slot.clear();
+            }
+        }
+        currentTick = -1;
+    }
+
+    private void cascade() {
+        // cascade the higher levels first, as their entries may be due for the lower levels
+        int level = 1;
+        int shift = ROOT_BITS;
+        while (level < LEVELS && ((currentTick >>> shift) & ((1 << LEVEL_BITS) - 1)) == 0) {
+            level++;
+            shift += LEVEL_BITS;
+        }
+        for (int i = Math.min(level, LEVELS - 1); i >= 1; i--) {
+            int levelShift = ROOT_BITS + LEVEL_BITS * (i - 1);
+            Slot<K, V> slot = levels[i][(int) ((currentTick >>> levelShift) & ((1 << LEVEL_BITS) - 1))];
+            cascading.clear();
+            slot.drainTo(cascading);
+            for (TimeoutMapEntry<K, V> entry : cascading) {
+                // the current tick is processed after cascading, so entries due now are placed in the current slot
+                scheduleAt(entry, currentTick);
+            }
+            cascading.clear();
+        }
+    }
+
+    /**
+     * A slot with a doubly linked list of the entries (in the order they were added)
+     */
+    static final class Slot<K, V> {
+
+        private TimeoutMapEntry<K, V> head;
+        private TimeoutMapEntry<K, V> tail;
+
+        void add(TimeoutMapEntry<K, V> entry) {
+            entry.wheelSlot = this;
+            entry.wheelPrev = tail;
+            entry.wheelNext = null;
+            if (tail != null) {
+                tail.wheelNext = entry;
+            } else {
+                head = entry;
+            }
+            tail = entry;
+        }
+
+        void remove(TimeoutMapEntry<K, V> entry) {
+            if (entry.wheelPrev != null) {
+                entry.wheelPrev.wheelNext = entry.wheelNext;
+            } else {
+                head = entry.wheelNext;
+            }
+            if (entry.wheelNext != null) {
+                entry.wheelNext.wheelPrev = entry.wheelPrev;
+            } else {
+                tail = entry.wheelPrev;
+            }
+            entry.wheelSlot = null;
+            entry.wheelPrev = null;
+            entry.wheelNext = null;
+        }
+
+        void drainTo(List<TimeoutMapEntry<K, V>> list) {
+            TimeoutMapEntry<K, V> entry = head;
+            head = null;
+            tail = null;
+            while (entry != null) {
+                TimeoutMapEntry<K, V> next = entry.wheelNext;
+                entry.wheelSlot = null;
+                entry.wheelPrev = null;
+                entry.wheelNext = null;
+                list.add(entry);
+                entry = next;
+            }
+        }
+
+        void clear() {
+            while (head != null) {
+                remove(head);
+            }
+        }
+    }
+}
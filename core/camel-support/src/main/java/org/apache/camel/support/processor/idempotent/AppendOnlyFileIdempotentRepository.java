@@ -0,0 +1,672 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.StripedLock;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.apache.camel.util.concurrent.ThreadHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} for large stores, which appends
+ * every change to log segments in a directory.
+ * <p/>
+ * All the keys are kept in an in-memory index, so checking for a key never reads from disk. Adding a key appends a
+ * record to the active segment, and removing a key appends a tombstone record, instead of rewriting the store. When the
+ * active segment is full then a new segment is started, and when the log segments contain enough obsolete records
+ * (removed keys), then the segments are compacted in the background into a single segment with only the current keys.
+ * <p/>
+ * The log segments are replayed into the in-memory index when starting, so the memory usage is proportional to the
+ * number of keys in the store.
+ */
+@Metadata(label = "bean",
+          description = "A file based idempotent repository for large stores, which appends changes to log segments and keeps"
+                        + " all the keys in an in-memory index. Obsolete records are compacted in the background.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Append-only file based idempotent repository")
+public class AppendOnlyFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppendOnlyFileIdempotentRepository.class);
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String COMPACT_SUFFIX = ".compact";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final byte ADD = '+';
+    private static final byte REMOVE = '-';
+    private static final byte DELIMITER = '\n';
+
+    private CamelContext camelContext;
+    private final Set<String> index = ConcurrentHashMap.newKeySet();
+    // changes to the same key must be appended in the same order as they are applied to the index
+    private final StripedLock keyLock = new StripedLock(64);
+    private final Lock writeLock = new ReentrantLock();
+    private final Lock compactLock = new ReentrantLock();
+    private final List<Segment> sealed = new ArrayList<>();
+    private volatile Segment active;
+    private long records;
+    private volatile boolean dirty;
+    private final LongAdder compactions = new LongAdder();
+    private ScheduledExecutorService executorService;
+
+    @Metadata(description = "The directory where the log segments of the repository are stored", required = true)
+    private File directory;
+    @Metadata(description = "The maximum size in bytes of a log segment, before a new segment is started",
+              defaultValue = "" + 16 * 1024 * 1024)
+    private long maxSegmentSize = 16 * 1024 * 1024;
+    @Metadata(description = "The percentage (1-99) of obsolete records in the log segments, that triggers compaction of"
+                            + " the log segments",
+              defaultValue = "50")
+    private int compactionThreshold = 50;
+    @Metadata(description = "When to force changes to disk. With always then every change is forced to disk before returning,"
+                            + " with interval then changes are forced to disk periodically, and with never it is up to the"
+                            + " operating system.",
+              defaultValue = "interval", enums = "always,interval,never")
+    private String syncPolicy = "interval";
+    @Metadata(description = "The interval in millis for forcing changes to disk when using the interval sync policy",
+              defaultValue = "1000")
+    private long syncInterval = 1000;
+
+    public AppendOnlyFileIdempotentRepository() {
+    }
+
+    public AppendOnlyFileIdempotentRepository(File directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        Lock lock = keyLock.getLock(key);
+        lock.lock();
+        try {
+            if (!index.add(key)) {
+                return false;
+            }
+            try {
+                append(ADD, key);
+            } catch (RuntimeException e) {
+                // keep the index in sync with the store
+                index.remove(key);
+                throw e;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        return index.contains(key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        Lock lock = keyLock.getLock(key);
+        lock.lock();
+        try {
+            if (!index.remove(key)) {
+                return false;
+            }
+            try {
+                append(REMOVE, key);
+            } catch (RuntimeException e) {
+                // keep the index in sync with the store
+                index.add(key);
+                throw e;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        compactLock.lock();
+        try {
+            keyLock.lockAll();
+            try {
+                writeLock.lock();
+                try {
+                    index.clear();
+                    Segment last = active;
+                    closeSegment(last);
+                    for (Segment segment : sealed) {
+                        Files.deleteIfExists(segment.path);
+                    }
+                    Files.deleteIfExists(last.path);
+                    sealed.clear();
+                    records = 0;
+                    active = openSegment(last.id + 1);
+                } catch (IOException e) {
+                    throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                } finally {
+                    writeLock.unlock();
+                }
+            } finally {
+                keyLock.unlockAll();
+            }
+        } finally {
+            compactLock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the log segments into a single segment with the current keys, which removes the obsolete records.
+     * <p/>
+     * This is automatic done in the background, when the percentage of obsolete records hits the
+     * {@link #getCompactionThreshold()}.
+     */
+    @ManagedOperation(description = "Compacts the log segments")
+    public void compact() {
+        compactLock.lock();
+        try {
+            doCompact();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            compactLock.unlock();
+        }
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    @ManagedAttribute(description = "The directory for the store")
+    public String getDirectoryPath() {
+        return directory != null ? directory.getPath() : null;
+    }
+
+    @ManagedAttribute(description = "The maximum size in bytes of a log segment")
+    public long getMaxSegmentSize() {
+        return maxSegmentSize;
+    }
+
+    /**
+     * Sets the maximum size in bytes of a log segment, before a new segment is started.
+     * <p/>
+     * The default is 16mb.
+     */
+    public void setMaxSegmentSize(long maxSegmentSize) {
+        this.maxSegmentSize = maxSegmentSize;
+    }
+
+    @ManagedAttribute(description = "The percentage of obsolete records in the log segments that triggers compaction")
+    public int getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the percentage (1-99) of obsolete records in the log segments, that triggers compaction of the log segments.
+     * <p/>
+     * The default is 50.
+     */
+    public void setCompactionThreshold(int compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @ManagedAttribute(description = "When to force changes to disk")
+    public String getSyncPolicy() {
+        return syncPolicy;
+    }
+
+    /**
+     * Sets when to force changes to disk. With always then every change is forced to disk before returning, with
+     * interval then changes are forced to disk periodically, and with never it is up to the operating system.
+     * <p/>
+     * The default is interval.
+     */
+    public void setSyncPolicy(String syncPolicy) {
+        this.syncPolicy = syncPolicy;
+    }
+
+    @ManagedAttribute(description = "The interval in millis for forcing changes to disk")
+    public long getSyncInterval() {
+        return syncInterval;
+    }
+
+    /**
+     * Sets the interval in millis for forcing changes to disk when using the interval sync policy.
+     * <p/>
+     * The default is 1000.
+     */
+    public void setSyncInterval(long syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+
+    @ManagedAttribute(description = "The number of keys in the store")
+    public int getSize() {
+        return index.size();
+    }
+
+    @ManagedAttribute(description = "The number of log segments")
+    public int getSegments() {
+        writeLock.lock();
+        try {
+            return sealed.size() + (active != null ? 1 : 0);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The number of records in the log segments")
+    public long getRecords() {
+        writeLock.lock();
+        try {
+            return records;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The number of times the log segments has been compacted")
+    public long getCompactions() {
+        return compactions.sum();
+    }
+
+    private void append(byte type, String key) {
+        if (key.indexOf(DELIMITER) != -1) {
+            throw new IllegalArgumentException("Key must not contain line breaks: " + key);
+        }
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(data.length + 2);
+        buffer.put(type).put(data).put(DELIMITER).flip();
+
+        boolean compact;
+        writeLock.lock();
+        try {
+            boolean rolled = false;
+            if (active.size >= maxSegmentSize) {
+                roll();
+                rolled = true;
+            }
+            Segment segment = active;
+            while (buffer.hasRemaining()) {
+                segment.size += segment.channel.write(buffer);
+            }
+            segment.records++;
+            records++;
+            if ("always".equals(syncPolicy)) {
+                segment.channel.force(false);
+            } else {
+                dirty = true;
+            }
+            compact = rolled && isCompactionNeeded();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            writeLock.unlock();
+        }
+
+        if (compact) {
+            executorService.execute(this::compactInBackground);
+        }
+    }
+
+    private boolean isCompactionNeeded() {
+        long obsolete = records - index.size();
+        return !sealed.isEmpty() && obsolete * 100 >= records * compactionThreshold;
+    }
+
+    private void compactInBackground() {
+        // skip if already compacting
+        if (compactLock.tryLock()) {
+            try {
+                doCompact();
+            } catch (Exception e) {
+                LOG.warn("Error compacting idempotent store: {}. This exception is ignored.", directory, e);
+            } finally {
+                compactLock.unlock();
+            }
+        }
+    }
+
+    private void doCompact() throws IOException {
+        List<Segment> segments;
+        writeLock.lock();
+        try {
+            // start a new segment, so the current records are all in sealed segments
+            roll();
+            segments = new ArrayList<>(sealed);
+        } finally {
+            writeLock.unlock();
+        }
+
+        // the compacted segment replaces the sealed segments using the id of the newest sealed segment, as changes
+        // done while compacting are appended to newer segments which are replayed afterwards
+        Segment last = segments.get(segments.size() - 1);
+        Path temp = segmentPath(last.id, COMPACT_SUFFIX + TEMP_SUFFIX);
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+            for (String key : index) {
+                out.write(ADD);
+                out.write(key.getBytes(StandardCharsets.UTF_8));
+                out.write(DELIMITER);
+                count++;
+            }
+            out.flush();
+            channel.force(true);
+        }
+        // the compacted segment is committed by renaming it, and is completed when starting if we crash from here
+        Path compacted = segmentPath(last.id, COMPACT_SUFFIX);
+        Files.move(temp, compacted, StandardCopyOption.ATOMIC_MOVE);
+        long size = replaceSegments(last.id, compacted);
+
+        writeLock.lock();
+        try {
+            sealed.removeAll(segments);
+            sealed.add(0, new Segment(last.id, last.path, size, count));
+            for (Segment segment : segments) {
+                records -= segment.records;
+            }
+            records += count;
+        } finally {
+            writeLock.unlock();
+        }
+        compactions.increment();
+        LOG.debug("Compacted {} segments with {} keys in idempotent store: {}", segments.size(), count, directory);
+    }
+
+    /**
+     * Replaces the segments up to the given id with the compacted segment
+     *
+     * @return the size of the compacted segment
+     */
+    private long replaceSegments(long id, Path compacted) throws IOException {
+        for (Path path : listSegments(SEGMENT_SUFFIX).headMap(id, true).values()) {
+            Files.delete(path);
+        }
+        Path target = segmentPath(id, SEGMENT_SUFFIX);
+        Files.move(compacted, target, StandardCopyOption.ATOMIC_MOVE);
+        return Files.size(target);
+    }
+
+    private void roll() throws IOException {
+        Segment current = active;
+        closeSegment(current);
+        sealed.add(current);
+        active = openSegment(current.id + 1);
+    }
+
+    private void sync() {
+        if (dirty) {
+            dirty = false;
+            Segment segment = active;
+            try {
+                segment.channel.force(false);
+            } catch (ClosedChannelException e) {
+                // the segment was rolled which forces the changes to disk
+            } catch (IOException e) {
+                LOG.warn("Error forcing changes to disk in idempotent store: {}. This exception is ignored.", directory, e);
+            }
+        }
+    }
+
+    private Segment openSegment(long id) throws IOException {
+        Path path = segmentPath(id, SEGMENT_SUFFIX);
+        Segment segment = new Segment(id, path, 0, 0);
+        segment.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        return segment;
+    }
+
+    private static void closeSegment(Segment segment) throws IOException {
+        if (segment != null && segment.channel != null) {
+            segment.channel.force(false);
+            segment.channel.close();
+            segment.channel = null;
+        }
+    }
+
+    private Path segmentPath(long id, String suffix) {
+        return directory.toPath().resolve(String.format("%s%012d%s", SEGMENT_PREFIX, id, suffix));
+    }
+
+    /**
+     * Lists the files with the given suffix, sorted by their segment id
+     */
+    private TreeMap<Long, Path> listSegments(String suffix) throws IOException {
+        TreeMap<Long, Path> answer = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory.toPath())) {
+            files.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(suffix)) {
+                    String id = name.substring(SEGMENT_PREFIX.length(), name.length() - suffix.length());
+                    try {
+                        answer.put(Long.parseLong(id), path);
+                    } catch (NumberFormatException e) {
+                        // not a segment
+                    }
+                }
+            });
+        }
+        return answer;
+    }
+
+    /**
+     * Loads the log segments into the in-memory index
+     */
+    protected void loadStore() throws IOException {
+        Files.createDirectories(directory.toPath());
+
+        // complete or discard a compaction that was interrupted
+        for (Path path : listSegments(COMPACT_SUFFIX + TEMP_SUFFIX).values()) {
+            Files.delete(path);
+        }
+        for (var entry : listSegments(COMPACT_SUFFIX).entrySet()) {
+            LOG.info("Completing compaction of idempotent store: {}", directory);
+            replaceSegments(entry.getKey(), entry.getValue());
+        }
+
+        index.clear();
+        sealed.clear();
+        records = 0;
+        long id = 0;
+        for (var entry : listSegments(SEGMENT_SUFFIX).entrySet()) {
+            id = entry.getKey();
+            Path path = entry.getValue();
+            long count = replay(path);
+            sealed.add(new Segment(id, path, Files.size(path), count));
+            records += count;
+        }
+        // always append to a new segment
+        active = openSegment(id + 1);
+
+        LOG.debug("Loaded {} keys from {} segments in idempotent store: {}", index.size(), sealed.size(), directory);
+    }
+
+    /**
+     * Replays the records of the given segment into the in-memory index
+     *
+     * @return the number of records
+     */
+    private long replay(Path path) throws IOException {
+        long count = 0;
+        long valid = 0;
+        long position = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path), 64 * 1024)) {
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (b != DELIMITER) {
+                    line.write(b);
+                    continue;
+                }
+                byte[] data = line.toByteArray();
+                line.reset();
+                valid = position;
+                if (data.length == 0) {
+                    continue;
+                }
+                String key = new String(data, 1, data.length - 1, StandardCharsets.UTF_8);
+                if (data[0] == ADD) {
+                    index.add(key);
+                } else if (data[0] == REMOVE) {
+                    index.remove(key);
+                } else {
+                    LOG.warn("Skipping invalid record in idempotent store segment: {}", path);
+                }
+                count++;
+            }
+        }
+        if (valid < position) {
+            // a record was partially written (such as a crash) so discard it
+            LOG.warn("Discarding partially written record in idempotent store segment: {}", path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(valid);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(directory, "directory", this);
+
+        writeLock.lock();
+        try {
+            loadStore();
+        } finally {
+            writeLock.unlock();
+        }
+
+        if (camelContext != null) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                    "AppendOnlyFileIdempotentRepository");
+        } else {
+            executorService = Executors.newSingleThreadScheduledExecutor(
+                    new CamelThreadFactory(ThreadHelper.DEFAULT_PATTERN, "AppendOnlyFileIdempotentRepository", true));
+        }
+        if ("interval".equals(syncPolicy) && syncInterval > 0) {
+            executorService.scheduleWithFixedDelay(this::sync, syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            if (camelContext != null) {
+                camelContext.getExecutorServiceManager().shutdownGraceful(executorService);
+            } else {
+                executorService.shutdown();
+                executorService.awaitTermination(10, TimeUnit.SECONDS);
+            }
+            executorService = null;
+        }
+
+        compactLock.lock();
+        try {
+            writeLock.lock();
+            try {
+                closeSegment(active);
+                active = null;
+                sealed.clear();
+                index.clear();
+                records = 0;
+            } finally {
+                writeLock.unlock();
+            }
+        } finally {
+            compactLock.unlock();
+        }
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private long size;
+        private long records;
+        private FileChannel channel;
+
+        Segment(long id, Path path, long size, long records) {
+            this.id = id;
+            this.path = path;
+            this.size = size;
+            this.records = records;
+        }
+    }
+
+}
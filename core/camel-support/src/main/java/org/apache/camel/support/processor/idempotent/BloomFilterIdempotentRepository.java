@@ -0,0 +1,512 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.apache.camel.spi.IdempotentRepository} which decorates another repository (such as a JDBC, Redis,
+ * Infinispan or Hazelcast based repository) with a local bloom filter of the keys added.
+ * <p/>
+ * When checking for a key, the bloom filter can tell whether the key is definitely new, in which case the backing
+ * repository is not checked. Only keys which are probably present (either a duplicate or a false positive of the bloom
+ * filter) are checked against the backing repository. Adding and removing keys are always delegated to the backing
+ * repository, which remains the source of truth.
+ * <p/>
+ * The bloom filter only knows the keys added through this repository, and cannot be rebuilt from the backing
+ * repository. Therefore the bloom filter is only trusted to tell that a key is new, when it has been loaded from the
+ * filter file (see {@link #setFilterFile(File)}), or the repository has been cleared, or when a new bloom filter is
+ * trusted (see {@link #setTrustNewFilter(boolean)}). Until then all keys are checked against the backing repository.
+ * <p/>
+ * The keys added are appended to the filter file as they are added, so the bloom filter survives the application
+ * crashing, and the filter file is compacted when the repository is stopped. Keys added by other applications sharing
+ * the backing repository are unknown to the bloom filter, which is not a problem in eager mode, as adding keys always
+ * checks the backing repository.
+ * <p/>
+ * Only checking for keys can avoid the backing repository, so the idempotent consumer must use <tt>eager=false</tt>
+ * (which checks for the key before processing, and adds the key when the exchange is complete), and the bloom filter
+ * must be trusted. In eager mode the idempotent consumer only adds keys, which always goes to the backing repository,
+ * and is not counted in the statistics.
+ */
+@Metadata(label = "bean",
+          description = "An IdempotentRepository that decorates another repository with a local bloom filter, to avoid"
+                        + " checking the backing repository for keys which are definitely new.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Bloom filter idempotent repository")
+public class BloomFilterIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BloomFilterIdempotentRepository.class);
+    private static final int FILTER_FILE_MAGIC = 0x43424c32;
+
+    private CamelContext camelContext;
+    // clearing the filter must not interleave with keys being added to the filter and the backing repository
+    private final ReadWriteLock clearLock = new ReentrantReadWriteLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private AtomicLongArray bits;
+    private long numBits;
+    private int numHashFunctions;
+    // whether the filter knows all the keys in the backing repository, so a key not in the filter is definitely new
+    private volatile boolean trusted;
+    private volatile FileChannel journal;
+
+    @Metadata(description = "The backing idempotent repository", required = true)
+    private IdempotentRepository idempotentRepository;
+    @Metadata(description = "The expected number of keys to be added, which is used for sizing the bloom filter",
+              defaultValue = "1000000")
+    private long expectedInsertions = 1000000;
+    @Metadata(description = "The desired false positive probability of the bloom filter, when the expected number of keys"
+                            + " has been added",
+              defaultValue = "0.01")
+    private double falsePositiveProbability = 0.01;
+    @Metadata(description = "An optional file to persist the bloom filter, which is loaded when starting. The keys are"
+                            + " appended to the file as they are added, and the file is compacted when stopping.")
+    private File filterFile;
+    @Metadata(defaultValue = "false",
+              description = "Whether a new bloom filter (when there is no filter file to load) is trusted to tell that keys"
+                            + " are new. This is only correct if the backing repository has no keys when the bloom filter is"
+                            + " created. Otherwise all keys are checked against the backing repository, until the repository"
+                            + " is cleared.")
+    private boolean trustNewFilter;
+
+    public BloomFilterIdempotentRepository() {
+    }
+
+    public BloomFilterIdempotentRepository(IdempotentRepository idempotentRepository) {
+        this.idempotentRepository = idempotentRepository;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public IdempotentRepository getIdempotentRepository() {
+        return idempotentRepository;
+    }
+
+    /**
+     * The backing idempotent repository
+     */
+    public void setIdempotentRepository(IdempotentRepository idempotentRepository) {
+        this.idempotentRepository = idempotentRepository;
+    }
+
+    @ManagedAttribute(description = "The expected number of keys to be added")
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * The expected number of keys to be added, which is used for sizing the bloom filter
+     */
+    public void setExpectedInsertions(long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    @ManagedAttribute(description = "The desired false positive probability of the bloom filter")
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * The desired false positive probability of the bloom filter, when the expected number of keys has been added
+     */
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public File getFilterFile() {
+        return filterFile;
+    }
+
+    /**
+     * An optional file to persist the bloom filter, which is loaded when starting. The keys are appended to the file as
+     * they are added, and the file is compacted when stopping.
+     */
+    public void setFilterFile(File filterFile) {
+        this.filterFile = filterFile;
+    }
+
+    public boolean isTrustNewFilter() {
+        return trustNewFilter;
+    }
+
+    /**
+     * Whether a new bloom filter (when there is no filter file to load) is trusted to tell that keys are new. This is
+     * only correct if the backing repository has no keys when the bloom filter is created. Otherwise all keys are
+     * checked against the backing repository, until the repository is cleared.
+     */
+    public void setTrustNewFilter(boolean trustNewFilter) {
+        this.trustNewFilter = trustNewFilter;
+    }
+
+    @ManagedAttribute(description = "Whether the bloom filter is trusted to tell that keys are new")
+    public boolean isTrusted() {
+        return trusted;
+    }
+
+    @ManagedAttribute(description = "The number of bits in the bloom filter")
+    public long getNumBits() {
+        return numBits;
+    }
+
+    @ManagedAttribute(description = "The number of hash functions of the bloom filter")
+    public int getNumHashFunctions() {
+        return numHashFunctions;
+    }
+
+    @ManagedAttribute(description = "Number of keys the bloom filter determined to be new, without checking the backing repository")
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @ManagedAttribute(description = "Number of keys which were checked against the backing repository, as the bloom filter"
+                                    + " determined them to be probably present, or is not trusted")
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @ManagedAttribute(description = "Number of keys the bloom filter determined to be probably present, but were not present"
+                                    + " in the backing repository")
+    public long getFalsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        falsePositives.reset();
+    }
+
+    @Override
+    public boolean add(String key) {
+        return add(null, key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(Exchange exchange, String key) {
+        Lock lock = clearLock.readLock();
+        lock.lock();
+        try {
+            long hash = hash(key);
+            boolean present = mightContain(hash);
+            if (!present) {
+                // the filter (and filter file) must know the key before its added to the backing repository
+                put(hash);
+                appendToJournal(hash);
+            }
+            // adding a key always goes to the backing repository, so only checking for keys is counted in the statistics
+            return exchange != null ? idempotentRepository.add(exchange, key) : idempotentRepository.add(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return contains(null, key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(Exchange exchange, String key) {
+        Lock lock = clearLock.readLock();
+        lock.lock();
+        try {
+            boolean present = mightContain(hash(key));
+            if (!present && trusted) {
+                hits.increment();
+                return false;
+            }
+            // the backing repository is checked when the filter is not trusted yet
+            misses.increment();
+            boolean answer
+                    = exchange != null ? idempotentRepository.contains(exchange, key) : idempotentRepository.contains(key);
+            if (present && !answer) {
+                falsePositives.increment();
+            }
+            return answer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String key) {
+        // a bloom filter cannot remove keys, which is okay as the backing repository is checked for present keys
+        return idempotentRepository.remove(key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(Exchange exchange, String key) {
+        return idempotentRepository.remove(exchange, key);
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        return idempotentRepository.confirm(key);
+    }
+
+    @Override
+    public boolean confirm(Exchange exchange, String key) {
+        return idempotentRepository.confirm(exchange, key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        Lock lock = clearLock.writeLock();
+        lock.lock();
+        try {
+            idempotentRepository.clear();
+            for (int i = 0; i < bits.length(); i++) {
+                bits.set(i, 0);
+            }
+            // the filter now knows all the keys (none)
+            trusted = true;
+            if (filterFile != null) {
+                closeJournal();
+                saveFilter();
+                openJournal();
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean mightContain(long hash1) {
+        long hash2 = mix(hash1 ^ 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, numBits);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void put(long hash1) {
+        long hash2 = mix(hash1 ^ 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, numBits);
+            long mask = 1L << index;
+            bits.accumulateAndGet((int) (index >>> 6), mask, (a, b) -> a | b);
+        }
+    }
+
+    private static long hash(String key) {
+        // FNV-1a over the chars of the key, followed by a finalizer to spread the bits
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        ObjectHelper.notNull(idempotentRepository, "idempotentRepository", this);
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("ExpectedInsertions must be a positive number, was: " + expectedInsertions);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException(
+                    "FalsePositiveProbability must be between 0 and 1, was: " + falsePositiveProbability);
+        }
+
+        // optimal number of bits and hash functions for the expected insertions and false positive probability
+        double ln2 = Math.log(2);
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2));
+        // round up to whole longs, and there can be at most Integer.MAX_VALUE longs
+        long words = Math.min(Math.max(1, (size + 63) >>> 6), Integer.MAX_VALUE);
+        numBits = words << 6;
+        numHashFunctions = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * ln2));
+
+        CamelContextAware.trySetCamelContext(idempotentRepository, camelContext);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        bits = new AtomicLongArray((int) (numBits >>> 6));
+        if (filterFile != null && filterFile.exists()) {
+            trusted = loadFilter();
+        } else {
+            trusted = trustNewFilter;
+        }
+        if (!trusted) {
+            LOG.info("Bloom filter is not trusted to tell that keys are new, and all keys are checked against the"
+                     + " backing repository: {}",
+                    idempotentRepository);
+        }
+        if (filterFile != null) {
+            // compact the filter file, and append the keys added from now on
+            saveFilter();
+            openJournal();
+        }
+        ServiceHelper.startService(idempotentRepository);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(idempotentRepository);
+        closeJournal();
+        if (filterFile != null && bits != null) {
+            saveFilter();
+        }
+    }
+
+    /**
+     * Loads the bloom filter from the filter file.
+     *
+     * @return true if the loaded bloom filter is trusted
+     */
+    private boolean loadFilter() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filterFile.toPath())))) {
+            int magic = in.readInt();
+            long fileBits = in.readLong();
+            int fileHashFunctions = in.readInt();
+            if (magic != FILTER_FILE_MAGIC || fileBits != numBits || fileHashFunctions != numHashFunctions) {
+                LOG.warn("Ignoring bloom filter file: {} as its size does not match the configured bloom filter size",
+                        filterFile);
+                return false;
+            }
+            boolean complete = in.readBoolean();
+            for (int i = 0; i < bits.length(); i++) {
+                bits.set(i, in.readLong());
+            }
+            // replay the keys added after the filter was saved
+            int replayed = 0;
+            while (true) {
+                long hash;
+                try {
+                    hash = in.readLong();
+                } catch (EOFException e) {
+                    // end of file, or a partial record from a crash while appending
+                    break;
+                }
+                put(hash);
+                replayed++;
+            }
+            LOG.debug("Loaded bloom filter from file: {} with {} added keys", filterFile, replayed);
+            return complete;
+        } catch (EOFException e) {
+            LOG.warn("Ignoring bloom filter file: {} as the file is truncated", filterFile);
+            return false;
+        }
+    }
+
+    private void openJournal() throws IOException {
+        journal = FileChannel.open(filterFile.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void closeJournal() throws IOException {
+        FileChannel channel = journal;
+        journal = null;
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void appendToJournal(long hash) {
+        FileChannel channel = journal;
+        if (channel != null) {
+            ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(0, hash);
+            try {
+                // a single small write, which is not interleaved with writes from other threads
+                channel.write(buffer);
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+    }
+
+    private void saveFilter() throws IOException {
+        Path target = filterFile.toPath();
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        // write to a temporary file first, so a crash while writing does not leave a corrupted filter file behind
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(FILTER_FILE_MAGIC);
+            out.writeLong(numBits);
+            out.writeInt(numHashFunctions);
+            out.writeBoolean(trusted);
+            for (int i = 0; i < bits.length(); i++) {
+                out.writeLong(bits.get(i));
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        LOG.debug("Saved bloom filter to file: {}", filterFile);
+    }
+}
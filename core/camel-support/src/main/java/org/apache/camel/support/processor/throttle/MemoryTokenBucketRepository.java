@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.throttle;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.TokenBucketRepository;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * This {@link MemoryTokenBucketRepository} class is a memory-based implementation of a {@link TokenBucketRepository},
+ * which keeps the token buckets local to this JVM.
+ */
+@ManagedResource(description = "Memory based token bucket repository")
+public class MemoryTokenBucketRepository extends ServiceSupport implements TokenBucketRepository {
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public long take(String key, long tokens, long capacity, long refillTokens, long refillPeriodMillis) {
+        TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(capacity));
+        return bucket.take(tokens, capacity, refillTokens, refillPeriodMillis);
+    }
+
+    @ManagedAttribute(description = "Number of token buckets")
+    public int getSize() {
+        return buckets.size();
+    }
+
+    @ManagedOperation(description = "Clear the token buckets")
+    public void clear() {
+        buckets.clear();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        buckets.clear();
+    }
+
+    private static final class TokenBucket {
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(long capacity) {
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        synchronized long take(long wanted, long capacity, long refillTokens, long refillPeriodMillis) {
+            long now = System.nanoTime();
+            double refill = (double) (now - lastRefill) * refillTokens / TimeUnit.MILLISECONDS.toNanos(refillPeriodMillis);
+            tokens = Math.min(capacity, tokens + refill);
+            lastRefill = now;
+
+            long taken = Math.min(wanted, (long) tokens);
+            tokens -= taken;
+            return taken;
+        }
+    }
+}
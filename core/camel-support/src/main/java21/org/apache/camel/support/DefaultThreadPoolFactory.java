@@ -64,9 +64,20 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (Boolean.TRUE.equals(profile.getVirtualThreads())
+                && factory instanceof ThreadFactoryTypeAware factoryTypeAware && factoryTypeAware.isVirtual()) {
+            return newVirtualThreadPool(profile, factory);
+        }
+
+        int poolSize = profile.getPoolSize();
+        if (Boolean.TRUE.equals(profile.getVirtualThreads()) && poolSize > profile.getMaxPoolSize()) {
+            // the pool size is not used with virtual threads, so it may be higher than the max pool size
+            // when falling back to platform threads (virtual threads requires Java 21)
+            poolSize = profile.getMaxPoolSize();
+        }
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
-        return newThreadPool(profile.getPoolSize(),
+        return newThreadPool(poolSize,
                 profile.getMaxPoolSize(),
                 profile.getKeepAliveTime(),
                 profile.getTimeUnit(),
@@ -96,6 +107,31 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
                 rejectedExecutionHandler, threadFactory);
     }
 
+    /**
+     * Creates a thread pool with virtual threads that is bounded by the max pool size of the profile.
+     * <p/>
+     * Virtual threads are cheap, so the max pool size is used as core pool size which starts a new thread for each task
+     * until the max pool size is reached, as otherwise the pool would only grow beyond the core pool size when the work
+     * queue is full. The max pool size then acts as the number of permits (like a semaphore) for how many tasks can run
+     * concurrently, and further tasks are added to the work queue. The pool is a regular thread pool executor, so it
+     * keeps the same statistics as platform thread pools, which are exposed in JMX.
+     */
+    protected ExecutorService newVirtualThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        int max = profile.getMaxPoolSize();
+        if (max <= 0) {
+            throw new IllegalArgumentException("MaxPoolSize must be > 0 when using virtual threads, was " + max);
+        }
+        // let idle threads timeout as all threads are core threads (fixed thread pools have no keep alive time)
+        long keepAliveTime = profile.getKeepAliveTime() != null ? profile.getKeepAliveTime() : 0;
+        return ThreadPoolFactoryType.PLATFORM.newThreadPool(max, max,
+                keepAliveTime,
+                profile.getTimeUnit(),
+                profile.getMaxQueueSize(),
+                keepAliveTime > 0,
+                profile.getRejectedExecutionHandler(),
+                factory);
+    }
+
     @Override
     public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
         return ThreadPoolFactoryType.from(threadFactory, profile).newScheduledThreadPool(profile, threadFactory);
@@ -0,0 +1,428 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, and iterates the entries in the order
+ * the keys were added.
+ * <p/>
+ * The map is based on an open addressing hash table, where the case insensitive hash of each key is computed once when
+ * the key is added, so lookup is O(1) and not O(log n) as the {@link CaseInsensitiveMap} does. Copying a map (using the
+ * {@link #CaseInsensitiveHashMap(Map)} constructor) shares the table with the copied map until either map is changed
+ * (copy-on-write), which makes copying a map that is only read, such as the headers of an exchange copied by multicast
+ * or split, cheap.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class CaseInsensitiveHashMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final @Serial long serialVersionUID = 3153717289346245637L;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DELETED = -1;
+
+    // hash table with the index of the entry + 1 (0 is an empty slot)
+    private int[] table;
+    // the entries in the order they were added, where removed entries have a null key
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int used;
+    private int size;
+    // whether the arrays are shared with a copy of this map, and must be copied before changed
+    private transient boolean shared;
+    private transient int modCount;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
+    public CaseInsensitiveHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CaseInsensitiveHashMap(int initialCapacity) {
+        allocate(Math.max(initialCapacity, 1));
+    }
+
+    public CaseInsensitiveHashMap(Map<? extends String, ?> map) {
+        if (!share(map)) {
+            allocate(Math.max(map.size(), DEFAULT_CAPACITY));
+            putAll(map);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String s && indexOf(s, hash(s)) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String s) {
+            int index = indexOf(s, hash(s));
+            if (index >= 0) {
+                return values[index];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index >= 0) {
+            // keep the original case of the key
+            ensureOwned();
+            Object answer = values[index];
+            values[index] = value;
+            return answer;
+        }
+
+        ensureOwned();
+        if (used == keys.length) {
+            // compact when there are many removed entries, otherwise grow
+            resize(size * 2 < keys.length ? keys.length : keys.length * 2);
+        }
+        int slot = hash & (table.length - 1);
+        while (table[slot] > 0) {
+            slot = (slot + 1) & (table.length - 1);
+        }
+        table[slot] = used + 1;
+        keys[used] = key;
+        values[used] = value;
+        hashes[used] = hash;
+        used++;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        // copying into an empty map (such as when copying a message) can share the arrays
+        if (size > 0 || !share(map)) {
+            super.putAll(map);
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String s) {
+            int slot = slotOf(s, hash(s));
+            if (slot >= 0) {
+                ensureOwned();
+                int index = table[slot] - 1;
+                Object answer = values[index];
+                removeAt(slot, index);
+                return answer;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0 || used > 0) {
+            shared = false;
+            allocate(DEFAULT_CAPACITY);
+            modCount++;
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        table = new int[tableSize(capacity)];
+        used = 0;
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldUsed = used;
+
+        allocate(capacity);
+        int mask = table.length - 1;
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldKeys[i] != null) {
+                int slot = oldHashes[i] & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = used + 1;
+                keys[used] = oldKeys[i];
+                values[used] = oldValues[i];
+                hashes[used] = oldHashes[i];
+                used++;
+            }
+        }
+        size = used;
+    }
+
+    private boolean share(Map<? extends String, ?> map) {
+        if (map instanceof CaseInsensitiveHashMap other && other != this && other.used - other.size <= other.size) {
+            // share the arrays until either map is changed
+            other.shared = true;
+            this.shared = true;
+            this.table = other.table;
+            this.keys = other.keys;
+            this.values = other.values;
+            this.hashes = other.hashes;
+            this.used = other.used;
+            this.size = other.size;
+            this.modCount++;
+            return true;
+        }
+        return false;
+    }
+
+    private void ensureOwned() {
+        if (shared) {
+            table = table.clone();
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            shared = false;
+        }
+    }
+
+    private void removeAt(int slot, int index) {
+        table[slot] = DELETED;
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        modCount++;
+    }
+
+    private int indexOf(String key, int hash) {
+        int slot = slotOf(key, hash);
+        return slot >= 0 ? table[slot] - 1 : -1;
+    }
+
+    private int slotOf(String key, int hash) {
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            if (entry > 0) {
+                int index = entry - 1;
+                if (hashes[index] == hash) {
+                    String k = keys[index];
+                    if (k == key || k.equalsIgnoreCase(key)) {
+                        return slot;
+                    }
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int tableSize(int capacity) {
+        // keep the table at most half full
+        int n = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        return Math.max(n, 2);
+    }
+
+    /**
+     * Computes the case insensitive hash of the key, which is the same for all keys that are equal ignoring case
+     */
+    static int hash(String key) {
+        int h = 0;
+        int len = key.length();
+        for (int i = 0; i < len; i++) {
+            char ch = key.charAt(i);
+            if (ch < 0x80) {
+                if (ch >= 'A' && ch <= 'Z') {
+                    ch += 'a' - 'A';
+                }
+                h = 31 * h + ch;
+            } else {
+                // same case folding as String.equalsIgnoreCase
+                int cp = key.codePointAt(i);
+                h = 31 * h + Character.toLowerCase(Character.toUpperCase(cp));
+                i += Character.charCount(cp) - 1;
+            }
+        }
+        // spread the higher bits as the table index uses the lower bits
+        return h ^ (h >>> 16);
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (o instanceof Map.Entry<?, ?> e && e.getKey() instanceof String key) {
+                int index = indexOf(key, hash(key));
+                return index >= 0 && Objects.equals(values[index], e.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (contains(o)) {
+                CaseInsensitiveHashMap.this.remove(((Map.Entry<?, ?>) o).getKey());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while (next < used && keys[next] == null) {
+                next++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            advance();
+            return new Entry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            CaseInsensitiveHashMap.this.remove(keys[last]);
+            expectedModCount = modCount;
+            last = -1;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+
+        private final int index;
+        private final String key;
+
+        Entry(int index) {
+            this.index = index;
+            this.key = keys[index];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return keys[index] == key ? values[index] : null;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (keys[index] != key) {
+                throw new IllegalStateException("Entry has been removed");
+            }
+            ensureOwned();
+            Object answer = values[index];
+            values[index] = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e && key.equals(e.getKey())
+                    && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
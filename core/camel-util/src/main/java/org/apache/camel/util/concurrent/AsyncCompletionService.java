@@ -16,6 +16,10 @@
  */
 package org.apache.camel.util.concurrent;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -26,6 +30,9 @@ import java.util.function.Consumer;
 
 /**
  * A completion service that orders the completed tasks in the same order as they where submitted.
+ * <p/>
+ * Tasks can be submitted with a key, where the tasks with the same key are run one at a time in the order they were
+ * submitted (a task is complete when it has accepted its result), while tasks with different keys run concurrently.
  */
 public class AsyncCompletionService<V> {
 
@@ -36,6 +43,10 @@ public class AsyncCompletionService<V> {
     private final AtomicInteger index = new AtomicInteger();
     private final ReentrantLock lock;
     private final Condition available;
+    // the tasks waiting for the running task with the same key to complete
+    private final Map<Object, Deque<Task>> lanes = new HashMap<>();
+    // the tasks to run next, when the current thread is already running the next tasks
+    private final ThreadLocal<Deque<Task>> pendingNext = new ThreadLocal<>();
 
     public AsyncCompletionService(Executor executor, boolean ordered) {
         this(executor, ordered, null, 0);
@@ -66,6 +77,35 @@ public class AsyncCompletionService<V> {
         this.executor.execute(f);
     }
 
+    /**
+     * Submits the task, which runs when the previously submitted tasks with the same key have completed.
+     *
+     * @param key    the key, or <tt>null</tt> to run the task regardless of other tasks
+     * @param runner the task
+     */
+    public void submit(Object key, Consumer<Consumer<V>> runner) {
+        if (key == null) {
+            submit(runner);
+            return;
+        }
+
+        Task f = new Task(nextId.getAndIncrement(), runner, key);
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            Deque<Task> lane = lanes.get(key);
+            if (lane != null) {
+                // wait for the running task with the same key to complete
+                lane.add(f);
+                return;
+            }
+            lanes.put(key, new ArrayDeque<>());
+        } finally {
+            lock.unlock();
+        }
+        this.executor.execute(f);
+    }
+
     public void skip() {
         index.incrementAndGet();
     }
@@ -137,24 +177,61 @@ public class AsyncCompletionService<V> {
     }
 
     private void complete(Task task) {
+        Task next = null;
         final ReentrantLock lock = this.lock;
         lock.lock();
         try {
             queue.add(task);
             available.signalAll();
+            if (task.key != null) {
+                Deque<Task> lane = lanes.get(task.key);
+                next = lane.poll();
+                if (next == null) {
+                    lanes.remove(task.key);
+                }
+            }
         } finally {
             lock.unlock();
         }
+        if (next != null) {
+            executeNext(next);
+        }
+    }
+
+    private void executeNext(Task next) {
+        Deque<Task> pending = pendingNext.get();
+        if (pending != null) {
+            // the executor runs the tasks on the calling thread (such as caller runs), and the task completed while
+            // being executed, so let the outer loop run the next task to not grow the stack with every task
+            pending.add(next);
+            return;
+        }
+        pending = new ArrayDeque<>();
+        pendingNext.set(pending);
+        try {
+            while (next != null) {
+                this.executor.execute(next);
+                next = pending.poll();
+            }
+        } finally {
+            pendingNext.remove();
+        }
     }
 
     private class Task implements Runnable, Comparable<Task>, Consumer<V> {
         private final int id;
         private final Consumer<Consumer<V>> runner;
+        private final Object key;
         private V result;
 
         Task(int id, Consumer<Consumer<V>> runner) {
+            this(id, runner, null);
+        }
+
+        Task(int id, Consumer<Consumer<V>> runner, Object key) {
             this.id = id;
             this.runner = runner;
+            this.key = key;
         }
 
         @Override
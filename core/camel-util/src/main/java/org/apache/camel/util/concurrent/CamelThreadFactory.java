@@ -16,15 +16,13 @@
  */
 package org.apache.camel.util.concurrent;
 
-import java.util.concurrent.ThreadFactory;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Thread factory which creates threads supporting a naming pattern.
  */
-public final class CamelThreadFactory implements ThreadFactory {
+public final class CamelThreadFactory implements ThreadFactoryTypeAware {
     private static final Logger LOG = LoggerFactory.getLogger(CamelThreadFactory.class);
 
     private final String pattern;
@@ -37,6 +35,19 @@ public final class CamelThreadFactory implements ThreadFactory {
         this.daemon = daemon;
     }
 
+    /**
+     * Creates a thread factory, where virtual threads are not supported on this JVM (requires Java 21 or newer), and
+     * therefore platform threads are always created.
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
+        this(pattern, name, daemon);
+    }
+
+    @Override
+    public boolean isVirtual() {
+        return false;
+    }
+
     @Override
     public Thread newThread(Runnable runnable) {
         String threadName = ThreadHelper.resolveThreadName(pattern, name);
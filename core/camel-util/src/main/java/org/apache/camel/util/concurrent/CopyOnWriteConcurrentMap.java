@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A {@link ConcurrentMap} backed by a {@link ConcurrentHashMap}, where a copy of the map created by
+ * {@link #CopyOnWriteConcurrentMap(Map)} shares the entries with the original map until either map is changed. The map
+ * being changed then takes its own copy of the entries, so changes are never visible in the other map.
+ * <p/>
+ * This is used for maps which are copied often but seldom changed by the copies, such as the exchange properties and
+ * variables of the exchanges created by the multicast, split and wire-tap EIPs.
+ * <p/>
+ * A change that runs concurrently with creating a copy of the map may or may not be visible in the copy, just as when
+ * copying a {@link ConcurrentHashMap} that is concurrently changed.
+ */
+public class CopyOnWriteConcurrentMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    private volatile ConcurrentHashMap<K, V> map;
+    // whether the map is shared with a copy of this map, and must be copied before changed
+    private volatile boolean shared;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    public CopyOnWriteConcurrentMap() {
+        this.map = new ConcurrentHashMap<>();
+    }
+
+    public CopyOnWriteConcurrentMap(int initialCapacity) {
+        this.map = new ConcurrentHashMap<>(initialCapacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    public CopyOnWriteConcurrentMap(Map<? extends K, ? extends V> map) {
+        if (map instanceof CopyOnWriteConcurrentMap) {
+            this.map = ((CopyOnWriteConcurrentMap<K, V>) map).share();
+            this.shared = true;
+        } else {
+            this.map = new ConcurrentHashMap<>(map);
+        }
+    }
+
+    /**
+     * Whether the entries are currently shared with a copy of this map
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return map.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        map.forEach(action);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return owned().put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        if (!m.isEmpty()) {
+            owned().putAll(m);
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        V answer = map.get(key);
+        return answer != null ? answer : owned().putIfAbsent(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        // avoid copying the entries when there is nothing to remove
+        return map.containsKey(key) ? owned().remove(key) : null;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        return map.containsKey(key) && owned().remove(key, value);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        return map.containsKey(key) && owned().replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        return map.containsKey(key) ? owned().replace(key, value) : null;
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        owned().replaceAll(function);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V answer = map.get(key);
+        return answer != null ? answer : owned().computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return map.containsKey(key) ? owned().computeIfPresent(key, remappingFunction) : null;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return owned().compute(key, remappingFunction);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        return owned().merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void clear() {
+        if (shared) {
+            synchronized (this) {
+                if (shared) {
+                    // no need to copy the entries that are to be cleared
+                    map = new ConcurrentHashMap<>();
+                    shared = false;
+                    return;
+                }
+            }
+        }
+        map.clear();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private synchronized ConcurrentHashMap<K, V> share() {
+        shared = true;
+        return map;
+    }
+
+    private ConcurrentHashMap<K, V> owned() {
+        if (shared) {
+            synchronized (this) {
+                if (shared) {
+                    map = new ConcurrentHashMap<>(map);
+                    shared = false;
+                }
+            }
+        }
+        return map;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator(map.entrySet().iterator());
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return map.entrySet().contains(o);
+        }
+
+        @Override
+        public void clear() {
+            CopyOnWriteConcurrentMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+        private final Iterator<Map.Entry<K, V>> iterator;
+        private K last;
+
+        EntryIterator(Iterator<Map.Entry<K, V>> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            Map.Entry<K, V> entry = iterator.next();
+            last = entry.getKey();
+            return new Entry(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            // the entries being iterated may be shared, so remove the entry from the map
+            CopyOnWriteConcurrentMap.this.remove(last);
+            last = null;
+        }
+    }
+
+    private final class Entry extends SimpleEntry<K, V> {
+
+        Entry(K key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
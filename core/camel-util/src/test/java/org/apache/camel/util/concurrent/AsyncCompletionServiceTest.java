@@ -20,6 +20,8 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.AfterEach;
@@ -31,6 +33,7 @@ import org.slf4j.LoggerFactory;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class AsyncCompletionServiceTest {
     private static final Logger LOG = LoggerFactory.getLogger(AsyncCompletionServiceTest.class);
@@ -173,6 +176,81 @@ public class AsyncCompletionServiceTest {
         assertEquals("B", b);
     }
 
+    @Test
+    public void testSubmitWithKey() throws Exception {
+
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        // B waits for A as they have the same key, while C does not
+        service.submit("foo", result("A", latch, 5, TimeUnit.SECONDS));
+        service.submit("foo", result("B"));
+        service.submit("bar", result("C"));
+
+        // C is complete but must be taken in order
+        Thread.sleep(100);
+        assertNull(service.poll());
+
+        latch.countDown();
+
+        assertEquals("A", service.take());
+        assertEquals("B", service.take());
+        assertEquals("C", service.take());
+    }
+
+    @Test
+    public void testSubmitWithKeyRunsOneAtATime() throws Exception {
+        final int size = 50;
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+
+        for (int i = 0; i < size; i++) {
+            final int num = i;
+            service.submit(num % 2, result -> {
+                max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    LOG.info("The test execution was interrupted", e);
+                }
+                running.decrementAndGet();
+                result.accept(num);
+            });
+        }
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, service.poll(5, TimeUnit.SECONDS));
+        }
+        // at most one task per key at any time
+        assertTrue(max.get() <= 2, "Should run at most 2 tasks at the same time, was: " + max.get());
+    }
+
+    @Test
+    public void testSubmitWithKeyCallerRuns() {
+        final int size = 10000;
+        final AtomicInteger maxDepth = new AtomicInteger();
+        // the tasks run on the calling thread
+        AsyncCompletionService<Object> service = new AsyncCompletionService<>(Runnable::run, true);
+
+        // the first task completes later, so all the other tasks with the same key are waiting for it
+        AtomicReference<Consumer<Object>> first = new AtomicReference<>();
+        service.submit("foo", first::set);
+        for (int i = 1; i < size; i++) {
+            final int num = i;
+            service.submit("foo", result -> {
+                maxDepth.accumulateAndGet(Thread.currentThread().getStackTrace().length, Math::max);
+                result.accept(num);
+            });
+        }
+        int depth = Thread.currentThread().getStackTrace().length;
+        first.get().accept(0);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, service.poll());
+        }
+        // the stack does not grow with every task
+        assertTrue(maxDepth.get() < depth + 20, "The stack should not grow, was: " + maxDepth.get());
+    }
+
     Consumer<Consumer<Object>> result(Object r) {
         return result -> result.accept(r);
     }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CopyOnWriteConcurrentMapTest {
+
+    @Test
+    public void testCopyOnWrite() {
+        CopyOnWriteConcurrentMap<String, Object> map = new CopyOnWriteConcurrentMap<>();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+        assertFalse(map.isShared());
+
+        CopyOnWriteConcurrentMap<String, Object> copy = new CopyOnWriteConcurrentMap<>(map);
+        assertTrue(map.isShared());
+        assertTrue(copy.isShared());
+        assertEquals(map, copy);
+
+        // reads and removing unknown keys do not copy
+        assertEquals("cheese", copy.get("foo"));
+        assertNull(copy.remove("baz"));
+        assertEquals("cheese", copy.putIfAbsent("foo", "wine"));
+        assertTrue(copy.isShared());
+
+        copy.put("foo", "beer");
+        assertFalse(copy.isShared());
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("beer", copy.get("foo"));
+
+        map.remove("bar");
+        assertFalse(map.isShared());
+        assertEquals(1, map.size());
+        assertEquals(123, copy.get("bar"));
+    }
+
+    @Test
+    public void testCopyOfCopy() {
+        CopyOnWriteConcurrentMap<String, Object> map = new CopyOnWriteConcurrentMap<>();
+        map.put("foo", "cheese");
+
+        Map<String, Object> copy = new CopyOnWriteConcurrentMap<>(map);
+        Map<String, Object> copy2 = new CopyOnWriteConcurrentMap<>(copy);
+
+        copy.put("bar", 123);
+        copy2.clear();
+        map.computeIfAbsent("baz", k -> true);
+
+        assertEquals(2, map.size());
+        assertEquals(2, copy.size());
+        assertTrue(copy2.isEmpty());
+        assertNull(map.get("bar"));
+        assertNull(copy.get("baz"));
+    }
+
+    @Test
+    public void testEntrySetChanges() {
+        CopyOnWriteConcurrentMap<String, Object> map = new CopyOnWriteConcurrentMap<>();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+
+        Map<String, Object> copy = new CopyOnWriteConcurrentMap<>(map);
+
+        for (Map.Entry<String, Object> entry : copy.entrySet()) {
+            if ("foo".equals(entry.getKey())) {
+                entry.setValue("beer");
+            }
+        }
+        Iterator<String> it = copy.keySet().iterator();
+        while (it.hasNext()) {
+            if ("bar".equals(it.next())) {
+                it.remove();
+            }
+        }
+
+        assertEquals(Map.of("foo", "beer"), copy);
+        assertEquals(Map.of("foo", "cheese", "bar", 123), map);
+    }
+}
@@ -91,6 +91,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); yield true;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); yield true;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); yield true;
+                case "lockStripes": def.setLockStripes(val); yield true;
                 case "optimisticLocking": def.setOptimisticLocking(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); yield true;
@@ -563,7 +564,10 @@ public class ModelParser extends BaseParser {
                 case "synchronous": def.setSynchronous(val); yield true;
                 case "timeout": def.setTimeout(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
-            }, outputDefinitionElementHandler(), noValueHandler());
+            }, (def, key) -> switch (key) {
+                case "correlationExpression": def.setCorrelationExpression(doParseExpressionSubElementDefinition()); yield true;
+                default: yield outputDefinitionElementHandler().accept(def, key);
+            }, noValueHandler());
     }
     protected OnCompletionDefinition doParseOnCompletionDefinition() throws IOException, XmlPullParserException {
         return doParse(new OnCompletionDefinition(), (def, key, val) -> switch (key) {
@@ -765,7 +769,10 @@ public class ModelParser extends BaseParser {
             }, optionalIdentifiedDefinitionElementHandler(), noValueHandler());
     }
     protected ResequenceDefinition doParseResequenceDefinition() throws IOException, XmlPullParserException {
-        return doParse(new ResequenceDefinition(), processorDefinitionAttributeHandler(), (def, key) -> {
+        return doParse(new ResequenceDefinition(), (def, key, val) -> switch (key) {
+                case "executorService": def.setExecutorService(val); yield true;
+                default: yield processorDefinitionAttributeHandler().accept(def, key, val);
+            }, (def, key) -> {
                 switch (key) {
                     case "batchConfig": def.setResequencerConfig(doParseBatchResequencerConfig()); break;
                     case "streamConfig": def.setResequencerConfig(doParseStreamResequencerConfig()); break;
@@ -1132,6 +1139,7 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); yield true;
                 case "delimiter": def.setDelimiter(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
+                case "maxInflight": def.setMaxInflight(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -1141,7 +1149,10 @@ public class ModelParser extends BaseParser {
                 case "synchronous": def.setSynchronous(val); yield true;
                 case "timeout": def.setTimeout(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
-            }, outputExpressionNodeElementHandler(), noValueHandler());
+            }, (def, key) -> switch (key) {
+                case "correlationExpression": def.setCorrelationExpression(doParseExpressionSubElementDefinition()); yield true;
+                default: yield outputExpressionNodeElementHandler().accept(def, key);
+            }, noValueHandler());
     }
     protected StepDefinition doParseStepDefinition() throws IOException, XmlPullParserException {
         return doParse(new StepDefinition(), processorDefinitionAttributeHandler(), outputDefinitionElementHandler(), noValueHandler());
@@ -1205,6 +1216,7 @@ public class ModelParser extends BaseParser {
                 case "poolSize": def.setPoolSize(val); yield true;
                 case "rejectedPolicy": def.setRejectedPolicy(val); yield true;
                 case "timeUnit": def.setTimeUnit(val); yield true;
+                case "virtualThreads": def.setVirtualThreads(val); yield true;
                 default: yield optionalIdentifiedDefinitionAttributeHandler().accept(def, key, val);
             }, optionalIdentifiedDefinitionElementHandler(), noValueHandler());
     }
@@ -1226,11 +1238,13 @@ public class ModelParser extends BaseParser {
     protected ThrottleDefinition doParseThrottleDefinition() throws IOException, XmlPullParserException {
         return doParse(new ThrottleDefinition(), (def, key, val) -> switch (key) {
                 case "asyncDelayed": def.setAsyncDelayed(val); yield true;
+                case "burstCapacity": def.setBurstCapacity(val); yield true;
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
                 case "mode": def.setMode(val); yield true;
                 case "rejectExecution": def.setRejectExecution(val); yield true;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); yield true;
+                case "tokenBucketRepository": def.setTokenBucketRepository(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, (def, key) -> switch (key) {
                 case "correlationExpression": def.setCorrelationExpression(doParseExpressionSubElementDefinition()); yield true;
@@ -834,6 +834,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("completionFromBatchConsumer", def.getCompletionFromBatchConsumer(), null);
         doWriteAttribute("completeAllOnStop", def.getCompleteAllOnStop(), null);
         doWriteAttribute("completionSize", def.getCompletionSize(), null);
+        doWriteAttribute("lockStripes", def.getLockStripes(), null);
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName(), null);
         doWriteAttribute("aggregateController", def.getAggregateController(), null);
         doWriteAttribute("completionTimeout", def.getCompletionTimeout(), null);
@@ -1263,6 +1264,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("parallelAggregate", def.getParallelAggregate(), null);
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
         doWriteAttribute("aggregationStrategyMethodAllowNull", def.getAggregationStrategyMethodAllowNull(), null);
+        doWriteElement("correlationExpression", def.getCorrelationExpression(), this::doWriteExpressionSubElementDefinition);
         doWriteList(null, null, def.getOutputs(), this::doWriteProcessorDefinitionRef);
         endElement(name);
     }
@@ -1520,6 +1522,7 @@ public class ModelWriter extends BaseWriter {
     protected void doWriteResequenceDefinition(String name, ResequenceDefinition def) throws IOException {
         startElement(name);
         doWriteProcessorDefinitionAttributes(def);
+        doWriteAttribute("executorService", def.getExecutorService(), null);
         doWriteElement(null, def.getExpression(), this::doWriteExpressionDefinitionRef);
         doWriteElement(null, def.getResequencerConfig(), (n, v) -> {
             switch (v.getClass().getSimpleName()) {
@@ -1793,6 +1796,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("aggregationStrategy", def.getAggregationStrategy(), null);
         doWriteAttribute("onPrepare", def.getOnPrepare(), null);
         doWriteAttribute("executorService", def.getExecutorService(), null);
+        doWriteAttribute("maxInflight", def.getMaxInflight(), null);
         doWriteAttribute("synchronous", def.getSynchronous(), null);
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName(), null);
         doWriteAttribute("timeout", def.getTimeout(), "0");
@@ -1804,6 +1808,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
         doWriteAttribute("aggregationStrategyMethodAllowNull", def.getAggregationStrategyMethodAllowNull(), null);
         doWriteOutputExpressionNodeElements(def);
+        doWriteElement("correlationExpression", def.getCorrelationExpression(), this::doWriteExpressionSubElementDefinition);
         endElement(name);
     }
     protected void doWriteStepDefinition(String name, StepDefinition def) throws IOException {
@@ -1841,6 +1846,7 @@ public class ModelWriter extends BaseWriter {
     protected void doWriteThreadPoolProfileDefinition(String name, ThreadPoolProfileDefinition def) throws IOException {
         startElement(name);
         doWriteOptionalIdentifiedDefinitionAttributes(def);
+        doWriteAttribute("virtualThreads", def.getVirtualThreads(), null);
         doWriteAttribute("keepAliveTime", def.getKeepAliveTime(), null);
         doWriteAttribute("maxQueueSize", def.getMaxQueueSize(), null);
         doWriteAttribute("allowCoreThreadTimeOut", def.getAllowCoreThreadTimeOut(), null);
@@ -1870,11 +1876,13 @@ public class ModelWriter extends BaseWriter {
         startElement(name);
         doWriteProcessorDefinitionAttributes(def);
         doWriteAttribute("mode", def.getMode(), "TotalRequests");
+        doWriteAttribute("tokenBucketRepository", def.getTokenBucketRepository(), null);
         doWriteAttribute("timePeriodMillis", def.getTimePeriodMillis(), "1000");
         doWriteAttribute("rejectExecution", def.getRejectExecution(), null);
         doWriteAttribute("callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
         doWriteAttribute("executorService", def.getExecutorService(), null);
         doWriteAttribute("asyncDelayed", def.getAsyncDelayed(), null);
+        doWriteAttribute("burstCapacity", def.getBurstCapacity(), null);
         doWriteExpressionNodeElements(def);
         doWriteElement("correlationExpression", def.getCorrelationExpression(), this::doWriteExpressionSubElementDefinition);
         endElement(name);
@@ -76,6 +76,10 @@ public class CamelRouteStatus extends ProcessWatchCommand {
                         description = "Include description in the ID column (if available)")
     boolean description;
 
+    @CommandLine.Option(names = { "--percentiles" },
+                        description = "Include the processing time percentiles (requires processingTimePercentilesEnabled)")
+    boolean percentiles;
+
     public CamelRouteStatus(CamelJBangMain main) {
         super(main);
     }
@@ -155,6 +159,13 @@ public class CamelRouteStatus extends ProcessWatchCommand {
                                 }
                                 row.max = stats.get("maxProcessingTime").toString();
                                 row.min = stats.get("minProcessingTime").toString();
+                                Object p = stats.get("p50ProcessingTime");
+                                if (p != null) {
+                                    row.p50 = p.toString();
+                                    row.p95 = stats.get("p95ProcessingTime").toString();
+                                    row.p99 = stats.get("p99ProcessingTime").toString();
+                                    row.p999 = stats.get("p999ProcessingTime").toString();
+                                }
                                 Object last = stats.get("lastProcessingTime");
                                 if (last != null) {
                                     row.last = last.toString();
@@ -244,6 +255,10 @@ public class CamelRouteStatus extends ProcessWatchCommand {
                 new Column().header("MEAN").with(r -> r.mean),
                 new Column().header("MIN").with(r -> r.min),
                 new Column().header("MAX").with(r -> r.max),
+                new Column().header("P50").visible(percentiles).with(r -> r.p50),
+                new Column().header("P95").visible(percentiles).with(r -> r.p95),
+                new Column().header("P99").visible(percentiles).with(r -> r.p99),
+                new Column().header("P999").visible(percentiles).with(r -> r.p999),
                 new Column().header("LAST").with(r -> r.last),
                 new Column().header("DELTA").with(this::getDelta),
                 new Column().header("SINCE-LAST").with(this::getSinceLast))));
@@ -423,6 +438,10 @@ public class CamelRouteStatus extends ProcessWatchCommand {
         String mean;
         String max;
         String min;
+        String p50;
+        String p95;
+        String p99;
+        String p999;
         String last;
         String delta;
         String sinceLastStarted;
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.AggregateDefinition;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.apache.camel.processor.aggregate.MemoryAggregationRepository;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmarks the aggregator when called by many concurrent threads using a single lock, lock stripes or optimistic
+ * locking with the {@link MemoryAggregationRepository}.
+ */
+public class AggregateLockingBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkHelper.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "single", "striped", "optimistic" })
+        String locking;
+
+        @Param({ "1024" })
+        int keys;
+
+        CamelContext context;
+        ProducerTemplate producer;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            context = BenchmarkHelper.createCamelContext("prototype", new RouteBuilder() {
+                @Override
+                public void configure() {
+                    AggregateDefinition aggregate = from("direct:aggregate")
+                            .aggregate(header("key"), new GroupedBodyAggregationStrategy()).completionSize(100);
+                    if ("striped".equals(locking)) {
+                        aggregate.lockStripes(64);
+                    } else if ("optimistic".equals(locking)) {
+                        aggregate.aggregationRepository(new MemoryAggregationRepository(true)).optimisticLocking();
+                    }
+                    aggregate.setProperty("done", constant(true));
+                }
+            });
+            producer = context.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void aggregate(BenchmarkState state) {
+        int key = ThreadLocalRandom.current().nextInt(state.keys);
+        state.producer.sendBodyAndHeader("direct:aggregate", "Hello", "key", key);
+    }
+}
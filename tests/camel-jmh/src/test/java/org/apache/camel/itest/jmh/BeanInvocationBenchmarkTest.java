@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks invoking a bean method by reflection versus by a method handle adapted the same way as the bean component
+ * does, and the bean component itself in a route.
+ */
+public class BeanInvocationBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkHelper.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        final MyBean bean = new MyBean();
+        Method method;
+        MethodHandle methodHandle;
+        CamelContext context;
+        ProducerTemplate producer;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            method = MyBean.class.getMethod("hello", String.class, int.class);
+            methodHandle = MethodHandles.lookup().unreflect(method)
+                    .asSpreader(Object[].class, 2)
+                    .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+
+            context = BenchmarkHelper.createCamelContext("prototype", new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start")
+                            .bean(MyBean.class, "hello(${body}, 3)");
+                }
+            });
+            producer = context.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void reflection(BenchmarkState state, Blackhole bh) throws Exception {
+        bh.consume(state.method.invoke(state.bean, new Object[] { "World", 3 }));
+    }
+
+    @Benchmark
+    public void methodHandle(BenchmarkState state, Blackhole bh) throws Throwable {
+        bh.consume((Object) state.methodHandle.invokeExact((Object) state.bean, new Object[] { "World", 3 }));
+    }
+
+    @Benchmark
+    public void beanRoute(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:start", "World"));
+    }
+
+    public static class MyBean {
+
+        public String hello(String body, int times) {
+            return "Hello " + body + times;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.apache.camel.impl.engine.PrototypeExchangeFactory;
+import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Helper for running the JMH benchmarks from JUnit and setting up the {@link CamelContext} to benchmark.
+ * <p/>
+ * The runs can be tuned with the following system properties:
+ * <ul>
+ * <li>camel.jmh.warmupIterations - number of warmup iterations (default 2)</li>
+ * <li>camel.jmh.iterations - number of measurement iterations (default 3)</li>
+ * <li>camel.jmh.time - seconds per iteration (default 2)</li>
+ * <li>camel.jmh.forks - number of forks (default 1)</li>
+ * <li>camel.jmh.profilers - whether to use the GC profiler to report allocation rates (default true)</li>
+ * </ul>
+ * The results are stored as JSON in <tt>target/jmh/&lt;benchmark&gt;.json</tt>.
+ */
+public final class BenchmarkHelper {
+
+    private BenchmarkHelper() {
+    }
+
+    /**
+     * Runs all the benchmark methods of the given class
+     */
+    public static void run(Class<?> benchmark) throws Exception {
+        new File("target/jmh").mkdirs();
+
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .include(benchmark.getName() + ".*")
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.SECONDS)
+                .warmupIterations(Integer.getInteger("camel.jmh.warmupIterations", 2))
+                .warmupTime(TimeValue.seconds(Integer.getInteger("camel.jmh.time", 2)))
+                .measurementIterations(Integer.getInteger("camel.jmh.iterations", 3))
+                .measurementTime(TimeValue.seconds(Integer.getInteger("camel.jmh.time", 2)))
+                .forks(Integer.getInteger("camel.jmh.forks", 1))
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh/" + benchmark.getSimpleName() + ".json");
+        if (Boolean.parseBoolean(System.getProperty("camel.jmh.profilers", "true"))) {
+            builder.addProfiler(GCProfiler.class);
+        }
+
+        new Runner(builder.build()).run();
+    }
+
+    /**
+     * Creates and starts a {@link CamelContext} with the given routes.
+     *
+     * @param exchangeFactory either <tt>prototype</tt> or <tt>pooled</tt>
+     * @param routes          the routes to benchmark
+     */
+    public static CamelContext createCamelContext(String exchangeFactory, RoutesBuilder routes) throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        context.disableJMX();
+
+        ExtendedCamelContext ecc = context.getCamelContextExtension();
+        if ("pooled".equals(exchangeFactory)) {
+            ecc.setExchangeFactory(new PooledExchangeFactory());
+            ecc.setProcessorExchangeFactory(new PooledProcessorExchangeFactory());
+        } else {
+            ecc.setExchangeFactory(new PrototypeExchangeFactory());
+            ecc.setProcessorExchangeFactory(new PrototypeProcessorExchangeFactory());
+        }
+
+        context.addRoutes(routes);
+        context.start();
+        return context;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the content based router and message filter EIPs using simple language predicates.
+ */
+public class ChoiceFilterBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkHelper.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "prototype", "pooled" })
+        String exchangeFactory;
+
+        CamelContext context;
+        ProducerTemplate producer;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            context = BenchmarkHelper.createCamelContext(exchangeFactory, new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:choice")
+                            .choice()
+                                .when(simple("${header.type} == 'gold'")).setBody(constant("gold"))
+                                .when(simple("${header.type} == 'silver'")).setBody(constant("silver"))
+                                .otherwise().setBody(constant("bronze"))
+                            .end();
+
+                    from("direct:filter")
+                            .filter(simple("${header.amount} > 100"))
+                                .setBody(constant("big"))
+                            .end();
+                }
+            });
+            producer = context.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void choiceFirst(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBodyAndHeader("direct:choice", "Hello", "type", "gold"));
+    }
+
+    @Benchmark
+    public void choiceOtherwise(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBodyAndHeader("direct:choice", "Hello", "type", "none"));
+    }
+
+    @Benchmark
+    public void filterMatch(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBodyAndHeader("direct:filter", "Hello", "amount", 200));
+    }
+
+    @Benchmark
+    public void filterNoMatch(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBodyAndHeader("direct:filter", "Hello", "amount", 50));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.CaseInsensitiveHashHeadersMapFactory;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks routing of header heavy messages (such as from HTTP or JMS) including copying the exchange, as done by
+ * EIPs such as multicast, split and wire-tap, using the default case insensitive headers map (based on a tree) or the
+ * case insensitive hash headers map.
+ */
+public class HeadersBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkHelper.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "prototype", "pooled" })
+        String exchangeFactory;
+
+        @Param({ "10", "40" })
+        int headers;
+
+        @Param({ "tree", "hash" })
+        String headersMap;
+
+        CamelContext context;
+        ProducerTemplate producer;
+        Map<String, Object> map;
+        Exchange exchange;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            context = BenchmarkHelper.createCamelContext(exchangeFactory, new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:headers")
+                            .setHeader("Content-Type", constant("text/plain"))
+                            .filter(header("X-Header-1").isNotNull())
+                                .removeHeader("X-Header-2")
+                            .end()
+                            .setHeader("result", header("x-header-3"));
+                }
+            });
+            if ("hash".equals(headersMap)) {
+                context.getCamelContextExtension().setHeadersMapFactory(new CaseInsensitiveHashHeadersMapFactory());
+            }
+            producer = context.createProducerTemplate();
+
+            map = new LinkedHashMap<>();
+            for (int i = 0; i < headers; i++) {
+                map.put("X-Header-" + i, "value" + i);
+            }
+            exchange = new DefaultExchange(context);
+            exchange.getMessage().setHeaders(new LinkedHashMap<>(map));
+            exchange.getMessage().setBody("Hello");
+            // the exchange properties and variables are copied as well
+            for (int i = 0; i < 10; i++) {
+                exchange.setProperty("property" + i, "value" + i);
+                exchange.setVariable("variable" + i, "value" + i);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void routeHeaders(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBodyAndHeaders("direct:headers", "Hello", state.map));
+    }
+
+    @Benchmark
+    public void getHeader(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.exchange.getMessage().getHeader("x-header-5"));
+    }
+
+    @Benchmark
+    public void copyExchange(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.exchange.copy());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.apache.camel.processor.aggregate.StringAggregationStrategy;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the splitter (with and without an aggregation strategy) and the aggregator.
+ */
+public class SplitAggregateBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkHelper.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "prototype", "pooled" })
+        String exchangeFactory;
+
+        @Param({ "10", "100" })
+        int lines;
+
+        CamelContext context;
+        ProducerTemplate producer;
+        String body;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            context = BenchmarkHelper.createCamelContext(exchangeFactory, new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:split")
+                            .split(body().tokenize(","))
+                                .transform(body().append("!"))
+                            .end();
+
+                    from("direct:splitAggregate")
+                            .split(body().tokenize(","), new StringAggregationStrategy().delimiter(","))
+                                .transform(body().append("!"))
+                            .end();
+
+                    from("direct:aggregate")
+                            .aggregate(header("key"), new GroupedBodyAggregationStrategy()).completionSize(10)
+                                .setProperty("done", constant(true))
+                            .end();
+                }
+            });
+            producer = context.createProducerTemplate();
+
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < lines; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append("line").append(i);
+            }
+            body = sb.toString();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void split(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:split", state.body));
+    }
+
+    @Benchmark
+    public void splitAggregate(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:splitAggregate", state.body));
+    }
+
+    @Benchmark
+    public void aggregate(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBodyAndHeader("direct:aggregate", "Hello", "key", "A"));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.processor.resequencer.ResequencerEngine;
+import org.apache.camel.processor.resequencer.SequenceElementComparator;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the {@link ResequencerEngine} used by the stream resequencer, when resequencing a batch of as many
+ * elements as the capacity of the resequencer. Each benchmark operation resequences a full batch.
+ */
+public class StreamResequencerBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkHelper.run(getClass());
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+
+        @Param({ "1000", "100000" })
+        int capacity;
+
+        ResequencerEngine<Long> engine;
+        long next;
+        long delivered;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            engine = new ResequencerEngine<>(new LongComparator());
+            engine.setSequenceSender(o -> delivered++);
+            engine.start();
+
+            // the very first element has no predecessor, so let it time out and be delivered
+            engine.setTimeout(1);
+            engine.insert(next++);
+            while (delivered == 0) {
+                engine.deliver();
+                Thread.yield();
+            }
+            // long enough for no element to time out while a batch is resequenced
+            engine.setTimeout(60000);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            engine.stop();
+        }
+    }
+
+    /**
+     * The elements arrive in order, and each element is delivered when it arrives
+     */
+    @Benchmark
+    public long inOrder(BenchmarkState state) throws Exception {
+        for (int i = 0; i < state.capacity; i++) {
+            state.engine.insert(state.next++);
+            state.engine.deliver();
+        }
+        return state.delivered;
+    }
+
+    /**
+     * The first element of the batch arrives last, so all the other elements are held back by the resequencer until the
+     * first element arrives
+     */
+    @Benchmark
+    public long firstLast(BenchmarkState state) throws Exception {
+        long first = state.next;
+        for (int i = 1; i < state.capacity; i++) {
+            state.engine.insert(first + i);
+        }
+        state.engine.insert(first);
+        state.engine.deliver();
+        state.next += state.capacity;
+        return state.delivered;
+    }
+
+    private static final class LongComparator implements SequenceElementComparator<Long> {
+
+        @Override
+        public boolean predecessor(Long o1, Long o2) {
+            return o2 - o1 == 1;
+        }
+
+        @Override
+        public boolean successor(Long o1, Long o2) {
+            return o1 - o2 == 1;
+        }
+
+        @Override
+        public boolean isValid(Long o1) {
+            return o1 != null;
+        }
+
+        @Override
+        public int compare(Long o1, Long o2) {
+            return Long.compare(o1, o2);
+        }
+    }
+}
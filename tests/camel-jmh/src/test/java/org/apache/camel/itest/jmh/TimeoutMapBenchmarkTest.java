@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.support.DefaultTimeoutMap;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the {@link DefaultTimeoutMap} with 1 million entries, when scanning all the entries or using the timing
+ * wheel to find the expired entries.
+ */
+public class TimeoutMapBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkHelper.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "scan", "wheel" })
+        String mode;
+
+        @Param({ "1000000" })
+        int entries;
+
+        ScheduledExecutorService executor;
+        BenchmarkTimeoutMap map;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            executor = Executors.newSingleThreadScheduledExecutor();
+            // the map is not started, as the benchmark purges the map itself
+            map = new BenchmarkTimeoutMap(executor);
+            map.setTimingWheel("wheel".equals(mode));
+            for (int i = 0; i < entries; i++) {
+                // spread the timeouts from 1 to 10 minutes, so no entry expires during the benchmark
+                map.put("key" + i, i, 60000 + i % 540000);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Exposes the purge task of the timeout map for benchmarking
+     */
+    public static class BenchmarkTimeoutMap extends DefaultTimeoutMap<String, Integer> {
+
+        public BenchmarkTimeoutMap(ScheduledExecutorService executor) {
+            super(executor, 1000);
+        }
+
+        @Override
+        public void purge() {
+            super.purge();
+        }
+    }
+
+    @Benchmark
+    public void purge(BenchmarkState state) {
+        state.map.purge();
+    }
+
+    @Benchmark
+    public Integer put(BenchmarkState state) {
+        // replaces an existing entry, so the size of the map stays the same
+        int i = ThreadLocalRandom.current().nextInt(state.entries);
+        return state.map.put("key" + i, i, 60000);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Generates a single type converter dispatcher which includes the source code generated type converters from the
+ * compile dependencies of the project. At runtime Camel then uses the dispatcher to call the type converters directly,
+ * instead of loading these type converters into the type converter registry.
+ * <p/>
+ * The generated source code is compiled with the project, and can therefore only use the compile (and provided)
+ * dependencies. The type converters of the runtime dependencies are loaded at runtime.
+ */
+@Mojo(name = "generate-type-converter-dispatcher", threadSafe = true,
+      requiresDependencyResolution = ResolutionScope.COMPILE, defaultPhase = LifecyclePhase.GENERATE_SOURCES)
+public class GenerateTypeConverterDispatcherMojo extends AbstractMojo {
+
+    private static final String META_INF_SERVICES_TYPE_CONVERTER_DISPATCHER
+            = "META-INF/services/org/apache/camel/TypeConverterDispatcher";
+
+    @Parameter(property = "project", required = true, readonly = true)
+    private MavenProject project;
+
+    /**
+     * The fully qualified class name of the generated type converter dispatcher.
+     */
+    @Parameter(property = "camel.typeConverterDispatcherClassName",
+               defaultValue = "org.apache.camel.converter.generated.ApplicationTypeConverterDispatcher")
+    private String className;
+
+    /**
+     * The output directory for the generated source code.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/generated-sources/camel-type-converter-dispatcher")
+    private File sourcesOutputDir;
+
+    /**
+     * The output directory for the generated resources.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/generated-resources/camel-type-converter-dispatcher")
+    private File resourcesOutputDir;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        TypeConverterDispatcherGenerator generator
+                = new TypeConverterDispatcherGenerator(createProjectClassLoader(), getLog());
+        if (!generator.isSupported()) {
+            getLog().warn("Cannot generate type converter dispatcher as the Camel version of the project does not"
+                          + " support type converter dispatchers");
+            return;
+        }
+
+        try {
+            Collection<String> loaders = generator.findTypeConverterLoaderClasses();
+            for (String loader : loaders) {
+                if (!generator.addTypeConverterLoader(loader)) {
+                    getLog().info("TypeConverterLoader: " + loader + " is not included and will be loaded at runtime");
+                }
+            }
+            if (generator.getTypeConverterLoaders().isEmpty()) {
+                getLog().info("No Camel type converter loaders to include in type converter dispatcher");
+                return;
+            }
+
+            getLog().info("Generating type converter dispatcher: " + className + " with " + generator.size()
+                          + " type converters from " + generator.getTypeConverterLoaders().size()
+                          + " Camel type converter loaders");
+
+            writeFile(sourcesOutputDir.toPath().resolve(className.replace('.', '/') + ".java"),
+                    generator.generate(className));
+            writeFile(resourcesOutputDir.toPath().resolve(META_INF_SERVICES_TYPE_CONVERTER_DISPATCHER),
+                    "# " + TypeConverterDispatcherGenerator.GENERATED_MSG + "\n" + className + "\n");
+        } catch (IOException e) {
+            throw new MojoFailureException("Error generating type converter dispatcher due to " + e.getMessage(), e);
+        }
+
+        project.addCompileSourceRoot(sourcesOutputDir.getPath());
+        addResourceDirectory(resourcesOutputDir);
+    }
+
+    private ClassLoader createProjectClassLoader() throws MojoExecutionException {
+        // the dependencies only, as the classes of the project itself have not been compiled yet
+        List<URL> urls = new ArrayList<>();
+        for (File file : getCompileClasspath(project.getArtifacts())) {
+            try {
+                urls.add(file.toURI().toURL());
+            } catch (MalformedURLException e) {
+                throw new MojoExecutionException("Error adding file: " + file + " to classpath", e);
+            }
+        }
+        if (getLog().isDebugEnabled()) {
+            getLog().debug("Using classpath: " + urls);
+        }
+        // the platform classloader is the parent so the type converters can use all the modules of the JDK
+        return new DynamicClassLoader(urls.toArray(new URL[0]), ClassLoader.getPlatformClassLoader());
+    }
+
+    /**
+     * The files of the dependencies which are on the compile classpath of the project, as the generated source code
+     * calls the type converters directly.
+     */
+    static List<File> getCompileClasspath(Collection<Artifact> artifacts) {
+        List<File> answer = new ArrayList<>();
+        for (Artifact artifact : artifacts) {
+            String scope = artifact.getScope();
+            boolean compile = scope == null || Artifact.SCOPE_COMPILE.equals(scope)
+                    || Artifact.SCOPE_PROVIDED.equals(scope) || Artifact.SCOPE_SYSTEM.equals(scope);
+            if (compile && artifact.getFile() != null) {
+                answer.add(artifact.getFile());
+            }
+        }
+        return answer;
+    }
+
+    private void addResourceDirectory(File dir) {
+        String path = dir.getPath();
+        boolean exists = project.getResources().stream().anyMatch(r -> path.equals(r.getDirectory()));
+        if (!exists) {
+            Resource resource = new Resource();
+            resource.setDirectory(path);
+            project.addResource(resource);
+        }
+    }
+
+    private static void writeFile(Path path, String data) throws IOException {
+        Files.createDirectories(path.getParent());
+        if (Files.isRegularFile(path) && data.equals(Files.readString(path))) {
+            // avoid touching the file so it is not compiled again
+            return;
+        }
+        Files.writeString(path, data);
+    }
+}
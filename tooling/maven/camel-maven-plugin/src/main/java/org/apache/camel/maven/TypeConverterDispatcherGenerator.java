@@ -0,0 +1,721 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Generates the source code of a <tt>org.apache.camel.spi.TypeConverterDispatcher</tt> which includes the type
+ * converters from the source code generated type converter loaders on the given classpath.
+ * <p/>
+ * The classes are loaded from the classpath of the application, and not the classpath of this plugin, so the
+ * <tt>@Converter</tt> annotations are read by their name.
+ */
+final class TypeConverterDispatcherGenerator {
+
+    static final String GENERATED_MSG = "Generated by camel build tools - do NOT edit this file!";
+
+    private static final String NL = "\n";
+
+    private static final String META_INF_SERVICES_UBER_TYPE_CONVERTER_LOADER
+            = "META-INF/services/org/apache/camel/UberTypeConverterLoader";
+    private static final String META_INF_SERVICES_TYPE_CONVERTER_LOADER
+            = "META-INF/services/org/apache/camel/TypeConverterLoader";
+
+    private static final String TYPE_CONVERTER_DISPATCHER = "org.apache.camel.spi.TypeConverterDispatcher";
+    private static final String BULK_TYPE_CONVERTERS = "org.apache.camel.spi.BulkTypeConverters";
+    private static final String CONVERTER = "org.apache.camel.Converter";
+    private static final String EXCHANGE = "org.apache.camel.Exchange";
+    private static final String CAMEL_CONTEXT = "org.apache.camel.CamelContext";
+    private static final String TYPE_CONVERTER_REGISTRY = "org.apache.camel.spi.TypeConverterRegistry";
+
+    private final ClassLoader classLoader;
+    private final Log log;
+
+    // the included type converter loaders
+    private final List<String> typeConverterLoaders = new ArrayList<>();
+    // the type converters grouped by the (wrapper) type they convert to
+    private final Map<Class<?>, List<ConverterMethod>> converters = new LinkedHashMap<>();
+    private final Set<String> pairs = new HashSet<>();
+    private final List<FallbackMethod> fallbackConverters = new ArrayList<>();
+    private int size;
+
+    TypeConverterDispatcherGenerator(ClassLoader classLoader, Log log) {
+        this.classLoader = classLoader;
+        this.log = log;
+    }
+
+    /**
+     * Whether the Camel version on the classpath supports type converter dispatchers
+     */
+    boolean isSupported() {
+        return loadClass(TYPE_CONVERTER_DISPATCHER) != null;
+    }
+
+    /**
+     * The names of the type converter loaders which have been included
+     */
+    List<String> getTypeConverterLoaders() {
+        return typeConverterLoaders;
+    }
+
+    /**
+     * The number of included type converters (not counting fallback type converters)
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Finds the type converter loader classes from the classpath looking for text files on the classpath at the
+     * {@link #META_INF_SERVICES_UBER_TYPE_CONVERTER_LOADER} and {@link #META_INF_SERVICES_TYPE_CONVERTER_LOADER}
+     * locations.
+     */
+    Set<String> findTypeConverterLoaderClasses() throws IOException {
+        Set<String> loaders = new LinkedHashSet<>();
+        findTypeConverterLoaderClasses(loaders, META_INF_SERVICES_UBER_TYPE_CONVERTER_LOADER);
+        findTypeConverterLoaderClasses(loaders, META_INF_SERVICES_TYPE_CONVERTER_LOADER);
+        return loaders;
+    }
+
+    private void findTypeConverterLoaderClasses(Set<String> loaders, String basePath) throws IOException {
+        Enumeration<URL> loaderResources = classLoader.getResources(basePath);
+        while (loaderResources.hasMoreElements()) {
+            URL url = loaderResources.nextElement();
+            if (log.isDebugEnabled()) {
+                log.debug("Loading file " + basePath + " to retrieve list of type converters, from url: " + url);
+            }
+            try (BufferedReader reader
+                    = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                do {
+                    line = reader.readLine();
+                    if (line != null && !line.startsWith("#") && !line.isEmpty()) {
+                        loaders.add(line.trim());
+                    }
+                } while (line != null);
+            }
+        }
+    }
+
+    /**
+     * Includes the type converters of the given type converter loader in the dispatcher.
+     *
+     * @return true if included, or false if the loader is not supported, and should be loaded at runtime
+     */
+    boolean addTypeConverterLoader(String name) {
+        Class<?> loader = loadClass(name);
+        if (loader == null) {
+            log.warn("Cannot load TypeConverterLoader: " + name);
+            return false;
+        }
+
+        List<Class<?>> classes = new ArrayList<>();
+        Integer expectedSize = null;
+        if (isAssignableTo(loader, BULK_TYPE_CONVERTERS)) {
+            // a bulk loader includes all the converter classes it references
+            Set<String> names = readReferencedClasses(name);
+            if (names == null) {
+                return false;
+            }
+            for (String n : names) {
+                Class<?> clazz = loadClass(n);
+                if (clazz == null) {
+                    log.debug("Cannot load class: " + n + " referenced from TypeConverterLoader: " + name);
+                    return false;
+                }
+                Annotation converter = findConverterAnnotation(clazz);
+                if (converter != null && asBoolean(converter, "generateBulkLoader")) {
+                    classes.add(clazz);
+                }
+            }
+            expectedSize = bulkSize(loader);
+            if (expectedSize == null) {
+                return false;
+            }
+        } else if (name.endsWith("Loader")) {
+            // a regular loader is named after its converter class
+            Class<?> clazz = loadClass(name.substring(0, name.length() - 6));
+            Annotation converter = clazz != null ? findConverterAnnotation(clazz) : null;
+            if (converter != null && asBoolean(converter, "generateLoader")) {
+                classes.add(clazz);
+            }
+        }
+        if (classes.isEmpty()) {
+            log.debug("TypeConverterLoader: " + name + " is not source code generated");
+            return false;
+        }
+
+        // collect first so the loader is either included or not
+        List<ConverterMethod> methods = new ArrayList<>();
+        List<FallbackMethod> fallbacks = new ArrayList<>();
+        for (Class<?> clazz : classes) {
+            if (!collectConverters(clazz, methods, fallbacks)) {
+                log.debug("TypeConverterLoader: " + name + " has type converters which are not supported");
+                return false;
+            }
+        }
+        if (expectedSize != null && expectedSize != methods.size()) {
+            log.debug("TypeConverterLoader: " + name + " has " + expectedSize + " type converters but found "
+                      + methods.size());
+            return false;
+        }
+
+        typeConverterLoaders.add(name);
+        for (ConverterMethod method : methods) {
+            // the first type converter wins the same way as when loading the type converters
+            if (pairs.add(method.from.getName() + ":" + method.to.getName())) {
+                addConverter(converters.computeIfAbsent(method.to, k -> new ArrayList<>()), method);
+                size++;
+            }
+        }
+        fallbackConverters.addAll(fallbacks);
+        return true;
+    }
+
+    /**
+     * Adds the type converter before the type converters from any of its super types, as the dispatcher uses the first
+     * type converter which accepts the value.
+     */
+    private static void addConverter(List<ConverterMethod> list, ConverterMethod method) {
+        for (int i = 0; i < list.size(); i++) {
+            Class<?> from = list.get(i).from;
+            if (from != method.from && from.isAssignableFrom(method.from)) {
+                list.add(i, method);
+                return;
+            }
+        }
+        list.add(method);
+    }
+
+    private boolean collectConverters(Class<?> clazz, List<ConverterMethod> methods, List<FallbackMethod> fallbacks) {
+        Annotation annotation = findConverterAnnotation(clazz);
+        if (annotation == null || asBoolean(annotation, "ignoreOnLoadError") || !Modifier.isPublic(clazz.getModifiers())
+                || clazz.getCanonicalName() == null) {
+            // converters which may fail to load are left to their loader
+            return false;
+        }
+
+        Method[] declared;
+        try {
+            declared = clazz.getDeclaredMethods();
+        } catch (LinkageError e) {
+            return false;
+        }
+        // sort in the same way as the bulk loaders, as the order of the declared methods is not specified
+        List<Method> list = new ArrayList<>(Arrays.asList(declared));
+        list.sort(Comparator.<Method> comparingInt(m -> {
+            Annotation a = findConverterAnnotation(m);
+            return a != null ? asInt(a, "order") : 0;
+        }).thenComparing(m -> m.getParameterCount() > 0 ? m.getParameterTypes()[0].getName() : "")
+                .thenComparing(Method::toString));
+
+        boolean instance = false;
+        for (Method method : list) {
+            Annotation converter = method.isBridge() || method.isSynthetic() ? null : findConverterAnnotation(method);
+            if (converter == null) {
+                continue;
+            }
+            if (!Modifier.isPublic(method.getModifiers())) {
+                return false;
+            }
+            instance |= !Modifier.isStatic(method.getModifiers());
+
+            Class<?>[] types = method.getParameterTypes();
+            if (asBoolean(converter, "fallback")) {
+                if (types.length < 3 || types.length > 4 || types[0] != Class.class
+                        || types.length == 4 && !EXCHANGE.equals(types[1].getName())
+                        || !TYPE_CONVERTER_REGISTRY.equals(types[types.length - 1].getName())
+                        || types[types.length - 2].getCanonicalName() == null) {
+                    return false;
+                }
+                fallbacks.add(new FallbackMethod(
+                        method, asBoolean(converter, "allowNull"), asBoolean(converter, "fallbackCanPromote")));
+            } else {
+                if (types.length < 1 || types.length > 2 || method.getReturnType() == void.class
+                        || types.length == 2 && !EXCHANGE.equals(types[1].getName())
+                                && !CAMEL_CONTEXT.equals(types[1].getName())
+                        || types[0].getCanonicalName() == null || method.getReturnType().getCanonicalName() == null) {
+                    return false;
+                }
+                methods.add(new ConverterMethod(
+                        method, wrapper(types[0]), wrapper(method.getReturnType()), asBoolean(converter, "allowNull")));
+            }
+        }
+        if (instance) {
+            try {
+                clazz.getConstructor();
+            } catch (NoSuchMethodException | LinkageError e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generates the source code of the type converter dispatcher
+     */
+    String generate(String fqn) {
+        int pos = fqn.lastIndexOf('.');
+        String pn = fqn.substring(0, pos);
+        String cn = fqn.substring(pos + 1);
+        Map<Class<?>, String> getters = new LinkedHashMap<>();
+
+        StringBuilder sb = new StringBuilder(64 * 1024);
+        sb.append("/* ").append(GENERATED_MSG).append(" */").append(NL);
+        sb.append("package ").append(pn).append(";").append(NL);
+        sb.append(NL);
+        sb.append("import java.util.Collection;").append(NL);
+        sb.append("import java.util.List;").append(NL);
+        sb.append(NL);
+        sb.append("import javax.annotation.processing.Generated;").append(NL);
+        sb.append(NL);
+        sb.append("import org.apache.camel.CamelContext;").append(NL);
+        sb.append("import org.apache.camel.CamelContextAware;").append(NL);
+        sb.append("import org.apache.camel.DeferredContextBinding;").append(NL);
+        sb.append("import org.apache.camel.Exchange;").append(NL);
+        sb.append("import org.apache.camel.TypeConversionException;").append(NL);
+        sb.append("import org.apache.camel.TypeConverter;").append(NL);
+        sb.append("import org.apache.camel.TypeConverterLoaderException;").append(NL);
+        sb.append("import org.apache.camel.spi.TypeConverterDispatcher;").append(NL);
+        sb.append("import org.apache.camel.spi.TypeConverterRegistry;").append(NL);
+        sb.append("import org.apache.camel.support.SimpleTypeConverter;").append(NL);
+        sb.append(NL);
+        sb.append("/**").append(NL);
+        sb.append(" * ").append(GENERATED_MSG).append(NL);
+        sb.append(" */").append(NL);
+        sb.append("@Generated(\"org.apache.camel.maven.GenerateTypeConverterDispatcherMojo\")").append(NL);
+        sb.append("@SuppressWarnings(\"unchecked\")").append(NL);
+        sb.append("@DeferredContextBinding").append(NL);
+        sb.append("public final class ").append(cn).append(" implements TypeConverterDispatcher, CamelContextAware {")
+                .append(NL);
+        sb.append(NL);
+        sb.append("    private CamelContext camelContext;").append(NL);
+        sb.append(NL);
+        sb.append("    public ").append(cn).append("() {").append(NL);
+        sb.append("    }").append(NL);
+        sb.append(NL);
+        sb.append("    @Override").append(NL);
+        sb.append("    public void setCamelContext(CamelContext camelContext) {").append(NL);
+        sb.append("        this.camelContext = camelContext;").append(NL);
+        sb.append("    }").append(NL);
+        sb.append(NL);
+        sb.append("    @Override").append(NL);
+        sb.append("    public CamelContext getCamelContext() {").append(NL);
+        sb.append("        return camelContext;").append(NL);
+        sb.append("    }").append(NL);
+        sb.append(NL);
+        sb.append("    @Override").append(NL);
+        sb.append("    public int size() {").append(NL);
+        sb.append("        return ").append(size).append(";").append(NL);
+        sb.append("    }").append(NL);
+        sb.append(NL);
+        sb.append("    @Override").append(NL);
+        sb.append("    public Collection<String> getTypeConverterLoaders() {").append(NL);
+        sb.append("        return List.of(");
+        for (int i = 0; i < typeConverterLoaders.size(); i++) {
+            sb.append(i == 0 ? "" : ",").append(NL);
+            sb.append("                \"").append(typeConverterLoaders.get(i)).append("\"");
+        }
+        sb.append(");").append(NL);
+        sb.append("    }").append(NL);
+        sb.append(NL);
+        sb.append("    @Override").append(NL);
+        sb.append("    public void load(TypeConverterRegistry registry) throws TypeConverterLoaderException {").append(NL);
+        sb.append("        registry.addBulkTypeConverters(this);").append(NL);
+        for (FallbackMethod fallback : fallbackConverters) {
+            sb.append("        addFallbackTypeConverter(registry, ").append(fallback.allowNull).append(", ")
+                    .append(fallback.canPromote).append(",").append(NL);
+            sb.append("                (type, exchange, value) -> ").append(toJavaFallback(fallback, getters))
+                    .append(");").append(NL);
+        }
+        sb.append("    }").append(NL);
+        sb.append(NL);
+        sb.append("    @Override").append(NL);
+        sb.append("    public <T> T convertTo(Class<?> from, Class<T> to, Exchange exchange, Object value) ")
+                .append("throws TypeConversionException {").append(NL);
+        sb.append("        try {").append(NL);
+        sb.append("            Object obj = doConvertTo(to, exchange, value);").append(NL);
+        sb.append("            return (T) obj;").append(NL);
+        sb.append("        } catch (TypeConversionException e) {").append(NL);
+        sb.append("            throw e;").append(NL);
+        sb.append("        } catch (Exception e) {").append(NL);
+        sb.append("            throw new TypeConversionException(value, to, e);").append(NL);
+        sb.append("        }").append(NL);
+        sb.append("    }").append(NL);
+        sb.append(NL);
+
+        // switch on the name of the type to convert to, and then call the type converters for that type
+        sb.append("    private Object doConvertTo(Class<?> to, Exchange exchange, Object value) throws Exception {")
+                .append(NL);
+        sb.append("        switch (to.getName()) {").append(NL);
+        int i = 0;
+        for (Class<?> to : converters.keySet()) {
+            appendCaseLabels(sb, to);
+            sb.append("                return ").append(toCondition(to)).append(" ? convertTo").append(i++)
+                    .append("(exchange, value) : null;").append(NL);
+        }
+        sb.append("            default:").append(NL);
+        sb.append("                return null;").append(NL);
+        sb.append("        }").append(NL);
+        sb.append("    }").append(NL);
+        sb.append(NL);
+
+        sb.append("    @Override").append(NL);
+        sb.append("    public TypeConverter lookup(Class<?> to, Class<?> from) {").append(NL);
+        sb.append("        switch (to.getName()) {").append(NL);
+        for (Map.Entry<Class<?>, List<ConverterMethod>> entry : converters.entrySet()) {
+            appendCaseLabels(sb, entry.getKey());
+            sb.append("                if (").append(toCondition(entry.getKey())).append(") {").append(NL);
+            for (ConverterMethod method : entry.getValue()) {
+                sb.append("                    if (from == ").append(method.from.getCanonicalName()).append(".class");
+                Class<?> primitive = primitive(method.from);
+                if (primitive != null) {
+                    sb.append(" || from == ").append(primitive.getName()).append(".class");
+                }
+                sb.append(") {").append(NL);
+                sb.append("                        return this;").append(NL);
+                sb.append("                    }").append(NL);
+            }
+            sb.append("                }").append(NL);
+            sb.append("                return null;").append(NL);
+        }
+        sb.append("            default:").append(NL);
+        sb.append("                return null;").append(NL);
+        sb.append("        }").append(NL);
+        sb.append("    }").append(NL);
+
+        i = 0;
+        for (Map.Entry<Class<?>, List<ConverterMethod>> entry : converters.entrySet()) {
+            sb.append(NL);
+            sb.append("    // ").append(entry.getKey().getCanonicalName()).append(NL);
+            sb.append("    private Object convertTo").append(i++)
+                    .append("(Exchange exchange, Object value) throws Exception {").append(NL);
+            for (ConverterMethod method : entry.getValue()) {
+                sb.append("        if (value instanceof ").append(method.from.getCanonicalName()).append(") {")
+                        .append(NL);
+                if (method.allowNull) {
+                    sb.append("            Object answer = ").append(toJava(method, getters)).append(";").append(NL);
+                    sb.append("            return answer != null ? answer : Void.class;").append(NL);
+                } else {
+                    sb.append("            return ").append(toJava(method, getters)).append(";").append(NL);
+                }
+                sb.append("        }").append(NL);
+            }
+            sb.append("        return null;").append(NL);
+            sb.append("    }").append(NL);
+        }
+
+        if (!fallbackConverters.isEmpty()) {
+            sb.append(NL);
+            sb.append("    private static void addFallbackTypeConverter(TypeConverterRegistry registry, boolean allowNull, ")
+                    .append("boolean canPromote, SimpleTypeConverter.ConversionMethod method) {").append(NL);
+            sb.append("        registry.addFallbackTypeConverter(new SimpleTypeConverter(allowNull, method), canPromote);")
+                    .append(NL);
+            sb.append("    }").append(NL);
+        }
+
+        for (Map.Entry<Class<?>, String> entry : getters.entrySet()) {
+            String type = entry.getKey().getCanonicalName();
+            String name = entry.getValue();
+            String field = Character.toLowerCase(name.charAt(0)) + name.substring(1);
+            sb.append(NL);
+            sb.append("    private volatile ").append(type).append(" ").append(field).append(";").append(NL);
+            sb.append("    private ").append(type).append(" get").append(name).append("() {").append(NL);
+            sb.append("        if (").append(field).append(" == null) {").append(NL);
+            sb.append("            ").append(field).append(" = new ").append(type).append("();").append(NL);
+            sb.append("            CamelContextAware.trySetCamelContext(").append(field).append(", camelContext);")
+                    .append(NL);
+            sb.append("        }").append(NL);
+            sb.append("        return ").append(field).append(";").append(NL);
+            sb.append("    }").append(NL);
+        }
+
+        sb.append("}").append(NL);
+        return sb.toString();
+    }
+
+    private static void appendCaseLabels(StringBuilder sb, Class<?> to) {
+        sb.append("            case \"").append(to.getName()).append("\":").append(NL);
+        Class<?> primitive = primitive(to);
+        if (primitive != null) {
+            sb.append("            case \"").append(primitive.getName()).append("\":").append(NL);
+        }
+    }
+
+    private static String toCondition(Class<?> to) {
+        // classes with the same name can be loaded by different classloaders
+        String answer = "to == " + to.getCanonicalName() + ".class";
+        Class<?> primitive = primitive(to);
+        if (primitive != null) {
+            answer += " || to == " + primitive.getName() + ".class";
+        }
+        return answer;
+    }
+
+    private static String toJava(ConverterMethod converter, Map<Class<?>, String> getters) {
+        Method method = converter.method;
+        String pfx = prefix(method, getters);
+
+        // the 2nd parameter is optional and can either be Exchange or CamelContext
+        String param = "";
+        Class<?>[] types = method.getParameterTypes();
+        if (types.length == 2) {
+            param = EXCHANGE.equals(types[1].getName()) ? ", exchange" : ", camelContext";
+        }
+        String type = converter.from.getCanonicalName();
+        String cast = "java.lang.Object".equals(type) ? "" : "(" + type + ") ";
+        return pfx + "(" + cast + "value" + param + ")";
+    }
+
+    private static String toJavaFallback(FallbackMethod converter, Map<Class<?>, String> getters) {
+        Method method = converter.method;
+        String pfx = prefix(method, getters);
+        Class<?>[] types = method.getParameterTypes();
+        String type = types[types.length - 2].getCanonicalName();
+        String cast = "java.lang.Object".equals(type) ? "" : "(" + type + ") ";
+        return pfx + "(type, " + (types.length == 4 ? "exchange, " : "") + cast + "value, registry)";
+    }
+
+    private static String prefix(Method method, Map<Class<?>, String> getters) {
+        Class<?> clazz = method.getDeclaringClass();
+        if (Modifier.isStatic(method.getModifiers())) {
+            return clazz.getCanonicalName() + "." + method.getName();
+        }
+        String name = getters.get(clazz);
+        if (name == null) {
+            // converter classes from different packages may have the same name
+            name = clazz.getSimpleName();
+            int counter = 1;
+            while (getters.containsValue(name)) {
+                name = clazz.getSimpleName() + ++counter;
+            }
+            getters.put(clazz, name);
+        }
+        return "get" + name + "()." + method.getName();
+    }
+
+    /**
+     * Reads the names of the classes referenced from the constant pool of the given class
+     */
+    private Set<String> readReferencedClasses(String name) {
+        Set<String> answer = new LinkedHashSet<>();
+        try (InputStream is = classLoader.getResourceAsStream(name.replace('.', '/') + ".class")) {
+            if (is == null) {
+                return null;
+            }
+            DataInputStream in = new DataInputStream(is);
+            in.readInt(); // magic
+            in.readUnsignedShort(); // minor version
+            in.readUnsignedShort(); // major version
+            int count = in.readUnsignedShort();
+            Map<Integer, String> utf8 = new HashMap<>();
+            List<Integer> classes = new ArrayList<>();
+            for (int i = 1; i < count; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case 1: // utf8
+                        utf8.put(i, in.readUTF());
+                        break;
+                    case 7: // class
+                        classes.add(in.readUnsignedShort());
+                        break;
+                    case 8, 16, 19, 20: // string, method type, module, package
+                        in.skipBytes(2);
+                        break;
+                    case 15: // method handle
+                        in.skipBytes(3);
+                        break;
+                    case 3, 4, 9, 10, 11, 12, 17, 18: // int, float, refs, name and type, dynamic
+                        in.skipBytes(4);
+                        break;
+                    case 5, 6: // long and double takes two entries
+                        in.skipBytes(8);
+                        i++;
+                        break;
+                    default:
+                        log.warn("Cannot read class: " + name + " due to unknown constant pool tag: " + tag);
+                        return null;
+                }
+            }
+            for (Integer index : classes) {
+                String n = utf8.get(index);
+                if (n != null && !n.startsWith("[") && !n.equals(name.replace('.', '/'))) {
+                    answer.add(n.replace('/', '.'));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Cannot read class: " + name + " due to " + e.getMessage());
+            return null;
+        }
+        return answer;
+    }
+
+    private Integer bulkSize(Class<?> loader) {
+        try {
+            Object bulk = loader.getConstructor().newInstance();
+            return (Integer) loader.getMethod("size").invoke(bulk);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private Class<?> loadClass(String name) {
+        try {
+            return classLoader.loadClass(name);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static boolean isAssignableTo(Class<?> clazz, String name) {
+        if (clazz == null) {
+            return false;
+        }
+        if (clazz.getName().equals(name)) {
+            return true;
+        }
+        for (Class<?> type : clazz.getInterfaces()) {
+            if (isAssignableTo(type, name)) {
+                return true;
+            }
+        }
+        return isAssignableTo(clazz.getSuperclass(), name);
+    }
+
+    private static Annotation findConverterAnnotation(AnnotatedElement element) {
+        try {
+            for (Annotation annotation : element.getDeclaredAnnotations()) {
+                if (CONVERTER.equals(annotation.annotationType().getName())) {
+                    return annotation;
+                }
+            }
+        } catch (LinkageError e) {
+            // ignore
+        }
+        return null;
+    }
+
+    private static boolean asBoolean(Annotation annotation, String name) {
+        Object value = attribute(annotation, name);
+        return value instanceof Boolean b && b;
+    }
+
+    private static int asInt(Annotation annotation, String name) {
+        Object value = attribute(annotation, name);
+        return value instanceof Integer i ? i : 0;
+    }
+
+    private static Object attribute(Annotation annotation, String name) {
+        try {
+            return annotation.annotationType().getMethod(name).invoke(annotation);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static Class<?> wrapper(Class<?> type) {
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == char.class) {
+            return Character.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        }
+        return type;
+    }
+
+    private static Class<?> primitive(Class<?> type) {
+        if (type == Integer.class) {
+            return int.class;
+        } else if (type == Long.class) {
+            return long.class;
+        } else if (type == Short.class) {
+            return short.class;
+        } else if (type == Character.class) {
+            return char.class;
+        } else if (type == Boolean.class) {
+            return boolean.class;
+        } else if (type == Float.class) {
+            return float.class;
+        } else if (type == Double.class) {
+            return double.class;
+        } else if (type == Byte.class) {
+            return byte.class;
+        }
+        return null;
+    }
+
+    private static final class ConverterMethod {
+        private final Method method;
+        private final Class<?> from;
+        private final Class<?> to;
+        private final boolean allowNull;
+
+        private ConverterMethod(Method method, Class<?> from, Class<?> to, boolean allowNull) {
+            this.method = method;
+            this.from = from;
+            this.to = to;
+            this.allowNull = allowNull;
+        }
+    }
+
+    private static final class FallbackMethod {
+        private final Method method;
+        private final boolean allowNull;
+        private final boolean canPromote;
+
+        private FallbackMethod(Method method, boolean allowNull, boolean canPromote) {
+            this.method = method;
+            this.allowNull = allowNull;
+            this.canPromote = canPromote;
+        }
+    }
+}
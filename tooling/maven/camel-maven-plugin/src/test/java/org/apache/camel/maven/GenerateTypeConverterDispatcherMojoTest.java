@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.file.GenericFileConverter;
+import org.apache.camel.converter.ObjectConverter;
+import org.apache.camel.support.SimpleTypeConverter;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GenerateTypeConverterDispatcherMojoTest {
+
+    private static final String CAMEL_BASE_LOADER = "org.apache.camel.converter.CamelBaseBulkConverterLoader";
+    private static final String CAMEL_FILE_LOADER = "org.apache.camel.component.file.GenericFileConverterLoader";
+
+    @Test
+    public void testRuntimeDependencyNotIncluded() throws Exception {
+        List<Artifact> artifacts = new ArrayList<>();
+        artifacts.add(artifact("camel-api", Artifact.SCOPE_COMPILE, CamelContext.class));
+        artifacts.add(artifact("camel-util", Artifact.SCOPE_COMPILE, ObjectHelper.class));
+        artifacts.add(artifact("camel-support", Artifact.SCOPE_PROVIDED, SimpleTypeConverter.class));
+        artifacts.add(artifact("camel-base", Artifact.SCOPE_COMPILE, ObjectConverter.class));
+        // the type converters of a runtime dependency cannot be called from the compiled dispatcher
+        artifacts.add(artifact("camel-file", Artifact.SCOPE_RUNTIME, GenericFileConverter.class));
+
+        List<File> classpath = GenerateTypeConverterDispatcherMojo.getCompileClasspath(artifacts);
+        assertEquals(4, classpath.size());
+        assertFalse(classpath.contains(location(GenericFileConverter.class)));
+
+        List<URL> urls = new ArrayList<>();
+        for (File file : classpath) {
+            urls.add(file.toURI().toURL());
+        }
+        try (URLClassLoader cl = new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getPlatformClassLoader())) {
+            TypeConverterDispatcherGenerator generator
+                    = new TypeConverterDispatcherGenerator(cl, new SystemStreamLog());
+            Set<String> loaders = generator.findTypeConverterLoaderClasses();
+            for (String loader : loaders) {
+                generator.addTypeConverterLoader(loader);
+            }
+            assertTrue(generator.getTypeConverterLoaders().contains(CAMEL_BASE_LOADER));
+            // left to be loaded at runtime
+            assertFalse(generator.getTypeConverterLoaders().contains(CAMEL_FILE_LOADER));
+            assertFalse(generator.generate("org.apache.camel.maven.generated.MyTypeConverterDispatcher")
+                    .contains(GenericFileConverter.class.getName()));
+        }
+    }
+
+    private static Artifact artifact(String artifactId, String scope, Class<?> clazz) throws Exception {
+        Artifact answer = new DefaultArtifact(
+                "org.apache.camel", artifactId, "1.0", scope, "jar", null, new DefaultArtifactHandler("jar"));
+        answer.setFile(location(clazz));
+        return answer;
+    }
+
+    private static File location(Class<?> clazz) throws Exception {
+        return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toFile();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.component.file.GenericFileConverter;
+import org.apache.camel.converter.ObjectConverter;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.converter.BaseTypeConverterRegistry;
+import org.apache.camel.impl.converter.CoreTypeConverterRegistry;
+import org.apache.camel.spi.TypeConverterDispatcher;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.support.SimpleTypeConverter;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Generates a type converter dispatcher from the type converters of camel-base and camel-file, and compares its
+ * conversions with the type converter registry loading the type converter loaders of these JARs.
+ */
+public class TypeConverterDispatcherGeneratorTest {
+
+    private static final String DISPATCHER = "org.apache.camel.maven.generated.MyTypeConverterDispatcher";
+    private static final String CAMEL_BASE_LOADER = "org.apache.camel.converter.CamelBaseBulkConverterLoader";
+
+    @TempDir
+    Path tempDir;
+
+    private URLClassLoader classLoader;
+    private CamelContext expected;
+    private CamelContext actual;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // the JARs of the type converters and what they need to be compiled
+        List<Path> jars = new ArrayList<>();
+        for (Class<?> clazz : List.of(CamelContext.class, ObjectHelper.class, SimpleTypeConverter.class,
+                ObjectConverter.class, GenericFileConverter.class)) {
+            jars.add(Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()));
+        }
+
+        List<URL> urls = new ArrayList<>();
+        for (Path jar : jars) {
+            urls.add(jar.toUri().toURL());
+        }
+        String source;
+        try (URLClassLoader cl = new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getPlatformClassLoader())) {
+            TypeConverterDispatcherGenerator generator
+                    = new TypeConverterDispatcherGenerator(cl, new SystemStreamLog());
+            assertTrue(generator.isSupported());
+
+            Set<String> loaders = generator.findTypeConverterLoaderClasses();
+            assertTrue(loaders.contains(CAMEL_BASE_LOADER), "Should find the loaders of camel-base: " + loaders);
+            for (String loader : loaders) {
+                generator.addTypeConverterLoader(loader);
+            }
+            assertTrue(generator.getTypeConverterLoaders().contains(CAMEL_BASE_LOADER));
+            assertTrue(generator.size() > 0);
+
+            source = generator.generate(DISPATCHER);
+        }
+
+        // compile the generated source code
+        Path src = tempDir.resolve("src/" + DISPATCHER.replace('.', '/') + ".java");
+        Files.createDirectories(src.getParent());
+        Files.writeString(src, source);
+        Path classes = tempDir.resolve("classes");
+        Files.createDirectories(classes);
+        String classpath = jars.stream().map(Path::toString).collect(Collectors.joining(File.pathSeparator));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler, "Should run on a JDK");
+        int result = compiler.run(null, null, null, "-proc:none", "-classpath", classpath, "-d", classes.toString(),
+                src.toString());
+        assertEquals(0, result, "Should compile the generated type converter dispatcher");
+
+        Path services = classes.resolve(BaseTypeConverterRegistry.META_INF_SERVICES_TYPE_CONVERTER_DISPATCHER);
+        Files.createDirectories(services.getParent());
+        Files.writeString(services, DISPATCHER + "\n", StandardCharsets.UTF_8);
+        classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, getClass().getClassLoader());
+
+        expected = new DefaultCamelContext();
+        expected.start();
+
+        // the class loader must be added before the type converters are loaded
+        actual = new DefaultCamelContext(false);
+        PluginHelper.getPackageScanClassResolver(actual).addClassLoader(classLoader);
+        actual.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (actual != null) {
+            actual.stop();
+        }
+        if (expected != null) {
+            expected.stop();
+        }
+        if (classLoader != null) {
+            classLoader.close();
+        }
+    }
+
+    @Test
+    public void testDispatcherLoaded() {
+        CoreTypeConverterRegistry registry = assertInstanceOf(CoreTypeConverterRegistry.class,
+                actual.getTypeConverterRegistry());
+        TypeConverterDispatcher dispatcher = registry.getTypeConverterDispatcher();
+        assertNotNull(dispatcher);
+        assertEquals(DISPATCHER, dispatcher.getClass().getName());
+
+        // the dispatcher is used instead of the type converters of camel-base
+        assertSame(dispatcher, registry.lookup(Integer.class, String.class));
+        assertEquals(123, dispatcher.convertTo(String.class, Integer.class, null, "123"));
+    }
+
+    @Test
+    public void testConversions() {
+        assertConversion(Integer.class, "123");
+        assertConversion(int.class, "123");
+        assertConversion(Long.class, 123);
+        assertConversion(Boolean.class, "true");
+        assertConversion(Double.class, "1.5");
+        assertConversion(String.class, 'c');
+        assertConversion(String.class, "Hello".getBytes(StandardCharsets.UTF_8));
+        assertConversion(Integer.class, new StringBuilder("42"));
+        assertArrayEquals("Hello".getBytes(StandardCharsets.UTF_8), convert(actual, byte[].class, "Hello"));
+        assertArrayEquals(convert(expected, byte[].class, "Hello"), convert(actual, byte[].class, "Hello"));
+    }
+
+    @Test
+    public void testNullResult() {
+        // the type converters allow null as a result, which is not regarded as a miss
+        assertNull(convert(actual, Byte.class, Double.NaN));
+        assertConversion(Byte.class, Double.NaN);
+        assertConversion(Short.class, Double.NaN);
+        assertConversion(Integer.class, Double.NaN);
+        assertConversion(Byte.class, (byte) 1);
+
+        // no type converter
+        assertNull(convert(actual, TypeConverterDispatcherGeneratorTest.class, "Hello"));
+        assertConversion(TypeConverterDispatcherGeneratorTest.class, "Hello");
+    }
+
+    @Test
+    public void testFallback() {
+        // the fallback type converter of camel-file converts the body of the file
+        GenericFile<Object> file = new GenericFile<>();
+        file.setBody("123");
+        assertEquals(123, convert(actual, Integer.class, file));
+        assertConversion(Integer.class, file);
+        assertConversion(String.class, file);
+    }
+
+    private void assertConversion(Class<?> type, Object value) {
+        assertEquals(convert(expected, type, value), convert(actual, type, value),
+                "Should convert " + value.getClass().getName() + " to " + type.getName() + " the same way");
+    }
+
+    private static <T> T convert(CamelContext context, Class<T> type, Object value) {
+        return context.getTypeConverter().convertTo(type, value);
+    }
+}
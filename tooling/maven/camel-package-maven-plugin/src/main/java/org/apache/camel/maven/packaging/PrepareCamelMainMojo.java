@@ -116,7 +116,7 @@ public class PrepareCamelMainMojo extends AbstractGeneratorMojo {
                 if ("org.apache.camel.LoggingLevel".equals(javaType)) {
                     enums = Arrays.asList("ERROR,WARN,INFO,DEBUG,TRACE,OFF".split(","));
                 } else if ("org.apache.camel.ManagementStatisticsLevel".equals(javaType)) {
-                    enums = Arrays.asList("Extended,Default,RoutesOnly,Off".split(","));
+                    enums = Arrays.asList("Extended,Default,Sampled,RoutesOnly,Off".split(","));
                 } else if ("org.apache.camel.spi.RestBindingMode".equals(javaType)) {
                     enums = Arrays.asList("auto,off,json,xml,json_xml".split(","));
                 } else if ("org.apache.camel.spi.RestHostNameResolver".equals(javaType)) {